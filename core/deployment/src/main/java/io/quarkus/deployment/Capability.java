@@ -63,6 +63,8 @@ public interface Capability {
     String MONGODB_PANACHE = QUARKUS_PREFIX + "mongodb.panache";
     String MONGODB_PANACHE_KOTLIN = MONGODB_PANACHE + ".kotlin";
 
+    String REDIS_CLIENT = QUARKUS_PREFIX + "redis-client";
+
     String ELASTICSEARCH_REST_HIGH_LEVEL_CLIENT = QUARKUS_PREFIX + "elasticsearch-rest-high-level-client";
 
     String FLYWAY = QUARKUS_PREFIX + "flyway";
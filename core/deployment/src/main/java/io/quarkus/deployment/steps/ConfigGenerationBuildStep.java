@@ -61,9 +61,13 @@ import io.quarkus.deployment.logging.LoggingSetupBuildItem;
 import io.quarkus.gizmo.ClassCreator;
 import io.quarkus.gizmo.ClassOutput;
 import io.quarkus.runtime.LaunchMode;
+import io.quarkus.runtime.annotations.ConfigItem;
 import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
 import io.quarkus.runtime.annotations.StaticInitSafe;
+import io.quarkus.runtime.configuration.ApplicationPropertiesConfigSourceLoader;
 import io.quarkus.runtime.configuration.ConfigRecorder;
+import io.quarkus.runtime.configuration.ConfigSnapshot;
 import io.quarkus.runtime.configuration.ConfigUtils;
 import io.quarkus.runtime.configuration.ProfileManager;
 import io.quarkus.runtime.configuration.RuntimeOverrideConfigSource;
@@ -74,6 +78,8 @@ import io.smallrye.config.SmallRyeConfig;
 
 public class ConfigGenerationBuildStep {
 
+    ConfigSnapshotConfig configSnapshot;
+
     @BuildStep
     void deprecatedStaticInitBuildItem(
             List<AdditionalStaticInitConfigSourceProviderBuildItem> additionalStaticInitConfigSourceProviders,
@@ -108,6 +114,31 @@ public class ConfigGenerationBuildStep {
         return new GeneratedResourceBuildItem(ConfigUtils.QUARKUS_RUNTIME_CONFIG_DEFAULTS_PROPERTIES, out.toByteArray());
     }
 
+    /**
+     * Write the snapshot of the class path application.properties and of the run time defaults, which is read at run time
+     * instead of these sources.
+     */
+    @BuildStep(onlyIf = IsNormal.class)
+    void configSnapshot(List<RunTimeConfigurationDefaultBuildItem> runTimeDefaults,
+            BuildProducer<GeneratedResourceBuildItem> generatedResources,
+            BuildProducer<NativeImageResourceBuildItem> nativeImageResources) throws IOException {
+        if (!configSnapshot.enabled) {
+            return;
+        }
+        List<ConfigSource> sources = new ArrayList<>(new ApplicationPropertiesConfigSourceLoader.InClassPath()
+                .getConfigSources(Thread.currentThread().getContextClassLoader()));
+        Map<String, String> defaults = new HashMap<>();
+        for (RunTimeConfigurationDefaultBuildItem runTimeDefault : runTimeDefaults) {
+            defaults.put(runTimeDefault.getKey(), runTimeDefault.getValue());
+        }
+        sources.add(ConfigUtils.runtimeDefaultsConfigSource(defaults));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ConfigSnapshot.write(sources, out);
+        generatedResources.produce(new GeneratedResourceBuildItem(ConfigSnapshot.RESOURCE_NAME, out.toByteArray()));
+        nativeImageResources.produce(new NativeImageResourceBuildItem(ConfigSnapshot.RESOURCE_NAME));
+    }
+
     /**
      * Generate the Config class that instantiates MP Config and holds all the config objects
      */
@@ -268,6 +299,19 @@ public class ConfigGenerationBuildStep {
         }
     }
 
+    @ConfigRoot(name = "config-snapshot", phase = ConfigPhase.BUILD_TIME)
+    static class ConfigSnapshotConfig {
+        /**
+         * Whether the class path {@code application.properties} files and the run time default values should be stored in
+         * a binary snapshot at build time, so that they are not loaded and parsed at startup.
+         * <p>
+         * The system properties, the environment variables and the other config sources are still read at startup. Only
+         * applies to the packaged application, not to the dev and test modes.
+         */
+        @ConfigItem(defaultValue = "false")
+        boolean enabled;
+    }
+
     private String appendProfileToFilename(String path, String activeProfile) {
         String pathWithoutExtension = FilenameUtils.removeExtension(path);
         return String.format("%s-%s.%s", pathWithoutExtension, activeProfile, FilenameUtils.getExtension(path));
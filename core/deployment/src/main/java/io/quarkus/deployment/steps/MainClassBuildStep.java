@@ -98,6 +98,8 @@ public class MainClassBuildStep {
 
     public static final MethodDescriptor PRINT_STEP_TIME_METHOD = ofMethod(StepTiming.class.getName(), "printStepTime",
             void.class, StartupContext.class);
+    public static final MethodDescriptor PRINT_CONFIG_INIT_TIME_METHOD = ofMethod(StepTiming.class.getName(),
+            "printConfigInitTime", void.class);
     public static final MethodDescriptor CONFIGURE_STEP_TIME_ENABLED = ofMethod(StepTiming.class.getName(), "configureEnabled",
             void.class);
     public static final MethodDescriptor CONFIGURE_STEP_TIME_START = ofMethod(StepTiming.class.getName(), "configureStart",
@@ -159,10 +161,12 @@ public class MainClassBuildStep {
                 mv.load(launchMode.isAuxiliaryApplication()));
 
         // ensure that the config class is initialized
+        mv.invokeStaticMethod(CONFIGURE_STEP_TIME_START);
         mv.invokeStaticMethod(RunTimeConfigurationGenerator.C_ENSURE_INITIALIZED);
         if (liveReloadBuildItem.isLiveReload()) {
             mv.invokeStaticMethod(RunTimeConfigurationGenerator.REINIT);
         }
+        mv.invokeStaticMethod(PRINT_CONFIG_INIT_TIME_METHOD);
         // Init the LOG instance
         mv.writeStaticField(logField.getFieldDescriptor(), mv.invokeStaticMethod(
                 ofMethod(Logger.class, "getLogger", Logger.class, String.class), mv.load("io.quarkus.application")));
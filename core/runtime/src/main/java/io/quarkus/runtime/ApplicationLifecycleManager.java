@@ -8,7 +8,6 @@ import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
-import java.util.logging.ConsoleHandler;
 import java.util.logging.Handler;
 
 import javax.enterprise.context.spi.CreationalContext;
@@ -21,7 +20,9 @@ import org.eclipse.microprofile.config.Config;
 import org.eclipse.microprofile.config.spi.ConfigProviderResolver;
 import org.graalvm.nativeimage.ImageInfo;
 import org.jboss.logging.Logger;
+import org.jboss.logmanager.ExtHandler;
 import org.jboss.logmanager.handlers.AsyncHandler;
+import org.jboss.logmanager.handlers.ConsoleHandler;
 import org.wildfly.common.lock.Locks;
 
 import io.quarkus.bootstrap.logging.InitialConfigurator;
@@ -239,34 +240,32 @@ public class ApplicationLifecycleManager {
 
     // this is needed only when async console logging is enabled
     private static void ensureConsoleLogsDrained() {
-        AsyncHandler asyncHandler = null;
         for (Handler handler : InitialConfigurator.DELAYED_HANDLER.getHandlers()) {
+            if (!(handler instanceof ExtHandler) || !hasNestedConsoleHandler((ExtHandler) handler)) {
+                continue;
+            }
             if (handler instanceof AsyncHandler) {
-                asyncHandler = (AsyncHandler) handler;
-                Handler[] nestedHandlers = asyncHandler.getHandlers();
-                boolean foundNestedConsoleHandler = false;
-                for (Handler nestedHandler : nestedHandlers) {
-                    if (nestedHandler instanceof ConsoleHandler) {
-                        foundNestedConsoleHandler = true;
-                        break;
-                    }
-                }
-                if (!foundNestedConsoleHandler) {
-                    asyncHandler = null;
+                try {
+                    // all we can do is wait because the thread that takes records off the queue is a daemon thread and there is no way to interact with its lifecycle
+                    Thread.sleep(200);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
                 }
+            } else {
+                // the ring buffer async handler waits until its queue is drained
+                handler.flush();
             }
-            if (asyncHandler != null) {
-                break;
-            }
+            return;
         }
-        if (asyncHandler != null) {
-            try {
-                // all we can do is wait because the thread that takes records off the queue is a daemon thread and there is no way to interact with its lifecycle
-                Thread.sleep(200);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
+    }
+
+    private static boolean hasNestedConsoleHandler(ExtHandler handler) {
+        for (Handler nestedHandler : handler.getHandlers()) {
+            if (nestedHandler instanceof ConsoleHandler) {
+                return true;
             }
         }
+        return false;
     }
 
     /**
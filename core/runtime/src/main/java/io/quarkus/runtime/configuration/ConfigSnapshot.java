@@ -0,0 +1,203 @@
+package io.quarkus.runtime.configuration;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.eclipse.microprofile.config.spi.ConfigSource;
+
+/**
+ * A binary snapshot of the config sources that cannot change once the application is built: the
+ * {@code application.properties} files of the class path and the run time default values.
+ * <p>
+ * The snapshot is written at build time, and read at run time instead of loading and parsing the properties files. Each
+ * source keeps its name and ordinal, and its properties are stored as a table sorted by name, so the snapshot does not
+ * change how the values are resolved. The dynamic sources (system properties, environment variables, {@code .env} and
+ * {@code config/application.properties} files, ...) are still loaded at run time and overlay the snapshot.
+ */
+public final class ConfigSnapshot {
+
+    public static final String RESOURCE_NAME = "quarkus-config-snapshot.bin";
+
+    private static final int MAGIC = 0x51434653;
+    private static final int VERSION = 1;
+
+    private static volatile Cached cached;
+
+    private ConfigSnapshot() {
+    }
+
+    /**
+     * Write the snapshot of the given sources.
+     *
+     * @param sources the sources to write
+     * @param out the stream to write to
+     * @throws IOException if the snapshot cannot be written
+     */
+    public static void write(List<ConfigSource> sources, OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeInt(VERSION);
+        data.writeInt(sources.size());
+        for (ConfigSource source : sources) {
+            writeString(data, source.getName());
+            data.writeInt(source.getOrdinal());
+            Map<String, String> properties = new TreeMap<>(source.getProperties());
+            data.writeInt(properties.size());
+            for (Map.Entry<String, String> entry : properties.entrySet()) {
+                writeString(data, entry.getKey());
+                writeString(data, entry.getValue());
+            }
+        }
+        data.flush();
+    }
+
+    /**
+     * Read the snapshot visible from the given class loader. The sources are read once per class loader.
+     *
+     * @param classLoader the class loader
+     * @return the sources of the snapshot, or {@code null} if the application was built without a snapshot
+     */
+    public static List<ConfigSource> read(ClassLoader classLoader) {
+        Cached cached = ConfigSnapshot.cached;
+        if (cached != null && cached.classLoader == classLoader) {
+            return cached.sources;
+        }
+        List<ConfigSource> sources;
+        try (InputStream in = classLoader.getResourceAsStream(RESOURCE_NAME)) {
+            if (in == null) {
+                sources = null;
+            } else {
+                sources = read(in);
+            }
+        } catch (IOException e) {
+            throw new ConfigurationException("Unable to read the config snapshot " + RESOURCE_NAME, e);
+        }
+        ConfigSnapshot.cached = new Cached(classLoader, sources);
+        return sources;
+    }
+
+    static List<ConfigSource> read(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(new BufferedInputStream(in));
+        if (data.readInt() != MAGIC || data.readInt() != VERSION) {
+            throw new IOException("Unsupported config snapshot format");
+        }
+        int sourceCount = data.readInt();
+        List<ConfigSource> sources = new ArrayList<>(sourceCount);
+        for (int i = 0; i < sourceCount; i++) {
+            String name = readString(data);
+            int ordinal = data.readInt();
+            int size = data.readInt();
+            String[] names = new String[size];
+            String[] values = new String[size];
+            for (int j = 0; j < size; j++) {
+                names[j] = readString(data);
+                values[j] = readString(data);
+            }
+            sources.add(new SnapshotConfigSource(name, ordinal, names, values));
+        }
+        return Collections.unmodifiableList(sources);
+    }
+
+    private static void writeString(DataOutputStream data, String value) throws IOException {
+        // writeUTF() is limited to 64 KB, which is not enough for some values
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        data.writeInt(bytes.length);
+        data.write(bytes);
+    }
+
+    private static String readString(DataInputStream data) throws IOException {
+        byte[] bytes = new byte[data.readInt()];
+        data.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static final class Cached {
+        final ClassLoader classLoader;
+        final List<ConfigSource> sources;
+
+        Cached(ClassLoader classLoader, List<ConfigSource> sources) {
+            this.classLoader = classLoader;
+            this.sources = sources;
+        }
+    }
+
+    /**
+     * A source backed by a table of properties sorted by name, the lookups are binary searches.
+     */
+    static final class SnapshotConfigSource implements ConfigSource {
+
+        private final String name;
+        private final int ordinal;
+        private final String[] names;
+        private final String[] values;
+        private final Set<String> propertyNames;
+
+        SnapshotConfigSource(String name, int ordinal, String[] names, String[] values) {
+            this.name = name;
+            this.ordinal = ordinal;
+            this.names = names;
+            this.values = values;
+            this.propertyNames = new AbstractSet<String>() {
+                @Override
+                public boolean contains(Object o) {
+                    return o instanceof String && Arrays.binarySearch(names, o) >= 0;
+                }
+
+                @Override
+                public Iterator<String> iterator() {
+                    return Arrays.asList(names).iterator();
+                }
+
+                @Override
+                public int size() {
+                    return names.length;
+                }
+            };
+        }
+
+        @Override
+        public Map<String, String> getProperties() {
+            Map<String, String> properties = new HashMap<>();
+            for (int i = 0; i < names.length; i++) {
+                properties.put(names[i], values[i]);
+            }
+            return properties;
+        }
+
+        @Override
+        public Set<String> getPropertyNames() {
+            return propertyNames;
+        }
+
+        @Override
+        public String getValue(String propertyName) {
+            int index = Arrays.binarySearch(names, propertyName);
+            return index >= 0 ? values[index] : null;
+        }
+
+        @Override
+        public int getOrdinal() {
+            return ordinal;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+    }
+}
@@ -99,8 +99,15 @@ public final class ConfigUtils {
 
         ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
         builder.forClassLoader(classLoader);
+        // the snapshot replaces the class path application.properties and the run time defaults, it is only written for
+        // the normal launch mode
+        List<ConfigSource> snapshot = (runTime || bootstrap) && launchMode == LaunchMode.NORMAL
+                ? ConfigSnapshot.read(classLoader)
+                : null;
         builder.withSources(new ApplicationPropertiesConfigSourceLoader.InFileSystem());
-        builder.withSources(new ApplicationPropertiesConfigSourceLoader.InClassPath());
+        if (snapshot == null) {
+            builder.withSources(new ApplicationPropertiesConfigSourceLoader.InClassPath());
+        }
         if (launchMode.isDevOrTest() && (runTime || bootstrap)) {
             builder.withSources(new RuntimeOverrideConfigSource(classLoader));
         }
@@ -119,9 +126,10 @@ public final class ConfigUtils {
         if (addDiscovered) {
             builder.addDiscoveredSources();
         }
-        if (runTime || bootstrap) {
-            Map<String, String> runtimeDefaults = loadRuntimeDefaultValues();
-            builder.withSources(new PropertiesConfigSource(runtimeDefaults, "Runtime Defaults", Integer.MIN_VALUE + 50));
+        if (snapshot != null) {
+            builder.withSources(snapshot);
+        } else if (runTime || bootstrap) {
+            builder.withSources(runtimeDefaultsConfigSource(loadRuntimeDefaultValues()));
         }
         return builder;
     }
@@ -211,6 +219,10 @@ public final class ConfigUtils {
         builder.withSources(provider.getConfigSourceFactory(Thread.currentThread().getContextClassLoader()));
     }
 
+    public static ConfigSource runtimeDefaultsConfigSource(Map<String, String> runtimeDefaults) {
+        return new PropertiesConfigSource(runtimeDefaults, "Runtime Defaults", Integer.MIN_VALUE + 50);
+    }
+
     public static Map<String, String> loadRuntimeDefaultValues() {
         Map<String, String> values = new HashMap<>();
         try (InputStream in = Thread.currentThread().getContextClassLoader()
@@ -24,4 +24,14 @@ public class AsyncConfig {
      */
     @ConfigItem(defaultValue = "block")
     OverflowAction overflow;
+
+    /**
+     * Whether the records should be queued in a lock-free ring buffer instead of the blocking queue of the JBoss LogManager
+     * async handler.
+     * <p>
+     * The queue length is rounded up to a power of two. For the file handler without rotation, the records are also
+     * written to the file in batches.
+     */
+    @ConfigItem(defaultValue = "false")
+    boolean ringBuffer;
 }
@@ -0,0 +1,136 @@
+package io.quarkus.runtime.logging;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.StandardOpenOption;
+import java.util.logging.ErrorManager;
+import java.util.logging.Formatter;
+
+import org.jboss.logmanager.ExtHandler;
+import org.jboss.logmanager.ExtLogRecord;
+
+/**
+ * A file handler that formats records in batches and appends them to the file with a gathering write from reusable
+ * direct buffers, which avoids the per record flush of the JBoss LogManager {@code FileHandler}.
+ * <p>
+ * It does not support rotation and is only used behind a {@link RingBufferAsyncHandler}, which publishes the records
+ * from a single thread.
+ */
+class BatchingFileHandler extends ExtHandler {
+
+    private static final int BUFFER_SIZE = 16 * 1024;
+    private static final int BUFFER_COUNT = 4;
+
+    private final FileChannel channel;
+    private final ByteBuffer[] buffers = new ByteBuffer[BUFFER_COUNT];
+    private final CharsetEncoder encoder;
+
+    BatchingFileHandler(File file, Charset charset) throws IOException {
+        File parent = file.getAbsoluteFile().getParentFile();
+        if (parent != null) {
+            parent.mkdirs();
+        }
+        this.channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+        for (int i = 0; i < BUFFER_COUNT; i++) {
+            buffers[i] = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        }
+        this.encoder = charset.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    }
+
+    @Override
+    protected void doPublish(ExtLogRecord record) {
+        publishBatch(new ExtLogRecord[] { record }, 1);
+    }
+
+    /**
+     * Formats and writes the loggable records among the first {@code count} records of {@code records}.
+     */
+    synchronized void publishBatch(ExtLogRecord[] records, int count) {
+        Formatter formatter = getFormatter();
+        int current = 0;
+        try {
+            for (int i = 0; i < count; i++) {
+                ExtLogRecord record = records[i];
+                if (!isLoggable(record)) {
+                    continue;
+                }
+                String formatted;
+                try {
+                    formatted = formatter.format(record);
+                } catch (Exception e) {
+                    reportError("Failed to format log record", e, ErrorManager.FORMAT_FAILURE);
+                    continue;
+                }
+                CharBuffer chars = CharBuffer.wrap(formatted);
+                encoder.reset();
+                CoderResult result = encoder.encode(chars, buffers[current], true);
+                while (result.isOverflow()) {
+                    current = nextBuffer(current);
+                    result = encoder.encode(chars, buffers[current], true);
+                }
+                result = encoder.flush(buffers[current]);
+                while (result.isOverflow()) {
+                    current = nextBuffer(current);
+                    result = encoder.flush(buffers[current]);
+                }
+            }
+            write(buffers[current].position() > 0 ? current + 1 : current);
+        } catch (IOException e) {
+            for (ByteBuffer buffer : buffers) {
+                buffer.clear();
+            }
+            reportError("Failed to write log records", e, ErrorManager.WRITE_FAILURE);
+        }
+    }
+
+    /**
+     * Called when the current buffer is full: the next buffer is used, or all of them are written when they are full.
+     */
+    private int nextBuffer(int current) throws IOException {
+        if (current + 1 < BUFFER_COUNT) {
+            return current + 1;
+        }
+        write(BUFFER_COUNT);
+        return 0;
+    }
+
+    private void write(int count) throws IOException {
+        if (count == 0) {
+            return;
+        }
+        for (int i = 0; i < count; i++) {
+            buffers[i].flip();
+        }
+        while (buffers[count - 1].hasRemaining()) {
+            channel.write(buffers, 0, count);
+        }
+        for (int i = 0; i < count; i++) {
+            buffers[i].clear();
+        }
+    }
+
+    @Override
+    public void flush() {
+        // Every batch is written to the channel
+    }
+
+    @Override
+    public synchronized void close() throws SecurityException {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            reportError("Failed to close log file", e, ErrorManager.CLOSE_FAILURE);
+        }
+        super.close();
+    }
+}
@@ -5,6 +5,7 @@ import static org.wildfly.common.os.Process.getProcessName;
 
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -25,6 +26,7 @@ import java.util.logging.LogRecord;
 
 import org.graalvm.nativeimage.ImageInfo;
 import org.jboss.logmanager.EmbeddedConfigurator;
+import org.jboss.logmanager.ExtHandler;
 import org.jboss.logmanager.LogContext;
 import org.jboss.logmanager.Logger;
 import org.jboss.logmanager.errormanager.OnlyOnceErrorManager;
@@ -459,8 +461,22 @@ public class LoggingSetupRecorder {
 
     private static Handler configureFileHandler(final FileConfig config, final ErrorManager errorManager,
             final LogCleanupFilter cleanupFilter) {
-        FileHandler handler = new FileHandler();
         FileConfig.RotationConfig rotationConfig = config.rotation;
+        if (config.async.enable && config.async.ringBuffer
+                && rotationConfig.maxFileSize.isEmpty() && rotationConfig.fileSuffix.isEmpty()) {
+            try {
+                BatchingFileHandler batchingHandler = new BatchingFileHandler(config.path, Charset.defaultCharset());
+                batchingHandler.setFormatter(new PatternFormatter(config.format));
+                batchingHandler.setErrorManager(errorManager);
+                batchingHandler.setLevel(config.level);
+                batchingHandler.setFilter(cleanupFilter);
+                return createAsyncHandler(config.async, config.level, batchingHandler);
+            } catch (IOException e) {
+                errorManager.error("Failed to open log file, falling back to the default file handler", e,
+                        ErrorManager.OPEN_FAILURE);
+            }
+        }
+        FileHandler handler = new FileHandler();
         if ((rotationConfig.maxFileSize.isPresent() || rotationConfig.rotateOnBoot)
                 && rotationConfig.fileSuffix.isPresent()) {
             PeriodicSizeRotatingFileHandler periodicSizeRotatingFileHandler = new PeriodicSizeRotatingFileHandler();
@@ -526,9 +542,15 @@ public class LoggingSetupRecorder {
         }
     }
 
-    private static AsyncHandler createAsyncHandler(AsyncConfig asyncConfig, Level level, Handler handler) {
-        final AsyncHandler asyncHandler = new AsyncHandler(asyncConfig.queueLength);
-        asyncHandler.setOverflowAction(asyncConfig.overflow);
+    private static ExtHandler createAsyncHandler(AsyncConfig asyncConfig, Level level, Handler handler) {
+        final ExtHandler asyncHandler;
+        if (asyncConfig.ringBuffer) {
+            asyncHandler = new RingBufferAsyncHandler(asyncConfig.queueLength, asyncConfig.overflow);
+        } else {
+            AsyncHandler jbossAsyncHandler = new AsyncHandler(asyncConfig.queueLength);
+            jbossAsyncHandler.setOverflowAction(asyncConfig.overflow);
+            asyncHandler = jbossAsyncHandler;
+        }
         asyncHandler.addHandler(handler);
         asyncHandler.setLevel(level);
         return asyncHandler;
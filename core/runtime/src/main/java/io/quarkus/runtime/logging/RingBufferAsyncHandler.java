@@ -0,0 +1,200 @@
+package io.quarkus.runtime.logging;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+
+import org.jboss.logmanager.ExtHandler;
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.handlers.AsyncHandler.OverflowAction;
+
+/**
+ * An asynchronous handler that queues the records in a lock-free {@link MpscRingBuffer}, so the logging threads never
+ * contend on a lock. A single thread drains the queue in batches and publishes them to the nested handlers; a
+ * {@link BatchingFileHandler} receives a whole batch at once.
+ * <p>
+ * When the queue is full, the record is either dropped or the logging thread waits for a free slot, depending on the
+ * {@link OverflowAction}. The queue depth and the number of dropped records of all the handlers are exposed by
+ * {@link #getTotalQueueDepth()} and {@link #getTotalDroppedCount()}.
+ */
+class RingBufferAsyncHandler extends ExtHandler {
+
+    static final int BATCH_SIZE = 256;
+
+    private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long CLOSE_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(10);
+
+    private static final Set<RingBufferAsyncHandler> HANDLERS = ConcurrentHashMap.newKeySet();
+    private static final LongAdder TOTAL_DROPPED = new LongAdder();
+
+    private final MpscRingBuffer<ExtLogRecord> queue;
+    private final OverflowAction overflowAction;
+    private final LongAdder dropped = new LongAdder();
+    private final AtomicBoolean started = new AtomicBoolean();
+    private volatile Thread consumer;
+    private volatile boolean consumerParked;
+    // Set by the consumer until it finds the queue empty, so the records it is publishing are not considered drained
+    private volatile boolean consumerBusy;
+    private volatile boolean closed;
+
+    RingBufferAsyncHandler(int queueLength, OverflowAction overflowAction) {
+        this.queue = new MpscRingBuffer<>(queueLength);
+        this.overflowAction = overflowAction;
+        HANDLERS.add(this);
+    }
+
+    static long getTotalQueueDepth() {
+        long depth = 0;
+        for (RingBufferAsyncHandler handler : HANDLERS) {
+            depth += handler.getQueueDepth();
+        }
+        return depth;
+    }
+
+    static long getTotalDroppedCount() {
+        return TOTAL_DROPPED.sum();
+    }
+
+    int getQueueDepth() {
+        return queue.size();
+    }
+
+    long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    @Override
+    protected void doPublish(ExtLogRecord record) {
+        if (closed) {
+            return;
+        }
+        Thread consumer = this.consumer;
+        if (Thread.currentThread() == consumer) {
+            // A nested handler is logging, waiting for a free slot would never end
+            publishToNestedHandlers(record);
+            return;
+        }
+        // The record is handled by another thread
+        if (isCallerCalculationRequired()) {
+            record.copyAll();
+        } else {
+            record.disableCallerCalculation();
+            record.copyMdc();
+        }
+        if (consumer == null) {
+            consumer = startConsumer();
+        }
+        while (!queue.offer(record)) {
+            if (overflowAction == OverflowAction.DISCARD) {
+                dropped.increment();
+                TOTAL_DROPPED.increment();
+                return;
+            }
+            LockSupport.unpark(consumer);
+            LockSupport.parkNanos(this, TimeUnit.MICROSECONDS.toNanos(50));
+            if (closed) {
+                return;
+            }
+        }
+        if (consumerParked) {
+            LockSupport.unpark(consumer);
+        }
+    }
+
+    /**
+     * The thread is created lazily so that the handler can be created during the static init of a native image.
+     */
+    private Thread startConsumer() {
+        if (started.compareAndSet(false, true)) {
+            Thread thread = new Thread(this::drain, "Quarkus async log handler");
+            thread.setDaemon(true);
+            consumer = thread;
+            thread.start();
+            return thread;
+        }
+        Thread thread;
+        while ((thread = consumer) == null) {
+            Thread.onSpinWait();
+        }
+        return thread;
+    }
+
+    private void drain() {
+        ExtLogRecord[] batch = new ExtLogRecord[BATCH_SIZE];
+        for (;;) {
+            consumerBusy = true;
+            int count = queue.drainTo(batch);
+            if (count > 0) {
+                publishBatch(batch, count);
+                Arrays.fill(batch, 0, count, null);
+                continue;
+            }
+            consumerBusy = false;
+            if (closed) {
+                return;
+            }
+            consumerParked = true;
+            // Checked again after publishing the flag so that a record offered in between is not left behind
+            if (queue.isEmpty() && !closed) {
+                LockSupport.parkNanos(this, MAX_PARK_NANOS);
+            }
+            consumerParked = false;
+        }
+    }
+
+    private void publishBatch(ExtLogRecord[] batch, int count) {
+        for (Handler handler : getHandlers()) {
+            try {
+                if (handler instanceof BatchingFileHandler) {
+                    ((BatchingFileHandler) handler).publishBatch(batch, count);
+                } else {
+                    for (int i = 0; i < count; i++) {
+                        handler.publish(batch[i]);
+                    }
+                }
+            } catch (Exception e) {
+                reportError("Failed to publish log records", e, ErrorManager.WRITE_FAILURE);
+            }
+        }
+    }
+
+    /**
+     * Waits until the queued records are published, then flushes the nested handlers. The consumer is a daemon thread, so
+     * the records logged right before the JVM exits would otherwise be lost.
+     */
+    @Override
+    public void flush() {
+        Thread consumer = this.consumer;
+        if (consumer != null && consumer != Thread.currentThread()) {
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(CLOSE_TIMEOUT_MILLIS);
+            while ((consumerBusy || !queue.isEmpty()) && consumer.isAlive() && System.nanoTime() - deadline < 0) {
+                LockSupport.unpark(consumer);
+                LockSupport.parkNanos(this, TimeUnit.MICROSECONDS.toNanos(50));
+            }
+        }
+        super.flush();
+    }
+
+    @Override
+    public void close() throws SecurityException {
+        closed = true;
+        HANDLERS.remove(this);
+        Thread consumer = this.consumer;
+        if (consumer != null && consumer != Thread.currentThread()) {
+            // Gives the consumer a chance to write the queued records
+            LockSupport.unpark(consumer);
+            try {
+                consumer.join(CLOSE_TIMEOUT_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        super.close();
+    }
+}
@@ -34,6 +34,19 @@ public class StepTiming {
         stepTimingStart = System.nanoTime();
     }
 
+    /**
+     * Prints the time spent initializing the config class since the last {@link #configureStart()}.
+     */
+    public static void printConfigInitTime() {
+        if (!stepTimingEnabled) {
+            return;
+        }
+        System.out.printf("%1$tF %1$tT,%1$tL Config initialization took: %2$sms%n",
+                LocalDateTime.ofInstant(Instant.ofEpochMilli(System.currentTimeMillis()), ZoneId.systemDefault()),
+                duration(System.nanoTime(), stepTimingStart));
+        stepTimingStart = System.nanoTime();
+    }
+
     private static long duration(long ended, long started) {
         return TimeUnit.MILLISECONDS.convert(ended - started, TimeUnit.NANOSECONDS);
     }
@@ -0,0 +1,66 @@
+package io.quarkus.runtime.configuration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.microprofile.config.spi.ConfigSource;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.config.PropertiesConfigSource;
+import io.smallrye.config.SmallRyeConfig;
+import io.smallrye.config.SmallRyeConfigBuilder;
+
+public class ConfigSnapshotTestCase {
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        List<ConfigSource> snapshot = writeAndRead(List.of(
+                new PropertiesConfigSource(Map.of("b", "2", "a", "1", "%prod.a", "prod"), "application", 250),
+                ConfigUtils.runtimeDefaultsConfigSource(Map.of("c", "3", "long", "x".repeat(70_000)))));
+
+        assertEquals(2, snapshot.size());
+        ConfigSource application = snapshot.get(0);
+        assertEquals("application", application.getName());
+        assertEquals(250, application.getOrdinal());
+        assertEquals("1", application.getValue("a"));
+        assertEquals("2", application.getValue("b"));
+        assertEquals("prod", application.getValue("%prod.a"));
+        assertNull(application.getValue("c"));
+        assertEquals(List.of("%prod.a", "a", "b"), new ArrayList<>(application.getPropertyNames()));
+        assertTrue(application.getPropertyNames().contains("b"));
+        assertFalse(application.getPropertyNames().contains("c"));
+
+        ConfigSource defaults = snapshot.get(1);
+        assertEquals("Runtime Defaults", defaults.getName());
+        assertEquals(Integer.MIN_VALUE + 50, defaults.getOrdinal());
+        assertEquals(70_000, defaults.getValue("long").length());
+    }
+
+    @Test
+    public void testOverlay() throws IOException {
+        List<ConfigSource> snapshot = writeAndRead(List.of(
+                new PropertiesConfigSource(Map.of("a", "snapshot", "b", "snapshot"), "application", 250)));
+
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(snapshot)
+                .withSources(new PropertiesConfigSource(Map.of("a", "dynamic"), "dynamic", 300))
+                .build();
+        assertEquals("dynamic", config.getRawValue("a"));
+        assertEquals("snapshot", config.getRawValue("b"));
+    }
+
+    private static List<ConfigSource> writeAndRead(List<ConfigSource> sources) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ConfigSnapshot.write(sources, out);
+        return ConfigSnapshot.read(new ByteArrayInputStream(out.toByteArray()));
+    }
+}
@@ -0,0 +1,81 @@
+package io.quarkus.runtime.logging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.logging.Formatter;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import org.jboss.logmanager.ExtLogRecord;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class BatchingFileHandlerTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void batchIsAppended() throws IOException {
+        File file = tempDir.resolve("batch.log").toFile();
+        Files.writeString(file.toPath(), "existing\n");
+        StringBuilder expected = new StringBuilder("existing\n");
+        ExtLogRecord[] records = new ExtLogRecord[RingBufferAsyncHandler.BATCH_SIZE];
+        for (int i = 0; i < records.length; i++) {
+            // The batch is larger than the buffers, which are written several times
+            String message = "message" + i + "-" + "x".repeat(1000);
+            records[i] = record(message);
+            expected.append(message).append('\n');
+        }
+        ExtLogRecord debug = record("debug");
+        debug.setLevel(Level.FINE);
+        records[3] = debug;
+        expected.delete(expected.indexOf("message3-"), expected.indexOf("message4-"));
+
+        write(file, records);
+        assertEquals(expected.toString(), Files.readString(file.toPath()));
+    }
+
+    @Test
+    void multiByteCharacterSpanningBuffers() throws IOException {
+        File file = tempDir.resolve("encoding.log").toFile();
+        // The three bytes of the euro sign do not fit at the end of the first 16KB buffer
+        String message = "a".repeat(16 * 1024 - 2) + "\u20ac\u00e9\u20ac";
+        write(file, record(message));
+        assertEquals(message + "\n", Files.readString(file.toPath(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void recordLargerThanBuffers() throws IOException {
+        File file = tempDir.resolve("large.log").toFile();
+        // Larger than the 64KB of buffers
+        String message = "\u20acuro-".repeat(20_000);
+        write(file, record("first"), record(message), record("last"));
+        assertEquals("first\n" + message + "\nlast\n", Files.readString(file.toPath(), StandardCharsets.UTF_8));
+    }
+
+    private static void write(File file, ExtLogRecord... records) throws IOException {
+        BatchingFileHandler handler = new BatchingFileHandler(file, StandardCharsets.UTF_8);
+        handler.setLevel(Level.INFO);
+        handler.setFormatter(new Formatter() {
+            @Override
+            public String format(LogRecord record) {
+                return record.getMessage() + "\n";
+            }
+        });
+        try {
+            handler.publishBatch(records, records.length);
+        } finally {
+            handler.close();
+        }
+    }
+
+    private static ExtLogRecord record(String message) {
+        return new ExtLogRecord(Level.INFO, message, BatchingFileHandlerTest.class.getName());
+    }
+}
@@ -0,0 +1,98 @@
+package io.quarkus.runtime.logging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class MpscRingBufferTest {
+
+    @Test
+    void capacityIsRoundedUpToPowerOfTwo() {
+        assertEquals(2, new MpscRingBuffer<>(1).capacity());
+        assertEquals(8, new MpscRingBuffer<>(5).capacity());
+        assertEquals(8, new MpscRingBuffer<>(8).capacity());
+    }
+
+    @Test
+    void offerFailsWhenFull() {
+        MpscRingBuffer<Integer> queue = new MpscRingBuffer<>(4);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(queue.offer(i));
+        }
+        assertFalse(queue.offer(4));
+        assertEquals(4, queue.size());
+
+        assertEquals(0, queue.poll());
+        assertTrue(queue.offer(4));
+        assertEquals(List.of(1, 2, 3, 4), pollAll(queue));
+        assertTrue(queue.isEmpty());
+        assertNull(queue.poll());
+    }
+
+    @Test
+    void drainToFillsBatch() {
+        MpscRingBuffer<Integer> queue = new MpscRingBuffer<>(16);
+        for (int i = 0; i < 10; i++) {
+            queue.offer(i);
+        }
+        Integer[] batch = new Integer[4];
+        assertEquals(4, queue.drainTo(batch));
+        assertEquals(0, batch[0]);
+        assertEquals(3, batch[3]);
+        assertEquals(4, queue.drainTo(batch));
+        assertEquals(2, queue.drainTo(batch));
+        assertEquals(9, batch[1]);
+        assertEquals(0, queue.drainTo(batch));
+    }
+
+    @Test
+    void concurrentProducersKeepTheirOrder() throws InterruptedException {
+        int producers = 4;
+        int perProducer = 10_000;
+        MpscRingBuffer<int[]> queue = new MpscRingBuffer<>(64);
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            int producer = p;
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    while (!queue.offer(new int[] { producer, i })) {
+                        Thread.yield();
+                    }
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+
+        int[] next = new int[producers];
+        int received = 0;
+        while (received < producers * perProducer) {
+            int[] element = queue.poll();
+            if (element == null) {
+                Thread.yield();
+                continue;
+            }
+            assertEquals(next[element[0]]++, element[1]);
+            received++;
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertTrue(queue.isEmpty());
+    }
+
+    private static List<Integer> pollAll(MpscRingBuffer<Integer> queue) {
+        List<Integer> result = new ArrayList<>();
+        Integer element;
+        while ((element = queue.poll()) != null) {
+            result.add(element);
+        }
+        return result;
+    }
+}
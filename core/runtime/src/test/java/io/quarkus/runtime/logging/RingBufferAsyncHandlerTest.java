@@ -0,0 +1,235 @@
+package io.quarkus.runtime.logging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+
+import org.jboss.logmanager.ExtHandler;
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.formatters.PatternFormatter;
+import org.jboss.logmanager.handlers.AsyncHandler.OverflowAction;
+import org.jboss.logmanager.handlers.ConsoleHandler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.bootstrap.logging.InitialConfigurator;
+import io.quarkus.runtime.ApplicationLifecycleManager;
+
+class RingBufferAsyncHandlerTest {
+
+    private final CollectingHandler nested = new CollectingHandler();
+    private RingBufferAsyncHandler handler;
+
+    @AfterEach
+    void close() {
+        nested.release.countDown();
+        if (handler != null) {
+            handler.close();
+        }
+    }
+
+    @Test
+    void recordsArePublishedInOrder() throws InterruptedException {
+        nested.release.countDown();
+        handler = createHandler(16, OverflowAction.BLOCK);
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            handler.publish(record("message" + i));
+            expected.add("message" + i);
+        }
+        nested.awaitMessages(1000);
+        assertEquals(expected, nested.messages);
+        assertEquals(0, handler.getQueueDepth());
+    }
+
+    @Test
+    void discardOverflowDropsRecords() throws InterruptedException {
+        handler = createHandler(4, OverflowAction.DISCARD);
+        long totalDropped = RingBufferAsyncHandler.getTotalDroppedCount();
+        blockConsumer();
+
+        for (int i = 0; i < 10; i++) {
+            handler.publish(record("message" + i));
+        }
+        assertEquals(4, handler.getQueueDepth());
+        assertEquals(6, handler.getDroppedCount());
+        assertEquals(6, RingBufferAsyncHandler.getTotalDroppedCount() - totalDropped);
+
+        nested.release.countDown();
+        nested.awaitMessages(5);
+        assertEquals(List.of("blocking", "message0", "message1", "message2", "message3"), nested.messages);
+    }
+
+    @Test
+    void blockOverflowWaitsForFreeSlot() throws InterruptedException {
+        handler = createHandler(4, OverflowAction.BLOCK);
+        blockConsumer();
+
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < 10; i++) {
+                handler.publish(record("message" + i));
+            }
+        });
+        producer.start();
+        producer.join(200);
+        assertTrue(producer.isAlive(), "The producer should wait for a free slot");
+        assertEquals(4, handler.getQueueDepth());
+
+        nested.release.countDown();
+        producer.join(TimeUnit.SECONDS.toMillis(5));
+        assertFalse(producer.isAlive());
+        nested.awaitMessages(11);
+        assertEquals(0, handler.getDroppedCount());
+        assertEquals("message9", nested.messages.get(10));
+    }
+
+    @Test
+    void closeDrainsQueuedRecords() throws InterruptedException {
+        handler = createHandler(16, OverflowAction.BLOCK);
+        blockConsumer();
+        for (int i = 0; i < 10; i++) {
+            handler.publish(record("message" + i));
+        }
+        assertEquals(10, handler.getQueueDepth());
+
+        Thread releaser = new Thread(() -> {
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            nested.release.countDown();
+        });
+        releaser.start();
+        // Waits for the consumer to publish the queued records
+        handler.close();
+        assertEquals(11, nested.messages.size());
+        assertEquals("message9", nested.messages.get(10));
+
+        // The records published once the handler is closed are ignored
+        handler.publish(record("closed"));
+        assertEquals(11, nested.messages.size());
+    }
+
+    @Test
+    void flushWaitsForQueuedRecords() throws InterruptedException {
+        handler = createHandler(16, OverflowAction.BLOCK);
+        blockConsumer();
+        for (int i = 0; i < 10; i++) {
+            handler.publish(record("message" + i));
+        }
+
+        Thread releaser = new Thread(() -> {
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            nested.release.countDown();
+        });
+        releaser.start();
+        handler.flush();
+        assertEquals(11, nested.messages.size());
+        assertEquals("message9", nested.messages.get(10));
+    }
+
+    @Test
+    void recordsLoggedRightBeforeExitArePrinted() throws Exception {
+        Process process = new ProcessBuilder(Path.of(System.getProperty("java.home"), "bin", "java").toString(), "-cp",
+                System.getProperty("java.class.path"), LogAndExit.class.getName())
+                .redirectErrorStream(true)
+                .start();
+        String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        assertTrue(process.waitFor(30, TimeUnit.SECONDS));
+        assertEquals(0, process.exitValue(), output);
+        assertEquals(LogAndExit.COUNT, output.lines().filter(line -> line.startsWith("message")).count(), output);
+        assertTrue(output.contains("message" + (LogAndExit.COUNT - 1)), output);
+    }
+
+    private RingBufferAsyncHandler createHandler(int queueLength, OverflowAction overflowAction) {
+        RingBufferAsyncHandler handler = new RingBufferAsyncHandler(queueLength, overflowAction);
+        handler.addHandler(nested);
+        return handler;
+    }
+
+    /**
+     * Publishes a record the nested handler blocks on until it is released, so that the next records stay in the queue.
+     */
+    private void blockConsumer() throws InterruptedException {
+        handler.publish(record("blocking"));
+        assertTrue(nested.blocked.await(5, TimeUnit.SECONDS));
+    }
+
+    private static ExtLogRecord record(String message) {
+        return new ExtLogRecord(Level.INFO, message, RingBufferAsyncHandlerTest.class.getName());
+    }
+
+    static class CollectingHandler extends ExtHandler {
+
+        final List<String> messages = new CopyOnWriteArrayList<>();
+        final CountDownLatch blocked = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        protected void doPublish(ExtLogRecord record) {
+            blocked.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            messages.add(record.getMessage());
+        }
+
+        void awaitMessages(int count) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (messages.size() < count) {
+                assertTrue(System.nanoTime() - deadline < 0, "Only " + messages.size() + " messages were published");
+                Thread.sleep(10);
+            }
+        }
+    }
+
+    /**
+     * Logs to a slow console through a ring buffer async handler and exits right away, once the console logs are drained
+     * the same way as when the application fails to start.
+     */
+    static class LogAndExit {
+
+        static final int COUNT = 200;
+
+        public static void main(String[] args) throws Exception {
+            RingBufferAsyncHandler handler = new RingBufferAsyncHandler(64, OverflowAction.BLOCK);
+            handler.addHandler(new ConsoleHandler(ConsoleHandler.Target.SYSTEM_OUT, new PatternFormatter("%s%n") {
+                @Override
+                public String format(ExtLogRecord record) {
+                    try {
+                        Thread.sleep(1);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return super.format(record);
+                }
+            }));
+            InitialConfigurator.DELAYED_HANDLER.setHandlers(new Handler[] { handler });
+            for (int i = 0; i < COUNT; i++) {
+                handler.publish(record("message" + i));
+            }
+            Method ensureConsoleLogsDrained = ApplicationLifecycleManager.class.getDeclaredMethod("ensureConsoleLogsDrained");
+            ensureConsoleLogsDrained.setAccessible(true);
+            ensureConsoleLogsDrained.invoke(null);
+            System.exit(0);
+        }
+    }
+}
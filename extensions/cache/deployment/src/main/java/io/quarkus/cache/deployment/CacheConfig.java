@@ -1,6 +1,7 @@
 package io.quarkus.cache.deployment;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.OptionalInt;
@@ -73,6 +74,59 @@ public class CacheConfig {
              */
             @ConfigItem
             Optional<Duration> expireAfterAccess;
+
+            /**
+             * Specifies that each entry should be eligible for a refresh once a fixed duration has elapsed after the entry's
+             * creation, or the most recent replacement of its value. The first read of an entry that is due for a refresh
+             * triggers the recomputation of its value on a worker thread, or the subscription to the {@code Uni} returned by
+             * the cached method, while all the callers keep getting the stale value without blocking. If the recomputation
+             * fails, the stale value is kept. This duration should be shorter than
+             * {@code expire-after-write}, which still defines when an entry is definitely removed from the cache.
+             */
+            @ConfigItem
+            Optional<Duration> refreshAfterWrite;
+
+            /**
+             * Whether or not the cache statistics (hits, misses, loads, evictions and size) should be recorded and published
+             * if a metrics extension is present. The statistics are not recorded when this is disabled.
+             */
+            @ConfigItem
+            boolean metricsEnabled;
+
+            /**
+             * Redis configuration.
+             */
+            CaffeineRedisConfig redis;
+        }
+
+        @ConfigGroup
+        public static class CaffeineRedisConfig {
+
+            /**
+             * Whether or not the cache should be backed by the default Redis client of the {@code quarkus-redis-client}
+             * extension. When enabled, the Caffeine cache is used as a near cache in front of Redis, which is shared by all
+             * the application instances, and the invalidations are broadcast to all the instances with Redis pub/sub.
+             */
+            @ConfigItem
+            boolean enabled;
+
+            /**
+             * Specifies that each entry should be automatically removed from Redis once a fixed duration has elapsed after
+             * the entry's creation, or the most recent replacement of its value. The entries never expire from Redis if this
+             * is not set.
+             */
+            @ConfigItem
+            Optional<Duration> expireAfterWrite;
+
+            /**
+             * The application classes which can be deserialized from Redis by the default codec, which relies on Java
+             * serialization. Each element is either a fully qualified class name or a package followed by {@code .*}, such
+             * as {@code org.acme.*}. The classes of the {@code java.lang}, {@code java.util}, {@code java.time} and
+             * {@code java.math} packages are always allowed, and all the other classes are rejected. This is required unless
+             * a custom {@code io.quarkus.cache.CacheValueCodec} bean is provided.
+             */
+            @ConfigItem
+            Optional<List<String>> allowedClasses;
         }
     }
 }
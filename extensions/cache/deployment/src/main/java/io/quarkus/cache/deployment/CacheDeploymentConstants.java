@@ -1,7 +1,10 @@
 package io.quarkus.cache.deployment;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.jboss.jandex.DotName;
 
@@ -39,6 +42,12 @@ public class CacheDeploymentConstants {
 
     // Annotations parameters.
     public static final String CACHE_NAME_PARAM = "cacheName";
+    public static final String BULK_PARAM = "bulk";
+
+    // Bulk @CacheResult methods.
+    public static final DotName MAP = dotName(Map.class);
+    public static final List<DotName> BULK_KEY_TYPES = Arrays.asList(dotName(Collection.class), dotName(Set.class),
+            dotName(List.class));
 
     // Caffeine.
     public static final String CAFFEINE_CACHE_TYPE = "caffeine";
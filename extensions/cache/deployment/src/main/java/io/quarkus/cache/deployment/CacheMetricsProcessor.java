@@ -0,0 +1,41 @@
+package io.quarkus.cache.deployment;
+
+import static io.quarkus.deployment.annotations.ExecutionTime.RUNTIME_INIT;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import io.quarkus.cache.runtime.caffeine.CaffeineCacheMetricsRecorder;
+import io.quarkus.deployment.annotations.BuildProducer;
+import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.annotations.Record;
+import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
+
+/**
+ * Produce metrics for the Caffeine caches
+ * Avoid hard dependencies in main processor
+ */
+class CacheMetricsProcessor {
+
+    @BuildStep
+    @Record(RUNTIME_INIT)
+    void registerMetrics(CacheConfig config, CacheNamesBuildItem cacheNames, CaffeineCacheMetricsRecorder recorder,
+            Optional<MetricsCapabilityBuildItem> metricsCapability,
+            BuildProducer<MetricsFactoryConsumerBuildItem> cacheMetrics) {
+
+        // The statistics are only recorded for the caches that have the metrics enabled
+        if (!config.enabled || !CacheDeploymentConstants.CAFFEINE_CACHE_TYPE.equals(config.type)
+                || metricsCapability.isEmpty()) {
+            return;
+        }
+        Set<String> metricsEnabledCacheNames = CaffeineCacheInfoBuilder.build(cacheNames.getNames(), config).stream()
+                .filter(cacheInfo -> cacheInfo.metricsEnabled)
+                .map(cacheInfo -> cacheInfo.name)
+                .collect(Collectors.toSet());
+        if (!metricsEnabledCacheNames.isEmpty()) {
+            cacheMetrics.produce(new MetricsFactoryConsumerBuildItem(recorder.registerCacheMetrics(metricsEnabledCacheNames)));
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package io.quarkus.cache.deployment;
 
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.BULK_KEY_TYPES;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.BULK_PARAM;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_INVALIDATE;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_INVALIDATE_ALL;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_INVALIDATE_ALL_LIST;
@@ -11,6 +13,7 @@ import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_RESULT;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.INTERCEPTORS;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.INTERCEPTOR_BINDINGS;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.INTERCEPTOR_BINDING_CONTAINERS;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.MAP;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.REGISTER_REST_CLIENT;
 import static io.quarkus.deployment.annotations.ExecutionTime.STATIC_INIT;
 
@@ -38,6 +41,8 @@ import io.quarkus.arc.deployment.SyntheticBeanBuildItem;
 import io.quarkus.arc.deployment.UnremovableBeanBuildItem;
 import io.quarkus.arc.deployment.ValidationPhaseBuildItem.ValidationErrorBuildItem;
 import io.quarkus.cache.CacheManager;
+import io.quarkus.cache.CacheValueCodec;
+import io.quarkus.cache.deployment.exception.BulkCacheResultTargetException;
 import io.quarkus.cache.deployment.exception.ClassTargetException;
 import io.quarkus.cache.deployment.exception.PrivateMethodTargetException;
 import io.quarkus.cache.deployment.exception.UnknownCacheNameException;
@@ -45,10 +50,13 @@ import io.quarkus.cache.deployment.exception.UnsupportedRepeatedAnnotationExcept
 import io.quarkus.cache.deployment.exception.VoidReturnTypeTargetException;
 import io.quarkus.cache.runtime.CacheInvalidateAllInterceptor;
 import io.quarkus.cache.runtime.CacheInvalidateInterceptor;
+import io.quarkus.cache.runtime.CacheManagerImpl;
 import io.quarkus.cache.runtime.CacheResultInterceptor;
 import io.quarkus.cache.runtime.caffeine.CaffeineCacheBuildRecorder;
 import io.quarkus.cache.runtime.caffeine.CaffeineCacheInfo;
 import io.quarkus.cache.runtime.noop.NoOpCacheBuildRecorder;
+import io.quarkus.deployment.Capabilities;
+import io.quarkus.deployment.Capability;
 import io.quarkus.deployment.Feature;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
@@ -181,6 +189,10 @@ class CacheProcessor {
                 if (CACHE_RESULT.equals(binding.name()) && methodInfo.returnType().kind() == Type.Kind.VOID) {
                     throwables.add(new VoidReturnTypeTargetException(methodInfo));
                 }
+                if (CACHE_RESULT.equals(binding.name()) && binding.value(BULK_PARAM) != null
+                        && binding.value(BULK_PARAM).asBoolean() && !isValidBulkTarget(methodInfo)) {
+                    throwables.add(new BulkCacheResultTargetException(methodInfo));
+                }
                 break;
             default:
                 // This should never be thrown.
@@ -189,16 +201,43 @@ class CacheProcessor {
         return throwables;
     }
 
+    private boolean isValidBulkTarget(MethodInfo methodInfo) {
+        if (!MAP.equals(methodInfo.returnType().name())) {
+            return false;
+        }
+        List<Short> cacheKeyPositions = new ArrayList<>();
+        for (AnnotationInstance annotation : methodInfo.annotations()) {
+            if (CACHE_KEY.equals(annotation.name()) && annotation.target().kind() == Kind.METHOD_PARAMETER) {
+                cacheKeyPositions.add(annotation.target().asMethodParameter().position());
+            }
+        }
+        short keyPosition;
+        if (cacheKeyPositions.size() == 1) {
+            keyPosition = cacheKeyPositions.get(0);
+        } else if (cacheKeyPositions.isEmpty() && methodInfo.parameters().size() == 1) {
+            keyPosition = 0;
+        } else {
+            return false;
+        }
+        return BULK_KEY_TYPES.contains(methodInfo.parameters().get(keyPosition).name());
+    }
+
     @BuildStep
     @Record(STATIC_INIT)
     SyntheticBeanBuildItem configureCacheManagerSyntheticBean(CacheNamesBuildItem cacheNames, CacheConfig config,
-            CaffeineCacheBuildRecorder caffeineRecorder, NoOpCacheBuildRecorder noOpRecorder) {
+            CaffeineCacheBuildRecorder caffeineRecorder, NoOpCacheBuildRecorder noOpRecorder, Capabilities capabilities) {
 
         Supplier<CacheManager> cacheManagerSupplier;
         if (config.enabled) {
             switch (config.type) {
                 case CacheDeploymentConstants.CAFFEINE_CACHE_TYPE:
                     Set<CaffeineCacheInfo> cacheInfos = CaffeineCacheInfoBuilder.build(cacheNames.getNames(), config);
+                    for (CaffeineCacheInfo cacheInfo : cacheInfos) {
+                        if (cacheInfo.redisEnabled && !capabilities.isPresent(Capability.REDIS_CLIENT)) {
+                            throw new DeploymentException("The Redis backing of cache [" + cacheInfo.name
+                                    + "] is enabled but the quarkus-redis-client extension is missing");
+                        }
+                    }
                     cacheManagerSupplier = caffeineRecorder.getCacheManagerSupplier(cacheInfos);
                     break;
                 default:
@@ -211,9 +250,16 @@ class CacheProcessor {
         return SyntheticBeanBuildItem.configure(CacheManager.class)
                 .scope(ApplicationScoped.class)
                 .supplier(cacheManagerSupplier)
+                .destroyer(CacheManagerImpl.Destroyer.class)
                 .done();
     }
 
+    @BuildStep
+    UnremovableBeanBuildItem unremovableCacheValueCodec() {
+        // A custom codec is only looked up programmatically by the Redis backed caches.
+        return UnremovableBeanBuildItem.beanTypes(CacheValueCodec.class);
+    }
+
     @BuildStep
     List<BytecodeTransformerBuildItem> enhanceRestClientMethods(CombinedIndexBuildItem combinedIndex,
             BuildProducer<UnremovableBeanBuildItem> unremovableBeans) {
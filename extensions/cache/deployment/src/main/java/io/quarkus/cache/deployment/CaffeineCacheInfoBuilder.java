@@ -1,5 +1,6 @@
 package io.quarkus.cache.deployment;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -22,6 +23,12 @@ public class CaffeineCacheInfoBuilder {
                     namespaceConfig.maximumSize.ifPresent(size -> cacheInfo.maximumSize = size);
                     namespaceConfig.expireAfterWrite.ifPresent(delay -> cacheInfo.expireAfterWrite = delay);
                     namespaceConfig.expireAfterAccess.ifPresent(delay -> cacheInfo.expireAfterAccess = delay);
+                    namespaceConfig.refreshAfterWrite.ifPresent(delay -> cacheInfo.refreshAfterWrite = delay);
+                    cacheInfo.metricsEnabled = namespaceConfig.metricsEnabled;
+                    cacheInfo.redisEnabled = namespaceConfig.redis.enabled;
+                    namespaceConfig.redis.expireAfterWrite.ifPresent(delay -> cacheInfo.redisExpireAfterWrite = delay);
+                    namespaceConfig.redis.allowedClasses
+                            .ifPresent(allowedClasses -> cacheInfo.redisAllowedClasses = new ArrayList<>(allowedClasses));
                 }
                 return cacheInfo;
             }).collect(Collectors.toSet());
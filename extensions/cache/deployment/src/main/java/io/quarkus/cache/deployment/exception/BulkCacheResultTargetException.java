@@ -0,0 +1,24 @@
+package io.quarkus.cache.deployment.exception;
+
+import org.jboss.jandex.MethodInfo;
+
+/**
+ * This exception is thrown at build time during the validation phase if a method annotated with
+ * {@link io.quarkus.cache.CacheResult @CacheResult(bulk = true)} does not return a {@link java.util.Map} or does not have a
+ * single cache key parameter of type {@link java.util.Collection}, {@link java.util.Set} or {@link java.util.List}.
+ */
+@SuppressWarnings("serial")
+public class BulkCacheResultTargetException extends RuntimeException {
+
+    private final MethodInfo methodInfo;
+
+    public BulkCacheResultTargetException(MethodInfo methodInfo) {
+        super("@CacheResult(bulk = true) is only allowed on a method returning java.util.Map with a single cache key parameter of type java.util.Collection, java.util.Set or java.util.List [class="
+                + methodInfo.declaringClass().name() + ", method=" + methodInfo.name() + "]");
+        this.methodInfo = methodInfo;
+    }
+
+    public MethodInfo getMethodInfo() {
+        return methodInfo;
+    }
+}
@@ -4,6 +4,8 @@ import static java.util.Arrays.stream;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.util.List;
+import java.util.Map;
 import java.util.stream.Stream;
 
 import javax.enterprise.context.ApplicationScoped;
@@ -19,6 +21,7 @@ import io.quarkus.cache.CacheInvalidate;
 import io.quarkus.cache.CacheInvalidateAll;
 import io.quarkus.cache.CacheName;
 import io.quarkus.cache.CacheResult;
+import io.quarkus.cache.deployment.exception.BulkCacheResultTargetException;
 import io.quarkus.cache.deployment.exception.ClassTargetException;
 import io.quarkus.cache.deployment.exception.PrivateMethodTargetException;
 import io.quarkus.cache.deployment.exception.UnknownCacheNameException;
@@ -39,10 +42,12 @@ public class DeploymentExceptionsTest {
             .withApplicationRoot((jar) -> jar.addClasses(TestResource.class, TestBean.class))
             .assertException(t -> {
                 assertEquals(DeploymentException.class, t.getClass());
-                assertEquals(10, t.getSuppressed().length);
+                assertEquals(12, t.getSuppressed().length);
                 assertPrivateMethodTargetException(t, "shouldThrowPrivateMethodTargetException", 1);
                 assertPrivateMethodTargetException(t, "shouldAlsoThrowPrivateMethodTargetException", 2);
                 assertVoidReturnTypeTargetException(t, "showThrowVoidReturnTypeTargetException");
+                assertBulkCacheResultTargetException(t, "shouldThrowBulkCacheResultTargetException");
+                assertBulkCacheResultTargetException(t, "shouldAlsoThrowBulkCacheResultTargetException");
                 assertClassTargetException(t, TestResource.class, 1);
                 assertClassTargetException(t, TestBean.class, 2);
                 assertUnknownCacheNameException(t, UNKNOWN_CACHE_1);
@@ -60,6 +65,11 @@ public class DeploymentExceptionsTest {
                 .filter(s -> expectedMethodName.equals(s.getMethodInfo().name())).count());
     }
 
+    private static void assertBulkCacheResultTargetException(Throwable t, String expectedMethodName) {
+        assertEquals(1, filterSuppressed(t, BulkCacheResultTargetException.class)
+                .filter(s -> expectedMethodName.equals(s.getMethodInfo().name())).count());
+    }
+
     private static void assertClassTargetException(Throwable t, Class<?> expectedClassName, long expectedCount) {
         assertEquals(expectedCount, filterSuppressed(t, ClassTargetException.class)
                 .filter(s -> expectedClassName.getName().equals(s.getClassName().toString())).count());
@@ -117,5 +127,15 @@ public class DeploymentExceptionsTest {
 
         public void setCache(@CacheName(UNKNOWN_CACHE_3) Cache cache) {
         }
+
+        @CacheResult(cacheName = "should-throw-bulk-cache-result-target-exception", bulk = true)
+        public String shouldThrowBulkCacheResultTargetException(List<String> keys) {
+            return null;
+        }
+
+        @CacheResult(cacheName = "should-throw-bulk-cache-result-target-exception", bulk = true)
+        public Map<String, String> shouldAlsoThrowBulkCacheResultTargetException(String key) {
+            return null;
+        }
     }
 }
@@ -0,0 +1,148 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheKey;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.cache.runtime.caffeine.CaffeineCache;
+import io.quarkus.test.QuarkusUnitTest;
+
+/**
+ * Tests a {@link CacheResult} method with {@code bulk = true}: each element of the keys collection is cached separately and
+ * the method is only invoked with the keys that are missing from the cache.
+ */
+public class BulkCacheResultTest {
+
+    private static final String CACHE_NAME = "bulk-cache";
+    private static final String REFRESH_CACHE_NAME = "bulk-refresh-cache";
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar.addClass(CachedService.class))
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + REFRESH_CACHE_NAME + "\".refresh-after-write", "PT0.1S");
+
+    @Inject
+    CachedService cachedService;
+
+    @CacheName(REFRESH_CACHE_NAME)
+    Cache refreshCache;
+
+    @Test
+    public void testBulk() {
+        Map<String, String> values1 = cachedService.cachedMethod(List.of("a", "b"));
+        assertEquals(Map.of("a", "a-1", "b", "b-1"), values1);
+        assertEquals(List.of(Set.of("a", "b")), cachedService.invocations);
+
+        // Only the missing key is passed to the method.
+        Map<String, String> values2 = cachedService.cachedMethod(List.of("a", "b", "c"));
+        assertEquals(Map.of("a", "a-1", "b", "b-1", "c", "c-2"), values2);
+        assertEquals(Set.of("c"), cachedService.invocations.get(1));
+
+        // All keys are cached, the method is not invoked.
+        Map<String, String> values3 = cachedService.cachedMethod(List.of("c", "a"));
+        assertEquals(Map.of("a", "a-1", "c", "c-2"), values3);
+        assertEquals(2, cachedService.invocations.size());
+
+        // A key missing from the returned map is neither cached nor part of the result.
+        Map<String, String> values4 = cachedService.otherCachedMethod("prefix", Set.of("skip", "d"));
+        assertEquals(Map.of("d", "prefix-d"), values4);
+        assertTrue(cachedService.otherCachedMethod("prefix", Set.of("skip")).isEmpty());
+    }
+
+    @Test
+    public void testRefresh() throws InterruptedException {
+        CaffeineCache caffeineCache = (CaffeineCache) refreshCache;
+
+        assertEquals(Map.of("a", "a-1", "b", "b-1"), cachedService.refreshedCachedMethod(List.of("a", "b")));
+
+        Thread.sleep(200L);
+
+        // The stale values are returned, the missing key is loaded alone and the stale keys are refreshed in the background.
+        assertEquals(Map.of("a", "a-1", "b", "b-1", "c", "c-2"), cachedService.refreshedCachedMethod(List.of("a", "b", "c")));
+        await(() -> caffeineCache.getRefreshCount() == 2);
+        assertEquals(Set.of("c"), cachedService.refreshInvocations.get(1));
+        assertEquals(Set.of("a", "b"), cachedService.refreshInvocations.get(2));
+        assertEquals(Map.of("a", "a-3", "b", "b-3"), cachedService.refreshedCachedMethod(List.of("a", "b")));
+
+        Thread.sleep(200L);
+
+        // The refresh fails, the stale values are returned and kept.
+        cachedService.failNextInvocation = true;
+        assertEquals(Map.of("a", "a-3", "b", "b-3"), cachedService.refreshedCachedMethod(List.of("a", "b")));
+        await(() -> caffeineCache.getRefreshCount() == 4);
+        assertEquals(2, caffeineCache.getRefreshFailureCount());
+        assertEquals(Map.of("a", "a-3", "b", "b-3"), cachedService.refreshedCachedMethod(List.of("a", "b")));
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() - deadline < 0, "Condition not met in time");
+            Thread.sleep(10L);
+        }
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        final List<Set<String>> invocations = new ArrayList<>();
+
+        @CacheResult(cacheName = CACHE_NAME, bulk = true)
+        public Map<String, String> cachedMethod(List<String> keys) {
+            invocations.add(Set.copyOf(keys));
+            Map<String, String> result = new HashMap<>();
+            for (String key : keys) {
+                result.put(key, key + "-" + invocations.size());
+            }
+            return result;
+        }
+
+        final List<Set<String>> refreshInvocations = new CopyOnWriteArrayList<>();
+
+        volatile boolean failNextInvocation;
+
+        @CacheResult(cacheName = REFRESH_CACHE_NAME, bulk = true)
+        public Map<String, String> refreshedCachedMethod(List<String> keys) {
+            if (failNextInvocation) {
+                failNextInvocation = false;
+                throw new IllegalStateException("Forced refresh failure");
+            }
+            refreshInvocations.add(Set.copyOf(keys));
+            Map<String, String> result = new HashMap<>();
+            for (String key : keys) {
+                result.put(key, key + "-" + refreshInvocations.size());
+            }
+            return result;
+        }
+
+        @CacheResult(cacheName = CACHE_NAME + "-other", bulk = true)
+        public Map<String, String> otherCachedMethod(String prefix, @CacheKey Set<String> keys) {
+            Map<String, String> result = new HashMap<>();
+            for (String key : keys) {
+                if (!"skip".equals(key)) {
+                    result.put(key, prefix + "-" + key);
+                }
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.function.BooleanSupplier;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.test.QuarkusUnitTest;
+
+/**
+ * Tests the meters registered for a cache which has the metrics enabled.
+ */
+public class CacheMetricsTest {
+
+    private static final String CACHE_NAME = "metrics-cache";
+    private static final String OTHER_CACHE_NAME = "other-cache";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar.addClass(CachedService.class))
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + CACHE_NAME + "\".metrics-enabled", "true")
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + CACHE_NAME + "\".refresh-after-write", "PT0.1S");
+
+    @Inject
+    MeterRegistry registry;
+
+    @Inject
+    CachedService cachedService;
+
+    @Test
+    public void testMeters() throws InterruptedException {
+        cachedService.cachedMethod("a");
+        cachedService.cachedMethod("a");
+        cachedService.cachedMethod("b");
+        cachedService.failNextInvocation = true;
+        assertThrows(IllegalStateException.class, () -> cachedService.cachedMethod("c"));
+
+        assertEquals(2, count("cache.size"));
+        assertEquals(1, count("cache.gets", "result", "hit"));
+        assertEquals(3, count("cache.gets", "result", "miss"));
+        assertEquals(2, count("cache.loads", "result", "success"));
+        assertEquals(1, count("cache.loads", "result", "failure"));
+        assertEquals(0, count("cache.refreshes"));
+
+        Thread.sleep(200L);
+
+        // The entry is due for a refresh
+        cachedService.failNextInvocation = true;
+        cachedService.cachedMethod("a");
+        await(() -> count("cache.refreshes") == 1);
+        assertEquals(1, count("cache.refresh.failures"));
+        assertTrue(registry.find("cache.refresh.time.total").tag("cache", CACHE_NAME).functionCounter() != null);
+
+        // The meters are only registered for the caches which have the metrics enabled
+        cachedService.otherCachedMethod("a");
+        assertTrue(registry.find("cache.gets").tag("cache", OTHER_CACHE_NAME).meters().isEmpty());
+    }
+
+    private double count(String name, String... tags) {
+        if (name.equals("cache.size")) {
+            return registry.get(name).tag("cache", CACHE_NAME).gauge().value();
+        }
+        return registry.get(name).tag("cache", CACHE_NAME).tags(tags).functionCounter().count();
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() - deadline < 0, "Condition not met in time");
+            Thread.sleep(10L);
+        }
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        volatile boolean failNextInvocation;
+
+        @CacheResult(cacheName = CACHE_NAME)
+        public String cachedMethod(String key) {
+            if (failNextInvocation) {
+                failNextInvocation = false;
+                throw new IllegalStateException("Forced failure");
+            }
+            return key;
+        }
+
+        @CacheResult(cacheName = OTHER_CACHE_NAME)
+        public String otherCachedMethod(String key) {
+            return key;
+        }
+    }
+}
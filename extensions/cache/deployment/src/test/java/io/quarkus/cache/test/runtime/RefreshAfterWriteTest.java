@@ -0,0 +1,194 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.function.BooleanSupplier;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.context.RequestScoped;
+import javax.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ManagedContext;
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.cache.runtime.caffeine.CaffeineCache;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.mutiny.Uni;
+
+public class RefreshAfterWriteTest {
+
+    private static final String CACHE_NAME = "refresh-cache";
+    private static final String UNI_CACHE_NAME = "uni-refresh-cache";
+    private static final String REQUEST_CACHE_NAME = "request-refresh-cache";
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar.addClasses(CachedService.class, RequestData.class))
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + CACHE_NAME + "\".refresh-after-write", "PT0.1S")
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + UNI_CACHE_NAME + "\".refresh-after-write", "PT0.1S")
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + REQUEST_CACHE_NAME + "\".refresh-after-write", "PT0.1S");
+
+    @Inject
+    CachedService cachedService;
+
+    @CacheName(CACHE_NAME)
+    Cache cache;
+
+    @CacheName(UNI_CACHE_NAME)
+    Cache uniCache;
+
+    @CacheName(REQUEST_CACHE_NAME)
+    Cache requestCache;
+
+    @Inject
+    RequestData requestData;
+
+    @Test
+    public void testRefresh() throws InterruptedException {
+        CaffeineCache caffeineCache = (CaffeineCache) cache;
+
+        String value1 = cachedService.cachedMethod("key");
+        String value2 = cachedService.cachedMethod("key");
+        assertEquals(value1, value2);
+        assertEquals(0, caffeineCache.getRefreshCount());
+
+        Thread.sleep(200L);
+
+        // The entry is due for a refresh, it is recomputed in the background while the stale value is returned.
+        assertEquals(value1, cachedService.cachedMethod("key"));
+        await(() -> caffeineCache.getRefreshCount() == 1);
+        assertEquals("key-2", cachedService.cachedMethod("key"));
+
+        Thread.sleep(200L);
+
+        // The refresh fails, the stale value is returned and the entry is kept.
+        cachedService.failNextInvocation = true;
+        assertEquals("key-2", cachedService.cachedMethod("key"));
+        await(() -> caffeineCache.getRefreshCount() == 2);
+        assertEquals(1, caffeineCache.getRefreshFailureCount());
+        assertTrue(caffeineCache.getRefreshTotalTime() > 0);
+        assertEquals("key-2", cachedService.cachedMethod("key"));
+    }
+
+    @Test
+    public void testUniRefresh() throws InterruptedException {
+        CaffeineCache caffeineCache = (CaffeineCache) uniCache;
+
+        String value1 = cachedService.cachedUniMethod("key").await().indefinitely();
+        assertEquals(value1, cachedService.cachedUniMethod("key").await().indefinitely());
+
+        Thread.sleep(200L);
+
+        // The stale value is emitted while the Uni returned by the method replaces it.
+        assertEquals(value1, cachedService.cachedUniMethod("key").await().indefinitely());
+        await(() -> caffeineCache.getRefreshCount() == 1);
+        assertEquals("uni-key-2", cachedService.cachedUniMethod("key").await().indefinitely());
+
+        Thread.sleep(200L);
+
+        // The Uni fails, the stale value is emitted and kept.
+        cachedService.failNextInvocation = true;
+        assertEquals("uni-key-2", cachedService.cachedUniMethod("key").await().indefinitely());
+        await(() -> caffeineCache.getRefreshCount() == 2);
+        assertEquals(1, caffeineCache.getRefreshFailureCount());
+        assertEquals("uni-key-2", cachedService.cachedUniMethod("key").await().indefinitely());
+    }
+
+    @Test
+    public void testRefreshWithRequestContext() throws InterruptedException {
+        CaffeineCache caffeineCache = (CaffeineCache) requestCache;
+        ManagedContext requestContext = Arc.container().requestContext();
+
+        requestContext.activate();
+        try {
+            requestData.setTenant("tenant1");
+            assertEquals("tenant1-key-1", cachedService.cachedRequestMethod("key"));
+
+            Thread.sleep(200L);
+
+            // The refresh runs on another thread with the request context of the caller.
+            assertEquals("tenant1-key-1", cachedService.cachedRequestMethod("key"));
+            await(() -> caffeineCache.getRefreshCount() == 1);
+            assertEquals(0, caffeineCache.getRefreshFailureCount());
+            assertEquals("tenant1-key-2", cachedService.cachedRequestMethod("key"));
+        } finally {
+            requestContext.terminate();
+        }
+
+        Thread.sleep(200L);
+
+        // A request context is activated for the refresh if the caller has none.
+        assertEquals("tenant1-key-2", cachedService.cachedRequestMethod("key"));
+        await(() -> caffeineCache.getRefreshCount() == 2);
+        assertEquals(0, caffeineCache.getRefreshFailureCount());
+        assertEquals("null-key-3", cachedService.cachedRequestMethod("key"));
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() - deadline < 0, "Condition not met in time");
+            Thread.sleep(10L);
+        }
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        private int invocations;
+
+        private int uniInvocations;
+
+        private int requestInvocations;
+
+        @Inject
+        RequestData requestData;
+
+        volatile boolean failNextInvocation;
+
+        @CacheResult(cacheName = CACHE_NAME)
+        public String cachedMethod(String key) {
+            if (failNextInvocation) {
+                failNextInvocation = false;
+                throw new IllegalStateException("Forced refresh failure");
+            }
+            return key + "-" + ++invocations;
+        }
+
+        @CacheResult(cacheName = UNI_CACHE_NAME)
+        public Uni<String> cachedUniMethod(String key) {
+            if (failNextInvocation) {
+                failNextInvocation = false;
+                return Uni.createFrom().failure(new IllegalStateException("Forced refresh failure"));
+            }
+            return Uni.createFrom().item(() -> "uni-" + key + "-" + ++uniInvocations);
+        }
+
+        @CacheResult(cacheName = REQUEST_CACHE_NAME)
+        public String cachedRequestMethod(String key) {
+            return requestData.getTenant() + "-" + key + "-" + ++requestInvocations;
+        }
+    }
+
+    @RequestScoped
+    static class RequestData {
+
+        private String tenant;
+
+        public String getTenant() {
+            return tenant;
+        }
+
+        public void setTenant(String tenant) {
+            this.tenant = tenant;
+        }
+    }
+}
@@ -48,4 +48,18 @@ public @interface CacheResult {
      */
     @Nonbinding
     long lockTimeout() default 0;
+
+    /**
+     * Whether or not the cache key is a collection of keys whose values are cached individually. The annotated method must
+     * return a {@link java.util.Map} and its cache key must be a single argument of type {@link java.util.Collection},
+     * {@link java.util.Set} or {@link java.util.List}. When the method is invoked, the values already cached are retrieved
+     * from the cache and the method is only invoked with the keys which are missing from the cache, if any. Each entry of the
+     * returned map is then cached and the result of the invocation is the merge of the cached and computed entries. The keys
+     * missing from the returned map are not cached.
+     * <p>
+     * The lock on cache miss mechanism is not applied in this mode: concurrent invocations may compute the values of the same
+     * missing keys.
+     */
+    @Nonbinding
+    boolean bulk() default false;
 }
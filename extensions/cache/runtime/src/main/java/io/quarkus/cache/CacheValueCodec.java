@@ -0,0 +1,41 @@
+package io.quarkus.cache;
+
+/**
+ * Converts the cache keys and values to and from their textual representation when a cache is backed by a remote store such
+ * as Redis. The default implementation relies on Java serialization, which requires the keys and values to be
+ * {@link java.io.Serializable}. A custom implementation can be provided as a CDI bean.
+ */
+public interface CacheValueCodec {
+
+    /**
+     * Encodes a cache key. Equal keys must always be encoded to the same value.
+     *
+     * @param key cache key, never {@code null}
+     * @return the encoded key
+     */
+    String encodeKey(Object key);
+
+    /**
+     * Decodes a cache key previously encoded with {@link #encodeKey(Object)}.
+     *
+     * @param encodedKey encoded key
+     * @return the cache key
+     */
+    Object decodeKey(String encodedKey);
+
+    /**
+     * Encodes a cache value.
+     *
+     * @param value cache value, may be {@code null}
+     * @return the encoded value
+     */
+    String encodeValue(Object value);
+
+    /**
+     * Decodes a cache value previously encoded with {@link #encodeValue(Object)}.
+     *
+     * @param encodedValue encoded value
+     * @return the cache value, may be {@code null}
+     */
+    Object decodeValue(String encodedValue);
+}
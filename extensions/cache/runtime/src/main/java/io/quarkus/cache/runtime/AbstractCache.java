@@ -1,5 +1,8 @@
 package io.quarkus.cache.runtime;
 
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 
@@ -30,6 +33,19 @@ public abstract class AbstractCache implements Cache {
 
     public abstract CompletableFuture<Object> get(Object key, Function<Object, Object> valueLoader);
 
+    /**
+     * Returns the values associated with the given keys. The values which are missing from the cache are obtained from a
+     * single {@code mappingFunction} call and then stored in the cache. The returned map follows the iteration order of
+     * {@code keys} and doesn't contain the keys which were missing from both the cache and the map returned by
+     * {@code mappingFunction}.
+     *
+     * @param keys cache keys
+     * @param mappingFunction function used to compute the values of the keys which are missing from the cache
+     * @return the values associated with the given keys
+     */
+    public abstract Map<Object, Object> getAll(Collection<Object> keys,
+            Function<Set<Object>, Map<Object, Object>> mappingFunction);
+
     public abstract void invalidate(Object key);
 
     public abstract void invalidateAll();
@@ -1,11 +1,18 @@
 package io.quarkus.cache.runtime;
 
+import java.io.Closeable;
+import java.io.IOException;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 
+import javax.enterprise.context.spi.CreationalContext;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.arc.BeanDestroyer;
 import io.quarkus.cache.Cache;
 import io.quarkus.cache.CacheManager;
 
@@ -35,4 +42,28 @@ public class CacheManagerImpl implements CacheManager {
         }
         return Optional.ofNullable(caches.get(name));
     }
+
+    /**
+     * Closes the caches which hold resources, such as the Redis connections of the Redis backed caches.
+     */
+    public static class Destroyer implements BeanDestroyer<CacheManager> {
+
+        private static final Logger LOGGER = Logger.getLogger(Destroyer.class);
+
+        @Override
+        public void destroy(CacheManager instance, CreationalContext<CacheManager> creationalContext,
+                Map<String, Object> params) {
+            if (instance instanceof CacheManagerImpl) {
+                for (Cache cache : ((CacheManagerImpl) instance).caches.values()) {
+                    if (cache instanceof Closeable) {
+                        try {
+                            ((Closeable) cache).close();
+                        } catch (IOException e) {
+                            LOGGER.warnf(e, "Unable to close cache [%s]", cache.getName());
+                        }
+                    }
+                }
+            }
+        }
+    }
 }
@@ -1,5 +1,11 @@
 package io.quarkus.cache.runtime;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
@@ -37,6 +43,9 @@ public class CacheResultInterceptor extends CacheInterceptor {
 
         CacheResult binding = interceptionContext.getInterceptorBindings().get(0);
         AbstractCache cache = (AbstractCache) cacheManager.getCache(binding.cacheName()).get();
+        if (binding.bulk()) {
+            return interceptBulk(invocationContext, cache, interceptionContext.getCacheKeyParameterPositions());
+        }
         Object key = getCacheKey(cache, interceptionContext.getCacheKeyParameterPositions(), invocationContext.getParameters());
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debugf("Loading entry with key [%s] from cache [%s]", key, binding.cacheName());
@@ -108,9 +117,48 @@ public class CacheResultInterceptor extends CacheInterceptor {
         }
     }
 
+    @SuppressWarnings("unchecked")
+    private Object interceptBulk(InvocationContext invocationContext, AbstractCache cache,
+            List<Short> cacheKeyParameterPositions) throws Throwable {
+        // The method signature was validated at build time: the cache key is a single collection parameter.
+        int position = cacheKeyParameterPositions.isEmpty() ? 0 : cacheKeyParameterPositions.get(0);
+        Object[] parameters = invocationContext.getParameters();
+        Collection<Object> keys = (Collection<Object>) parameters[position];
+        boolean setParameter = invocationContext.getMethod().getParameterTypes()[position]
+                .isAssignableFrom(LinkedHashSet.class);
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debugf("Loading entries with keys %s from cache [%s]", keys, cache.getName());
+        }
+        try {
+            return cache.getAll(keys, new Function<Set<Object>, Map<Object, Object>>() {
+                @Override
+                public Map<Object, Object> apply(Set<Object> missingKeys) {
+                    Object[] missingKeysParameters = parameters.clone();
+                    missingKeysParameters[position] = setParameter ? missingKeys : new ArrayList<>(missingKeys);
+                    invocationContext.setParameters(missingKeysParameters);
+                    try {
+                        return (Map<Object, Object>) invocationContext.proceed();
+                    } catch (Exception e) {
+                        throw new CacheException(e);
+                    }
+                }
+            });
+        } catch (CacheException e) {
+            throw e.getCause() != null ? e.getCause() : e;
+        }
+    }
+
     private Object resolveUni(InvocationContext invocationContext, AbstractCache cache, Object key, Object value)
             throws Exception {
-        if (value == UnresolvedUniValue.INSTANCE) {
+        if (value instanceof UniValueRefresh) {
+            UniValueRefresh refresh = (UniValueRefresh) value;
+            try {
+                ((Uni<Object>) invocationContext.proceed()).subscribe().with(refresh::complete, refresh::fail);
+            } catch (Exception e) {
+                refresh.fail(e);
+            }
+            return Uni.createFrom().item(refresh.getStaleValue());
+        } else if (value == UnresolvedUniValue.INSTANCE) {
             return ((Uni<Object>) invocationContext.proceed())
                     .onItem().call(emittedValue -> cache.replaceUniValue(key, emittedValue));
         } else {
@@ -1,5 +1,6 @@
 package io.quarkus.cache.runtime;
 
+import java.io.Serializable;
 import java.util.Arrays;
 
 /**
@@ -8,7 +9,9 @@ import java.util.Arrays;
  * when the cache key is composed of several of the method arguments (annotated with {@link io.quarkus.cache.CacheKey CacheKey}
  * or not).
  */
-public class CompositeCacheKey {
+public class CompositeCacheKey implements Serializable {
+
+    private static final long serialVersionUID = 1L;
 
     private final Object[] keyElements;
 
@@ -1,12 +1,15 @@
 package io.quarkus.cache.runtime;
 
+import java.io.Serializable;
 import java.util.Objects;
 
 /**
  * A default cache key is used by the annotations caching API when a no-args method annotated with
  * {@link io.quarkus.cache.CacheResult CacheResult} or {@link io.quarkus.cache.CacheInvalidate CacheInvalidate} is invoked.
  */
-public class DefaultCacheKey {
+public class DefaultCacheKey implements Serializable {
+
+    private static final long serialVersionUID = 1L;
 
     private final String cacheName;
 
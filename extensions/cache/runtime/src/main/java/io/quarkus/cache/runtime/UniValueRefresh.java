@@ -0,0 +1,32 @@
+package io.quarkus.cache.runtime;
+
+import java.util.function.BiConsumer;
+
+/**
+ * This value is returned by the cache in place of the value of a method returning a {@link io.smallrye.mutiny.Uni Uni} when
+ * that value is due for a refresh. The caller gets the stale value while the {@link io.smallrye.mutiny.Uni Uni} returned by
+ * the method is subscribed to, and its outcome is reported to the cache which replaces the stale value or keeps it.
+ */
+public class UniValueRefresh {
+
+    private final Object staleValue;
+
+    private final BiConsumer<Object, Throwable> completion;
+
+    public UniValueRefresh(Object staleValue, BiConsumer<Object, Throwable> completion) {
+        this.staleValue = staleValue;
+        this.completion = completion;
+    }
+
+    public Object getStaleValue() {
+        return staleValue;
+    }
+
+    public void complete(Object emittedValue) {
+        completion.accept(emittedValue, null);
+    }
+
+    public void fail(Throwable failure) {
+        completion.accept(null, failure);
+    }
+}
@@ -1,18 +1,35 @@
 package io.quarkus.cache.runtime.caffeine;
 
 import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 
 import org.jboss.logging.Logger;
 
 import com.github.benmanes.caffeine.cache.AsyncCache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
+import com.github.benmanes.caffeine.cache.stats.StatsCounter;
 
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.InjectableContext.ContextState;
+import io.quarkus.arc.ManagedContext;
 import io.quarkus.cache.runtime.AbstractCache;
 import io.quarkus.cache.runtime.CacheException;
 import io.quarkus.cache.runtime.NullValueConverter;
+import io.quarkus.cache.runtime.UniValueRefresh;
+import io.quarkus.cache.runtime.UnresolvedUniValue;
 import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
 
 /**
  * This class is an internal Quarkus cache implementation. Do not use it explicitly from your Quarkus application. The public
@@ -22,6 +39,8 @@ public class CaffeineCache extends AbstractCache {
 
     private static final Logger LOGGER = Logger.getLogger(CaffeineCache.class);
 
+    private static final Object MISSING_VALUE = new Object();
+
     private AsyncCache<Object, Object> cache;
 
     private String name;
@@ -34,6 +53,22 @@ public class CaffeineCache extends AbstractCache {
 
     private Duration expireAfterAccess;
 
+    private Duration refreshAfterWrite;
+
+    private long refreshAfterWriteNanos;
+
+    /*
+     * Hits, misses and loads can't be recorded by Caffeine itself because the cache is accessed through its map view. This
+     * counter is shared with Caffeine, which records the evictions. It is null when the metrics are disabled.
+     */
+    private StatsCounter statsCounter;
+
+    private final LongAdder refreshCount = new LongAdder();
+
+    private final LongAdder refreshFailureCount = new LongAdder();
+
+    private final LongAdder refreshTotalTimeNanos = new LongAdder();
+
     public CaffeineCache(CaffeineCacheInfo cacheInfo) {
         this.name = cacheInfo.name;
         Caffeine<Object, Object> builder = Caffeine.newBuilder();
@@ -53,6 +88,19 @@ public class CaffeineCache extends AbstractCache {
             this.expireAfterAccess = cacheInfo.expireAfterAccess;
             builder.expireAfterAccess(cacheInfo.expireAfterAccess);
         }
+        if (cacheInfo.refreshAfterWrite != null) {
+            /*
+             * The refresh is not delegated to Caffeine because its loader would have to be known when the cache is built,
+             * while the value loader of this cache is provided by the caller of the get method.
+             */
+            this.refreshAfterWrite = cacheInfo.refreshAfterWrite;
+            this.refreshAfterWriteNanos = cacheInfo.refreshAfterWrite.toNanos();
+        }
+        if (cacheInfo.metricsEnabled) {
+            StatsCounter statsCounter = new ConcurrentStatsCounter();
+            this.statsCounter = statsCounter;
+            builder.recordStats(() -> statsCounter);
+        }
         cache = builder.buildAsync();
     }
 
@@ -65,6 +113,12 @@ public class CaffeineCache extends AbstractCache {
      * Returns a {@link CompletableFuture} holding the cache value identified by {@code key}, obtaining that value from
      * {@code valueLoader} if necessary. The value computation is done synchronously on the calling thread and the
      * {@link CompletableFuture} is immediately completed before being returned.
+     * <p>
+     * If the cache is configured with a {@code refresh-after-write} duration and the existing value is due for a refresh, the
+     * value is recomputed asynchronously on the Mutiny default worker pool, with the request context of the caller, once,
+     * while all the callers, including the one which triggered the refresh, keep getting the stale value without blocking.
+     * If the refresh fails, the stale value is kept and the refresh will be attempted again later. The value of a method returning a {@link Uni} is refreshed by
+     * the caller subscribing to the {@link Uni}, see {@link UniValueRefresh}.
      * 
      * @param key cache key
      * @param valueLoader function used to compute the cache value if {@code key} is not already associated with a value
@@ -79,19 +133,304 @@ public class CaffeineCache extends AbstractCache {
         CompletableFuture<Object> newCacheValue = new CompletableFuture<>();
         CompletableFuture<Object> existingCacheValue = cache.asMap().putIfAbsent(key, newCacheValue);
         if (existingCacheValue == null) {
+            long start = statsCounter != null ? System.nanoTime() : 0L;
             try {
-                Object value = valueLoader.apply(key);
-                newCacheValue.complete(NullValueConverter.toCacheValue(value));
+                Object value = loadValue(key, valueLoader);
+                newCacheValue.complete(toCacheValue(value));
+                if (statsCounter != null) {
+                    statsCounter.recordMisses(1);
+                    statsCounter.recordLoadSuccess(System.nanoTime() - start);
+                }
             } catch (Throwable t) {
                 cache.asMap().remove(key, newCacheValue);
                 newCacheValue.complete(new CaffeineComputationThrowable(t));
+                if (statsCounter != null) {
+                    statsCounter.recordMisses(1);
+                    statsCounter.recordLoadFailure(System.nanoTime() - start);
+                }
             }
             return unwrapCacheValueOrThrowable(newCacheValue);
         } else {
+            if (statsCounter != null) {
+                statsCounter.recordHits(1);
+            }
+            if (refreshAfterWrite != null && existingCacheValue.isDone()) {
+                Object currentValue = existingCacheValue.getNow(null);
+                if (currentValue instanceof RefreshableCacheValue
+                        && ((RefreshableCacheValue) currentValue).startRefreshIfDue(refreshAfterWriteNanos)) {
+                    return refresh(key, valueLoader, existingCacheValue, (RefreshableCacheValue) currentValue);
+                }
+            }
             return unwrapCacheValueOrThrowable(existingCacheValue);
         }
     }
 
+    /**
+     * Returns the values associated with the given keys, obtaining the missing values from {@code mappingFunction} if
+     * necessary. The values computation is done synchronously on the calling thread. Unlike
+     * {@link #get(Object, Function)}, the concurrent computations of a missing value are not prevented. The values which are
+     * still being computed by another caller are considered missing. The values which are due for a refresh are returned
+     * while they are recomputed asynchronously on the Mutiny default worker pool with a single call to
+     * {@code mappingFunction}. If that refresh fails, the stale values are kept.
+     *
+     * @throws CacheException if an exception is thrown during the cache values computation
+     */
+    @Override
+    public Map<Object, Object> getAll(Collection<Object> keys, Function<Set<Object>, Map<Object, Object>> mappingFunction) {
+        Map<Object, Object> presentValues = new LinkedHashMap<>();
+        Set<Object> missingKeys = new LinkedHashSet<>();
+        Map<Object, CompletableFuture<Object>> staleCacheValues = new LinkedHashMap<>();
+        for (Object key : keys) {
+            if (key == null) {
+                throw new NullPointerException(NULL_KEYS_NOT_SUPPORTED_MSG);
+            }
+            Object value = getPresentValue(key, staleCacheValues);
+            if (value == MISSING_VALUE) {
+                missingKeys.add(key);
+            } else {
+                presentValues.put(key, value);
+            }
+        }
+        if (statsCounter != null) {
+            statsCounter.recordHits(presentValues.size());
+            statsCounter.recordMisses(missingKeys.size());
+        }
+        if (missingKeys.isEmpty()) {
+            refreshAll(staleCacheValues, mappingFunction);
+            return presentValues;
+        }
+
+        Map<Object, Object> loadedValues;
+        long start = statsCounter != null ? System.nanoTime() : 0L;
+        try {
+            loadedValues = loadValues(missingKeys, mappingFunction);
+        } catch (Throwable t) {
+            if (statsCounter != null) {
+                statsCounter.recordLoadFailure(System.nanoTime() - start);
+            }
+            throw t;
+        } finally {
+            // Started once the missing values are loaded, as the mapping function may not support concurrent calls
+            refreshAll(staleCacheValues, mappingFunction);
+        }
+        if (statsCounter != null) {
+            statsCounter.recordLoadSuccess(System.nanoTime() - start);
+        }
+
+        Map<Object, Object> result = new LinkedHashMap<>();
+        for (Object key : keys) {
+            if (presentValues.containsKey(key)) {
+                result.put(key, presentValues.get(key));
+            } else if (loadedValues != null && loadedValues.containsKey(key)) {
+                Object value = loadedValues.get(key);
+                cache.asMap().put(key, CompletableFuture.completedFuture(toCacheValue(value)));
+                result.put(key, value);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the value associated with the given key, or {@link #MISSING_VALUE}. If the value is due for a refresh, its
+     * cache value is added to {@code staleCacheValues}.
+     */
+    private Object getPresentValue(Object key, Map<Object, CompletableFuture<Object>> staleCacheValues) {
+        CompletableFuture<Object> cacheValue = cache.asMap().get(key);
+        if (cacheValue == null || !cacheValue.isDone() || cacheValue.isCompletedExceptionally()) {
+            return MISSING_VALUE;
+        }
+        Object value = cacheValue.getNow(null);
+        if (value instanceof CaffeineComputationThrowable) {
+            return MISSING_VALUE;
+        }
+        if (value instanceof RefreshableCacheValue) {
+            RefreshableCacheValue refreshableValue = (RefreshableCacheValue) value;
+            if (refreshableValue.getValue() == UnresolvedUniValue.INSTANCE) {
+                return MISSING_VALUE;
+            }
+            if (refreshableValue.startRefreshIfDue(refreshAfterWriteNanos)) {
+                staleCacheValues.put(key, cacheValue);
+            }
+            value = refreshableValue.getValue();
+        }
+        if (value == UnresolvedUniValue.INSTANCE) {
+            return MISSING_VALUE;
+        }
+        return NullValueConverter.fromCacheValue(value);
+    }
+
+    private void refreshAll(Map<Object, CompletableFuture<Object>> staleCacheValues,
+            Function<Set<Object>, Map<Object, Object>> mappingFunction) {
+        if (staleCacheValues.isEmpty()) {
+            return;
+        }
+        LOGGER.debugf("Refreshing entries with keys %s in cache [%s]", staleCacheValues.keySet(), name);
+        long start = System.nanoTime();
+        try {
+            executeRefresh(new Runnable() {
+                @Override
+                public void run() {
+                    Throwable failure = null;
+                    try {
+                        Map<Object, Object> refreshedValues = refreshValues(new LinkedHashSet<>(staleCacheValues.keySet()),
+                                mappingFunction);
+                        if (refreshedValues != null) {
+                            for (Map.Entry<Object, CompletableFuture<Object>> stale : staleCacheValues.entrySet()) {
+                                if (refreshedValues.containsKey(stale.getKey())) {
+                                    // If the entry was invalidated or replaced in the meantime, we don't want to override it.
+                                    cache.asMap().replace(stale.getKey(), stale.getValue(), CompletableFuture
+                                            .completedFuture(toCacheValue(refreshedValues.get(stale.getKey()))));
+                                }
+                            }
+                        }
+                    } catch (Throwable t) {
+                        failure = t;
+                    }
+                    completeRefresh(staleCacheValues.keySet(), staleCacheValues.size(), start, failure);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            completeRefresh(staleCacheValues.keySet(), staleCacheValues.size(), start, e);
+        }
+    }
+
+    private CompletableFuture<Object> refresh(Object key, Function<Object, Object> valueLoader,
+            CompletableFuture<Object> staleCacheValue, RefreshableCacheValue staleValue) {
+        if (staleValue.isUniValue()) {
+            if (staleValue.getValue() == UnresolvedUniValue.INSTANCE) {
+                // The Uni has not emitted an item yet, there is nothing to refresh
+                return CompletableFuture.completedFuture(UnresolvedUniValue.INSTANCE);
+            }
+            LOGGER.debugf("Refreshing Uni value entry with key [%s] in cache [%s]", key, name);
+            long start = System.nanoTime();
+            return CompletableFuture.completedFuture(
+                    new UniValueRefresh(NullValueConverter.fromCacheValue(staleValue.getValue()), (emittedValue, failure) -> {
+                        if (failure == null) {
+                            // If the entry was invalidated in the meantime, it is not put back
+                            replaceUniValue(key, emittedValue).subscribe().with(ignored -> {
+                            }, t -> LOGGER.warnf(t, "Unable to replace entry with key [%s] in cache [%s]", key, name));
+                        }
+                        completeRefresh(key, 1, start, failure);
+                    }));
+        }
+        LOGGER.debugf("Refreshing entry with key [%s] in cache [%s]", key, name);
+        long start = System.nanoTime();
+        try {
+            executeRefresh(new Runnable() {
+                @Override
+                public void run() {
+                    Throwable failure = null;
+                    try {
+                        Object value = refreshValue(key, valueLoader);
+                        if (value != UnresolvedUniValue.INSTANCE) {
+                            // If the entry was invalidated or replaced in the meantime, we don't want to override it.
+                            cache.asMap().replace(key, staleCacheValue,
+                                    CompletableFuture.completedFuture(toCacheValue(value)));
+                        }
+                    } catch (Throwable t) {
+                        failure = t;
+                    }
+                    completeRefresh(key, 1, start, failure);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            completeRefresh(key, 1, start, e);
+        }
+        return unwrapCacheValueOrThrowable(staleCacheValue);
+    }
+
+    /**
+     * Computes the value of an entry missing from the cache.
+     */
+    protected Object loadValue(Object key, Function<Object, Object> valueLoader) {
+        return valueLoader.apply(key);
+    }
+
+    /**
+     * Computes the values of the entries missing from the cache.
+     */
+    protected Map<Object, Object> loadValues(Set<Object> keys, Function<Set<Object>, Map<Object, Object>> mappingFunction) {
+        return mappingFunction.apply(keys);
+    }
+
+    /**
+     * Recomputes the value of an entry due for a refresh. Unlike {@link #loadValue(Object, Function)}, the value must not be
+     * looked up in a store which may hold a copy as old as the refreshed one.
+     */
+    protected Object refreshValue(Object key, Function<Object, Object> valueLoader) {
+        return valueLoader.apply(key);
+    }
+
+    /**
+     * Recomputes the values of the entries due for a refresh.
+     *
+     * @see #refreshValue(Object, Function)
+     */
+    protected Map<Object, Object> refreshValues(Set<Object> keys,
+            Function<Set<Object>, Map<Object, Object>> mappingFunction) {
+        return mappingFunction.apply(keys);
+    }
+
+    /**
+     * Runs a refresh on the Mutiny default worker pool with the request context of the caller, so that the value is
+     * recomputed with the same request scoped beans, such as the security identity, as when it was loaded. The context is
+     * only propagated, it is still terminated when the request of the caller ends. A new request context is activated for
+     * the refresh if the caller has none.
+     */
+    private static void executeRefresh(Runnable refresh) {
+        ArcContainer container = Arc.container();
+        ManagedContext requestContext = container != null ? container.requestContext() : null;
+        ContextState state = requestContext != null && requestContext.isActive() ? requestContext.getState() : null;
+        Infrastructure.getDefaultWorkerPool().execute(new Runnable() {
+            @Override
+            public void run() {
+                if (requestContext == null) {
+                    refresh.run();
+                    return;
+                }
+                if (state != null) {
+                    requestContext.activate(state);
+                } else {
+                    requestContext.activate();
+                }
+                try {
+                    refresh.run();
+                } finally {
+                    if (state != null) {
+                        requestContext.deactivate();
+                    } else {
+                        requestContext.terminate();
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * Records the outcome of the refresh of {@code count} entries, {@code key} being their key or the set of their keys.
+     */
+    private void completeRefresh(Object key, int count, long start, Throwable failure) {
+        if (failure != null) {
+            LOGGER.warnf(failure, "Refresh of entry with key [%s] in cache [%s] failed, the stale value will be used", key,
+                    name);
+            refreshFailureCount.add(count);
+        }
+        refreshCount.add(count);
+        refreshTotalTimeNanos.add(System.nanoTime() - start);
+    }
+
+    private Object toCacheValue(Object value) {
+        return toCacheValue(value, value == UnresolvedUniValue.INSTANCE);
+    }
+
+    private Object toCacheValue(Object value, boolean uniValue) {
+        Object cacheValue = NullValueConverter.toCacheValue(value);
+        if (refreshAfterWrite != null) {
+            return new RefreshableCacheValue(cacheValue, uniValue, refreshAfterWriteNanos);
+        }
+        return cacheValue;
+    }
+
     private CompletableFuture<Object> unwrapCacheValueOrThrowable(CompletableFuture<Object> cacheValue) {
         return cacheValue.thenApply(new Function<>() {
             @Override
@@ -104,6 +443,8 @@ public class CaffeineCache extends AbstractCache {
                     } else {
                         throw new CacheException(cause);
                     }
+                } else if (value instanceof RefreshableCacheValue) {
+                    return NullValueConverter.fromCacheValue(((RefreshableCacheValue) value).getValue());
                 } else {
                     return NullValueConverter.fromCacheValue(value);
                 }
@@ -134,7 +475,7 @@ public class CaffeineCache extends AbstractCache {
                  * The following computed value will always replace the current cache value (whether it is an
                  * UnresolvedUniValue or not) if this method is called multiple times with the same key.
                  */
-                return CompletableFuture.completedFuture(NullValueConverter.toCacheValue(emittedValue));
+                return CompletableFuture.completedFuture(toCacheValue(emittedValue, true));
             });
             return null;
         });
@@ -160,6 +501,51 @@ public class CaffeineCache extends AbstractCache {
         return expireAfterAccess;
     }
 
+    // For testing purposes only.
+    public Duration getRefreshAfterWrite() {
+        return refreshAfterWrite;
+    }
+
+    public boolean isMetricsEnabled() {
+        return statsCounter != null;
+    }
+
+    /**
+     * Returns {@code true} if the entries of this cache are refreshed once the {@code refresh-after-write} duration has
+     * elapsed.
+     */
+    public boolean isRefreshEnabled() {
+        return refreshAfterWrite != null;
+    }
+
+    /**
+     * Returns a snapshot of the cache statistics. All the values are zero unless the metrics are enabled for this cache.
+     */
+    public CacheStats getStats() {
+        return cache.synchronous().stats();
+    }
+
+    /**
+     * Returns the number of refreshes that were attempted since the cache was created, including the failed ones.
+     */
+    public long getRefreshCount() {
+        return refreshCount.sum();
+    }
+
+    /**
+     * Returns the number of refreshes that failed since the cache was created.
+     */
+    public long getRefreshFailureCount() {
+        return refreshFailureCount.sum();
+    }
+
+    /**
+     * Returns the total time in nanoseconds spent refreshing cache values since the cache was created.
+     */
+    public long getRefreshTotalTime() {
+        return refreshTotalTimeNanos.sum();
+    }
+
     public long getSize() {
         return cache.synchronous().estimatedSize();
     }
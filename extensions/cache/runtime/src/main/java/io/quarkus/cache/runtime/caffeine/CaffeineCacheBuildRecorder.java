@@ -12,6 +12,7 @@ import org.jboss.logging.Logger;
 import io.quarkus.cache.Cache;
 import io.quarkus.cache.CacheManager;
 import io.quarkus.cache.runtime.CacheManagerImpl;
+import io.quarkus.cache.runtime.redis.RedisBackedCaffeineCache;
 import io.quarkus.runtime.annotations.Recorder;
 
 @Recorder
@@ -32,11 +33,19 @@ public class CaffeineCacheBuildRecorder {
                     for (CaffeineCacheInfo cacheInfo : cacheInfos) {
                         if (LOGGER.isDebugEnabled()) {
                             LOGGER.debugf(
-                                    "Building Caffeine cache [%s] with [initialCapacity=%s], [maximumSize=%s], [expireAfterWrite=%s] and [expireAfterAccess=%s]",
+                                    "Building Caffeine cache [%s] with [initialCapacity=%s], [maximumSize=%s], [expireAfterWrite=%s], [expireAfterAccess=%s], [refreshAfterWrite=%s], [metricsEnabled=%s] and [redisEnabled=%s]",
                                     cacheInfo.name, cacheInfo.initialCapacity, cacheInfo.maximumSize,
-                                    cacheInfo.expireAfterWrite, cacheInfo.expireAfterAccess);
+                                    cacheInfo.expireAfterWrite, cacheInfo.expireAfterAccess, cacheInfo.refreshAfterWrite,
+                                    cacheInfo.metricsEnabled, cacheInfo.redisEnabled);
+                        }
+                        CaffeineCache cache;
+                        if (cacheInfo.redisEnabled) {
+                            RedisBackedCaffeineCache redisBackedCache = new RedisBackedCaffeineCache(cacheInfo);
+                            redisBackedCache.init();
+                            cache = redisBackedCache;
+                        } else {
+                            cache = new CaffeineCache(cacheInfo);
                         }
-                        CaffeineCache cache = new CaffeineCache(cacheInfo);
                         caches.put(cacheInfo.name, cache);
                     }
                     return new CacheManagerImpl(caches);
@@ -1,6 +1,7 @@
 package io.quarkus.cache.runtime.caffeine;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.Objects;
 
 public class CaffeineCacheInfo {
@@ -15,6 +16,16 @@ public class CaffeineCacheInfo {
 
     public Duration expireAfterAccess;
 
+    public Duration refreshAfterWrite;
+
+    public boolean metricsEnabled;
+
+    public boolean redisEnabled;
+
+    public Duration redisExpireAfterWrite;
+
+    public List<String> redisAllowedClasses;
+
     @Override
     public int hashCode() {
         return Objects.hash(name);
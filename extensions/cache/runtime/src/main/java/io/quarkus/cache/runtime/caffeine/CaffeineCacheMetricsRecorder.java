@@ -0,0 +1,88 @@
+package io.quarkus.cache.runtime.caffeine;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheManager;
+import io.quarkus.cache.runtime.CaffeineCacheSupplier;
+import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
+
+@Recorder
+public class CaffeineCacheMetricsRecorder {
+
+    /* RUNTIME_INIT */
+    public Consumer<MetricsFactory> registerCacheMetrics(Set<String> cacheNames) {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                CacheManager cacheManager = CaffeineCacheSupplier.cacheManager();
+                for (String cacheName : cacheNames) {
+                    Cache cache = cacheManager.getCache(cacheName).orElse(null);
+                    if (cache instanceof CaffeineCache) {
+                        registerCacheMetrics(metricsFactory, (CaffeineCache) cache);
+                    }
+                }
+            }
+        };
+    }
+
+    private static void registerCacheMetrics(MetricsFactory metricsFactory, CaffeineCache cache) {
+        String cacheName = cache.getName();
+
+        metricsFactory.builder("cache.size")
+                .description("The approximate number of entries in the cache.")
+                .tag("cache", cacheName)
+                .buildGauge(cache::getSize);
+
+        metricsFactory.builder("cache.gets")
+                .description("The number of times cache lookups have returned a cached value.")
+                .tag("cache", cacheName)
+                .tag("result", "hit")
+                .buildCounter(() -> cache.getStats().hitCount());
+        metricsFactory.builder("cache.gets")
+                .description("The number of times cache lookups have returned an uncached value.")
+                .tag("cache", cacheName)
+                .tag("result", "miss")
+                .buildCounter(() -> cache.getStats().missCount());
+
+        metricsFactory.builder("cache.loads")
+                .description("The number of times cache values have been successfully computed.")
+                .tag("cache", cacheName)
+                .tag("result", "success")
+                .buildCounter(() -> cache.getStats().loadSuccessCount());
+        metricsFactory.builder("cache.loads")
+                .description("The number of times the computation of a cache value has failed.")
+                .tag("cache", cacheName)
+                .tag("result", "failure")
+                .buildCounter(() -> cache.getStats().loadFailureCount());
+        metricsFactory.builder("cache.load.time.total")
+                .description("The total time spent computing cache values.")
+                .tag("cache", cacheName)
+                .unit("milliseconds")
+                .buildCounter(() -> TimeUnit.NANOSECONDS.toMillis(cache.getStats().totalLoadTime()));
+
+        metricsFactory.builder("cache.evictions")
+                .description("The number of times cache entries have been evicted.")
+                .tag("cache", cacheName)
+                .buildCounter(() -> cache.getStats().evictionCount());
+
+        if (cache.isRefreshEnabled()) {
+            metricsFactory.builder("cache.refreshes")
+                    .description("The number of times cache values have been refreshed, including the failed refreshes.")
+                    .tag("cache", cacheName)
+                    .buildCounter(cache::getRefreshCount);
+            metricsFactory.builder("cache.refresh.failures")
+                    .description("The number of times the refresh of a cache value has failed.")
+                    .tag("cache", cacheName)
+                    .buildCounter(cache::getRefreshFailureCount);
+            metricsFactory.builder("cache.refresh.time.total")
+                    .description("The total time spent refreshing cache values.")
+                    .tag("cache", cacheName)
+                    .unit("milliseconds")
+                    .buildCounter(() -> TimeUnit.NANOSECONDS.toMillis(cache.getRefreshTotalTime()));
+        }
+    }
+}
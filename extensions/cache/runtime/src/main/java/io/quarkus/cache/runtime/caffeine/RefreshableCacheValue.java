@@ -0,0 +1,45 @@
+package io.quarkus.cache.runtime.caffeine;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * This class wraps the cache values of a Caffeine cache configured with {@code refresh-after-write}. It keeps track of the
+ * time when a refresh of the value is due, which makes it possible to elect a single caller that recomputes the value while
+ * the other callers keep getting the current (stale) value.
+ */
+class RefreshableCacheValue {
+
+    private final Object value;
+
+    private final boolean uniValue;
+
+    private final AtomicLong refreshDueNanos;
+
+    RefreshableCacheValue(Object value, boolean uniValue, long refreshAfterWriteNanos) {
+        this.value = value;
+        this.uniValue = uniValue;
+        this.refreshDueNanos = new AtomicLong(System.nanoTime() + refreshAfterWriteNanos);
+    }
+
+    Object getValue() {
+        return value;
+    }
+
+    /**
+     * Returns {@code true} if this value was emitted by a {@link io.smallrye.mutiny.Uni Uni}, or is the placeholder of a
+     * {@link io.smallrye.mutiny.Uni Uni} which has not been resolved yet.
+     */
+    boolean isUniValue() {
+        return uniValue;
+    }
+
+    /**
+     * Returns {@code true} if a refresh of this value is due and the current thread won the right to perform it. The next
+     * refresh is postponed by {@code refreshAfterWriteNanos} so that a failed refresh will eventually be retried.
+     */
+    boolean startRefreshIfDue(long refreshAfterWriteNanos) {
+        long due = refreshDueNanos.get();
+        long now = System.nanoTime();
+        return now - due >= 0 && refreshDueNanos.compareAndSet(due, now + refreshAfterWriteNanos);
+    }
+}
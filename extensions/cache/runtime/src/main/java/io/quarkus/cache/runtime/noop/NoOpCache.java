@@ -1,5 +1,9 @@
 package io.quarkus.cache.runtime.noop;
 
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 
@@ -31,6 +35,11 @@ public class NoOpCache extends AbstractCache {
         return cacheValue;
     }
 
+    @Override
+    public Map<Object, Object> getAll(Collection<Object> keys, Function<Set<Object>, Map<Object, Object>> mappingFunction) {
+        return mappingFunction.apply(new LinkedHashSet<>(keys));
+    }
+
     @Override
     public void invalidate(Object key) {
     }
@@ -0,0 +1,111 @@
+package io.quarkus.cache.runtime.redis;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.util.Base64;
+import java.util.List;
+
+import io.quarkus.cache.CacheValueCodec;
+import io.quarkus.cache.runtime.CacheException;
+
+/**
+ * Default {@link CacheValueCodec} which relies on Java serialization. The serialized form is Base64 encoded.
+ * <p>
+ * Anyone who can write to Redis controls the bytes which are deserialized, so only the classes of an explicit allow-list
+ * can be deserialized: the classes of the {@code java.lang}, {@code java.util}, {@code java.time} and {@code java.math}
+ * packages, the cache keys generated by the interceptors and the classes matching the configured patterns. Every other
+ * class is rejected before it is instantiated.
+ */
+public class JavaSerializationCacheValueCodec implements CacheValueCodec {
+
+    private static final String DEFAULT_ALLOWED_CLASSES = "java.lang.*;java.util.*;java.time.*;java.math.*;"
+            + "io.quarkus.cache.runtime.DefaultCacheKey;io.quarkus.cache.runtime.CompositeCacheKey";
+
+    private final ObjectInputFilter filter;
+
+    /**
+     * @param allowedClasses the patterns of the application classes which can be deserialized, in the syntax of
+     *        {@link ObjectInputFilter.Config#createFilter(String)}, such as {@code org.acme.Order} or {@code org.acme.*}
+     * @throws IllegalArgumentException if {@code allowedClasses} is empty or contains an invalid pattern
+     */
+    public JavaSerializationCacheValueCodec(List<String> allowedClasses) {
+        if (allowedClasses == null || allowedClasses.isEmpty()) {
+            throw new IllegalArgumentException("At least one allowed class is required to deserialize cache values");
+        }
+        StringBuilder patterns = new StringBuilder(DEFAULT_ALLOWED_CLASSES);
+        for (String allowedClass : allowedClasses) {
+            String pattern = allowedClass.trim();
+            if (pattern.isEmpty() || pattern.startsWith("!") || pattern.contains(";") || pattern.contains("=")) {
+                throw new IllegalArgumentException("Invalid allowed class pattern: " + allowedClass);
+            }
+            patterns.append(';').append(pattern);
+        }
+        // Everything else is rejected
+        patterns.append(";!*");
+        this.filter = ObjectInputFilter.Config.createFilter(patterns.toString());
+    }
+
+    @Override
+    public String encodeKey(Object key) {
+        return encode(key);
+    }
+
+    @Override
+    public Object decodeKey(String encodedKey) {
+        return decode(encodedKey);
+    }
+
+    @Override
+    public String encodeValue(Object value) {
+        return encode(value);
+    }
+
+    @Override
+    public Object decodeValue(String encodedValue) {
+        return decode(encodedValue);
+    }
+
+    private static String encode(Object object) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(object);
+        } catch (IOException e) {
+            throw new CacheException(e);
+        }
+        return Base64.getEncoder().encodeToString(bytes.toByteArray());
+    }
+
+    private Object decode(String encoded) {
+        byte[] bytes = Base64.getDecoder().decode(encoded);
+        try (ObjectInputStream in = new TcclObjectInputStream(new ByteArrayInputStream(bytes))) {
+            in.setObjectInputFilter(filter);
+            return in.readObject();
+        } catch (IOException | ClassNotFoundException e) {
+            throw new CacheException(e);
+        }
+    }
+
+    /**
+     * Resolves the classes with the TCCL so that the application classes are visible in dev mode.
+     */
+    private static class TcclObjectInputStream extends ObjectInputStream {
+
+        TcclObjectInputStream(ByteArrayInputStream in) throws IOException {
+            super(in);
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            try {
+                return Class.forName(desc.getName(), false, Thread.currentThread().getContextClassLoader());
+            } catch (ClassNotFoundException e) {
+                return super.resolveClass(desc);
+            }
+        }
+    }
+}
@@ -0,0 +1,424 @@
+package io.quarkus.cache.runtime.redis;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.InstanceHandle;
+import io.quarkus.cache.CacheValueCodec;
+import io.quarkus.cache.runtime.UnresolvedUniValue;
+import io.quarkus.cache.runtime.caffeine.CaffeineCache;
+import io.quarkus.cache.runtime.caffeine.CaffeineCacheInfo;
+import io.quarkus.redis.client.RedisClient;
+import io.quarkus.redis.client.reactive.ReactiveRedisClient;
+import io.quarkus.runtime.configuration.ConfigurationException;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.redis.client.Command;
+import io.vertx.redis.client.Redis;
+import io.vertx.redis.client.RedisConnection;
+import io.vertx.redis.client.Request;
+import io.vertx.redis.client.Response;
+
+/**
+ * This class is an internal Quarkus cache implementation. Do not use it explicitly from your Quarkus application. The public
+ * methods signatures may change without prior notice.
+ * <p>
+ * A two-tier cache: the Caffeine cache is used as a near cache (L1) in front of the default Redis client (L2), which is
+ * shared by all the application instances. The invalidations are broadcast to the other instances using Redis pub/sub so
+ * that they can clear their near cache. The entries due for a refresh are recomputed without reading Redis, and the new
+ * values are written through to Redis.
+ * <p>
+ * The Redis commands are never sent in a blocking way from an event loop thread: in that case, the L2 lookup is skipped and
+ * the writes are sent asynchronously. A Redis failure is never propagated to the caller, the value is computed instead.
+ */
+public class RedisBackedCaffeineCache extends CaffeineCache implements Closeable {
+
+    private static final Logger LOGGER = Logger.getLogger(RedisBackedCaffeineCache.class);
+
+    private static final String KEY_PREFIX = "quarkus-cache:";
+    private static final String CHANNEL_PREFIX = "quarkus-cache-invalidation:";
+    private static final String INVALIDATE_KEY_MESSAGE_PREFIX = "key:";
+    private static final String INVALIDATE_ALL_MESSAGE = "all";
+    private static final String SCAN_BATCH_SIZE = "500";
+    private static final long MIN_RESUBSCRIBE_DELAY_MILLIS = 500;
+    private static final long MAX_RESUBSCRIBE_DELAY_MILLIS = 30_000;
+
+    private final String keyPrefix;
+    private final String channel;
+    private final Duration redisExpireAfterWrite;
+
+    private final List<String> allowedClasses;
+
+    private volatile RedisClient redisClient;
+    private volatile ReactiveRedisClient reactiveRedisClient;
+    private volatile CacheValueCodec codec;
+
+    private volatile Redis redis;
+    private volatile Vertx vertx;
+    // Guarded by this
+    private RedisConnection subscriber;
+    private long resubscribeTimerId = -1;
+    private long resubscribeDelayMillis = MIN_RESUBSCRIBE_DELAY_MILLIS;
+    private boolean subscribedOnce;
+    private volatile boolean subscribed;
+    private volatile boolean closed;
+
+    public RedisBackedCaffeineCache(CaffeineCacheInfo cacheInfo) {
+        super(cacheInfo);
+        this.keyPrefix = KEY_PREFIX + cacheInfo.name + ":";
+        this.channel = CHANNEL_PREFIX + cacheInfo.name;
+        this.redisExpireAfterWrite = cacheInfo.redisExpireAfterWrite;
+        this.allowedClasses = cacheInfo.redisAllowedClasses;
+    }
+
+    /**
+     * Retrieves the Redis clients and subscribes to the invalidation channel of this cache.
+     *
+     * @throws ConfigurationException if the default codec is used and no class is allowed to be deserialized
+     */
+    public void init() {
+        redisClient = Arc.container().instance(RedisClient.class).get();
+        reactiveRedisClient = Arc.container().instance(ReactiveRedisClient.class).get();
+        InstanceHandle<CacheValueCodec> codecHandle = Arc.container().instance(CacheValueCodec.class);
+        if (codecHandle.isAvailable()) {
+            codec = codecHandle.get();
+        } else if (allowedClasses == null || allowedClasses.isEmpty()) {
+            throw new ConfigurationException("The classes which can be deserialized from Redis must be set with "
+                    + "quarkus.cache.caffeine.\"" + getName() + "\".redis.allowed-classes, or a "
+                    + CacheValueCodec.class.getName() + " bean must be provided");
+        } else {
+            try {
+                codec = new JavaSerializationCacheValueCodec(allowedClasses);
+            } catch (IllegalArgumentException e) {
+                throw new ConfigurationException("Invalid allowed classes for the Redis backed cache [" + getName() + "]",
+                        e);
+            }
+        }
+
+        redis = Arc.container().instance(Redis.class).get();
+        vertx = Arc.container().instance(Vertx.class).get();
+        subscribe();
+    }
+
+    /**
+     * Returns {@code true} if this instance is currently subscribed to the invalidation channel, and therefore receives
+     * the invalidations of the other instances.
+     */
+    public boolean isInvalidationSubscribed() {
+        return subscribed;
+    }
+
+    /**
+     * Closes the connection used to receive the invalidations.
+     */
+    @Override
+    public synchronized void close() {
+        closed = true;
+        subscribed = false;
+        if (resubscribeTimerId != -1) {
+            vertx.cancelTimer(resubscribeTimerId);
+            resubscribeTimerId = -1;
+        }
+        if (subscriber != null) {
+            subscriber.close();
+            subscriber = null;
+        }
+    }
+
+    private void subscribe() {
+        redis.connect().onSuccess(connection -> {
+            synchronized (this) {
+                if (closed) {
+                    connection.close();
+                    return;
+                }
+                subscriber = connection;
+            }
+            connection.handler(this::onInvalidationMessage);
+            connection.exceptionHandler(t -> onSubscriptionLost(connection, t));
+            connection.endHandler(ignored -> onSubscriptionLost(connection, null));
+            connection.send(Request.cmd(Command.SUBSCRIBE).arg(channel))
+                    .onSuccess(ignored -> onSubscribed(connection))
+                    .onFailure(t -> onSubscriptionLost(connection, t));
+        }).onFailure(t -> {
+            LOGGER.warnf(t, "Unable to connect to Redis to subscribe to the invalidation channel of cache [%s]", getName());
+            scheduleResubscribe();
+        });
+    }
+
+    private void onSubscribed(RedisConnection connection) {
+        boolean resubscribed;
+        synchronized (this) {
+            if (subscriber != connection) {
+                return;
+            }
+            subscribed = true;
+            resubscribed = subscribedOnce;
+            subscribedOnce = true;
+            resubscribeDelayMillis = MIN_RESUBSCRIBE_DELAY_MILLIS;
+        }
+        if (resubscribed) {
+            // The invalidations broadcast while the subscription was lost have been missed
+            LOGGER.infof("Subscribed again to the Redis invalidation channel of cache [%s], clearing the near cache",
+                    getName());
+            super.invalidateAll();
+        }
+    }
+
+    private void onSubscriptionLost(RedisConnection connection, Throwable failure) {
+        synchronized (this) {
+            if (subscriber != connection) {
+                // Already handled
+                return;
+            }
+            subscriber = null;
+            subscribed = false;
+        }
+        connection.close();
+        if (!closed) {
+            LOGGER.warnf(failure, "Redis invalidation subscription of cache [%s] lost, the near cache may serve "
+                    + "invalidated values until it is subscribed again", getName());
+            scheduleResubscribe();
+        }
+    }
+
+    private synchronized void scheduleResubscribe() {
+        if (closed || resubscribeTimerId != -1) {
+            return;
+        }
+        long delay = resubscribeDelayMillis;
+        resubscribeDelayMillis = Math.min(delay * 2, MAX_RESUBSCRIBE_DELAY_MILLIS);
+        resubscribeTimerId = vertx.setTimer(delay, id -> {
+            synchronized (this) {
+                resubscribeTimerId = -1;
+                if (closed) {
+                    return;
+                }
+            }
+            subscribe();
+        });
+    }
+
+    @Override
+    protected Object loadValue(Object key, Function<Object, Object> valueLoader) {
+        String redisKey = null;
+        try {
+            redisKey = toRedisKey(key);
+            if (!Context.isOnEventLoopThread()) {
+                Response response = redisClient.get(redisKey);
+                if (response != null) {
+                    LOGGER.debugf("Loaded entry with key [%s] of cache [%s] from Redis", key, getName());
+                    return codec.decodeValue(response.toString());
+                }
+            }
+        } catch (Exception e) {
+            LOGGER.debugf(e, "Unable to load entry with key [%s] of cache [%s] from Redis", key, getName());
+        }
+        Object value = valueLoader.apply(key);
+        if (redisKey != null) {
+            storeAsync(key, redisKey, value);
+        }
+        return value;
+    }
+
+    /**
+     * The keys missing from the near cache are looked up in Redis with a single {@code MGET} command, and only the keys
+     * missing from Redis too are passed to {@code mappingFunction}.
+     */
+    @Override
+    protected Map<Object, Object> loadValues(Set<Object> keys, Function<Set<Object>, Map<Object, Object>> mappingFunction) {
+        Map<Object, Object> values = new HashMap<>();
+        Set<Object> keysToLoad = keys;
+        try {
+            if (!Context.isOnEventLoopThread()) {
+                List<String> redisKeys = new ArrayList<>(keys.size());
+                for (Object key : keys) {
+                    redisKeys.add(toRedisKey(key));
+                }
+                Response response = redisClient.mget(redisKeys);
+                Set<Object> keysMissingFromRedis = new LinkedHashSet<>();
+                int i = 0;
+                for (Object key : keys) {
+                    Response value = response.get(i++);
+                    if (value != null) {
+                        values.put(key, codec.decodeValue(value.toString()));
+                    } else {
+                        keysMissingFromRedis.add(key);
+                    }
+                }
+                keysToLoad = keysMissingFromRedis;
+            }
+        } catch (Exception e) {
+            LOGGER.debugf(e, "Unable to load entries of cache [%s] from Redis", getName());
+            values.clear();
+            keysToLoad = keys;
+        }
+        if (keysToLoad.isEmpty()) {
+            return values;
+        }
+        Map<Object, Object> loadedValues = mappingFunction.apply(keysToLoad);
+        if (loadedValues != null) {
+            values.putAll(loadedValues);
+            storeAllAsync(loadedValues);
+        }
+        return values;
+    }
+
+    /**
+     * The copy in Redis was stored when the refreshed value was computed, or earlier, so it is not read: the value is
+     * recomputed and written through to Redis.
+     */
+    @Override
+    protected Object refreshValue(Object key, Function<Object, Object> valueLoader) {
+        Object value = valueLoader.apply(key);
+        storeAllAsync(Collections.singletonMap(key, value));
+        return value;
+    }
+
+    /**
+     * @see #refreshValue(Object, Function)
+     */
+    @Override
+    protected Map<Object, Object> refreshValues(Set<Object> keys,
+            Function<Set<Object>, Map<Object, Object>> mappingFunction) {
+        Map<Object, Object> values = mappingFunction.apply(keys);
+        if (values != null) {
+            storeAllAsync(values);
+        }
+        return values;
+    }
+
+    private void storeAllAsync(Map<Object, Object> values) {
+        for (Map.Entry<Object, Object> entry : values.entrySet()) {
+            String redisKey;
+            try {
+                redisKey = toRedisKey(entry.getKey());
+            } catch (Exception e) {
+                LOGGER.debugf(e, "Unable to store entry with key [%s] of cache [%s] in Redis", entry.getKey(), getName());
+                continue;
+            }
+            storeAsync(entry.getKey(), redisKey, entry.getValue());
+        }
+    }
+
+    private void storeAsync(Object key, String redisKey, Object value) {
+        if (value == UnresolvedUniValue.INSTANCE) {
+            // Stored by replaceUniValue once the Uni emits its item
+            return;
+        }
+        store(redisKey, value).subscribe().with(ignored -> {
+        }, t -> LOGGER.debugf(t, "Unable to store entry with key [%s] of cache [%s] in Redis", key, getName()));
+    }
+
+    @Override
+    public Uni<Void> replaceUniValue(Object key, Object emittedValue) {
+        return super.replaceUniValue(key, emittedValue).call(() -> Uni.createFrom()
+                .deferred(() -> store(toRedisKey(key), emittedValue))
+                .onFailure().invoke(t -> LOGGER.debugf(t, "Unable to store entry with key [%s] of cache [%s] in Redis",
+                        key, getName()))
+                .onFailure().recoverWithNull());
+    }
+
+    @Override
+    public void invalidate(Object key) {
+        super.invalidate(key);
+        String encodedKey;
+        try {
+            encodedKey = codec.encodeKey(key);
+        } catch (Exception e) {
+            LOGGER.warnf(e, "Unable to invalidate entry with key [%s] of cache [%s] in Redis", key, getName());
+            return;
+        }
+        List<String> args = new ArrayList<>(1);
+        args.add(keyPrefix + encodedKey);
+        reactiveRedisClient.del(args)
+                .chain(() -> reactiveRedisClient.publish(channel, INVALIDATE_KEY_MESSAGE_PREFIX + encodedKey))
+                .subscribe().with(ignored -> {
+                    // A concurrent get may have put the value read from Redis before its deletion back
+                    super.invalidate(key);
+                }, t -> {
+                    super.invalidate(key);
+                    LOGGER.warnf(t, "Unable to invalidate entry with key [%s] of cache [%s] in Redis", key, getName());
+                });
+    }
+
+    @Override
+    public void invalidateAll() {
+        super.invalidateAll();
+        deleteAll("0")
+                .chain(() -> reactiveRedisClient.publish(channel, INVALIDATE_ALL_MESSAGE))
+                .subscribe().with(ignored -> {
+                    // A concurrent get may have put a value read from Redis before its deletion back
+                    super.invalidateAll();
+                }, t -> {
+                    super.invalidateAll();
+                    LOGGER.warnf(t, "Unable to invalidate all entries of cache [%s] in Redis", getName());
+                });
+    }
+
+    private Uni<Void> deleteAll(String cursor) {
+        List<String> args = List.of(cursor, "MATCH", keyPrefix + "*", "COUNT", SCAN_BATCH_SIZE);
+        return reactiveRedisClient.scan(args).chain(response -> {
+            String nextCursor = response.get(0).toString();
+            List<String> keys = new ArrayList<>(response.get(1).size());
+            for (Response key : response.get(1)) {
+                keys.add(key.toString());
+            }
+            Uni<Void> deletion = keys.isEmpty() ? Uni.createFrom().voidItem()
+                    : reactiveRedisClient.del(keys).replaceWithVoid();
+            if ("0".equals(nextCursor)) {
+                return deletion;
+            }
+            return deletion.chain(() -> deleteAll(nextCursor));
+        });
+    }
+
+    private Uni<Response> store(String redisKey, Object value) {
+        return Uni.createFrom().deferred(() -> {
+            String encodedValue = codec.encodeValue(value);
+            if (redisExpireAfterWrite != null) {
+                return reactiveRedisClient.psetex(redisKey, Long.toString(redisExpireAfterWrite.toMillis()), encodedValue);
+            } else {
+                return reactiveRedisClient.set(List.of(redisKey, encodedValue));
+            }
+        });
+    }
+
+    private void onInvalidationMessage(Response response) {
+        // Subscribed connections receive the published messages as ["message", channel, payload]
+        if (response.size() != 3 || !"message".equals(response.get(0).toString())) {
+            return;
+        }
+        String message = response.get(2).toString();
+        try {
+            if (INVALIDATE_ALL_MESSAGE.equals(message)) {
+                super.invalidateAll();
+            } else if (message.startsWith(INVALIDATE_KEY_MESSAGE_PREFIX)) {
+                super.invalidate(codec.decodeKey(message.substring(INVALIDATE_KEY_MESSAGE_PREFIX.length())));
+            }
+        } catch (Exception e) {
+            LOGGER.warnf(e, "Unable to process an invalidation message of cache [%s]", getName());
+        }
+    }
+
+    private String toRedisKey(Object key) {
+        return keyPrefix + codec.encodeKey(key);
+    }
+
+    // For testing purposes only.
+    public Duration getRedisExpireAfterWrite() {
+        return redisExpireAfterWrite;
+    }
+}
@@ -14,6 +14,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -43,6 +44,7 @@ import io.quarkus.grpc.runtime.health.GrpcHealthStorage;
 import io.quarkus.grpc.runtime.reflection.ReflectionService;
 import io.quarkus.grpc.runtime.supports.CompressionInterceptor;
 import io.quarkus.grpc.runtime.supports.blocking.BlockingServerInterceptor;
+import io.quarkus.grpc.runtime.supports.blocking.VirtualThreads;
 import io.quarkus.runtime.LaunchMode;
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.ShutdownContext;
@@ -285,8 +287,10 @@ public class GrpcServerRecorder {
         }
         List<ServerServiceDefinition> servicesWithInterceptors = new ArrayList<>();
         CompressionInterceptor compressionInterceptor = prepareCompressionInterceptor(configuration);
+        Executor blockingExecutor = prepareBlockingExecutor(configuration);
         for (GrpcServiceDefinition service : services) {
-            servicesWithInterceptors.add(serviceWithInterceptors(vertx, grpcContainer, compressionInterceptor, service, true));
+            servicesWithInterceptors.add(serviceWithInterceptors(vertx, grpcContainer, compressionInterceptor,
+                    blockingExecutor, service, true));
         }
 
         for (ServerServiceDefinition serviceWithInterceptors : servicesWithInterceptors) {
@@ -354,10 +358,11 @@ public class GrpcServerRecorder {
         List<ServerServiceDefinition> definitions = new ArrayList<>();
 
         CompressionInterceptor compressionInterceptor = prepareCompressionInterceptor(configuration);
+        Executor blockingExecutor = prepareBlockingExecutor(configuration);
 
         for (GrpcServiceDefinition service : toBeRegistered) {
             builder.addService(
-                    serviceWithInterceptors(vertx, grpcContainer, compressionInterceptor, service,
+                    serviceWithInterceptors(vertx, grpcContainer, compressionInterceptor, blockingExecutor, service,
                             launchMode == LaunchMode.DEVELOPMENT));
             LOGGER.debugf("Registered gRPC service '%s'", service.definition.getServiceDescriptor().getName());
             definitions.add(service.definition);
@@ -414,8 +419,19 @@ public class GrpcServerRecorder {
         return compressionInterceptor;
     }
 
+    /**
+     * Executor of the blocking methods if they run on virtual threads, null if they run on the worker pool
+     *
+     * @param configuration gRPC server configuration
+     * @return executor or null
+     */
+    private Executor prepareBlockingExecutor(GrpcServerConfiguration configuration) {
+        return configuration.blockingVirtualThreads ? VirtualThreads.getExecutor() : null;
+    }
+
     private ServerServiceDefinition serviceWithInterceptors(Vertx vertx, GrpcContainer grpcContainer,
-            CompressionInterceptor compressionInterceptor, GrpcServiceDefinition service, boolean devMode) {
+            CompressionInterceptor compressionInterceptor, Executor blockingExecutor, GrpcServiceDefinition service,
+            boolean devMode) {
         List<ServerInterceptor> interceptors = new ArrayList<>();
         if (compressionInterceptor != null) {
             interceptors.add(compressionInterceptor);
@@ -427,7 +443,7 @@ public class GrpcServerRecorder {
         if (!blockingMethodsPerService.isEmpty()) {
             List<String> list = blockingMethodsPerService.get(service.getImplementationClassName());
             if (list != null) {
-                interceptors.add(new BlockingServerInterceptor(vertx, list, devMode));
+                interceptors.add(new BlockingServerInterceptor(vertx, list, devMode, blockingExecutor));
             }
         }
         return ServerInterceptors.intercept(service.definition, interceptors);
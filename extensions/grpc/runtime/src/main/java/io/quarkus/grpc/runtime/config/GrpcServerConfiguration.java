@@ -97,4 +97,13 @@ public class GrpcServerConfiguration {
      */
     @ConfigItem
     public Optional<String> compression;
+
+    /**
+     * Whether the blocking methods run on virtual threads instead of the worker pool, so that the number of
+     * concurrent blocking calls is not limited by the size of the worker pool.
+     * Each call runs on its own virtual thread, and its events are still processed in order.
+     * Virtual threads require a Java version supporting them, the worker pool is used otherwise.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean blockingVirtualThreads;
 }
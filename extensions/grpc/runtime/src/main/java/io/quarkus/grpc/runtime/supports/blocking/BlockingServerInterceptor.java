@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -12,17 +13,24 @@ import io.grpc.Metadata;
 import io.grpc.ServerCall;
 import io.grpc.ServerCallHandler;
 import io.grpc.ServerInterceptor;
+import io.grpc.Status;
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.InjectableContext.ContextState;
 import io.quarkus.arc.ManagedContext;
+import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
+import io.vertx.core.impl.ContextInternal;
+import io.vertx.core.impl.TaskQueue;
 
 /**
  * gRPC Server interceptor offloading the execution of the gRPC method on a worker thread if the method is annotated
  * with {@link io.smallrye.common.annotation.Blocking}.
  *
+ * The events of a call are executed in order, but the calls are executed concurrently. If an executor is given, such as
+ * a virtual thread per task executor, it is used instead of the worker pool. A failure of an event closes the call.
+ *
  * For non-annotated methods, the interceptor acts as a pass-through.
  */
 public class BlockingServerInterceptor implements ServerInterceptor, Function<String, Boolean> {
@@ -31,11 +39,17 @@ public class BlockingServerInterceptor implements ServerInterceptor, Function<St
     private final List<String> blockingMethods;
     private final Map<String, Boolean> cache = new HashMap<>();
     private final boolean devMode;
+    private final Executor executor;
 
     public BlockingServerInterceptor(Vertx vertx, List<String> blockingMethods, boolean devMode) {
+        this(vertx, blockingMethods, devMode, null);
+    }
+
+    public BlockingServerInterceptor(Vertx vertx, List<String> blockingMethods, boolean devMode, Executor executor) {
         this.vertx = vertx;
         this.blockingMethods = new ArrayList<>();
         this.devMode = devMode;
+        this.executor = executor;
         for (String method : blockingMethods) {
             this.blockingMethods.add(method.toLowerCase());
         }
@@ -69,8 +83,10 @@ public class BlockingServerInterceptor implements ServerInterceptor, Function<St
             // it is initialized by io.quarkus.grpc.runtime.supports.context.GrpcRequestContextGrpcInterceptor
             // that should always be called before this interceptor
             ContextState state = requestContext.getState();
-            ReplayListener<ReqT> replay = new ReplayListener<>(state);
-            vertx.executeBlocking(new Handler<Promise<Object>>() {
+            // Each call has its own duplicated context, the calls of a connection share the same context
+            ContextInternal context = ((ContextInternal) vertx.getOrCreateContext()).duplicate();
+            ReplayListener<ReqT> replay = new ReplayListener<>(call, state, context);
+            replay.executeBlocking(new Handler<Promise<Object>>() {
                 @Override
                 public void handle(Promise<Object> f) {
                     ServerCall.Listener<ReqT> listener;
@@ -83,7 +99,7 @@ public class BlockingServerInterceptor implements ServerInterceptor, Function<St
                     replay.setDelegate(listener, requestContext);
                     f.complete(null);
                 }
-            }, null);
+            });
 
             return replay;
         } else {
@@ -95,15 +111,56 @@ public class BlockingServerInterceptor implements ServerInterceptor, Function<St
      * Stores the incoming events until the listener is injected.
      * When injected, replay the events.
      *
-     * Note that event must be executed in order, explaining the `ordered:true`.
+     * Note that event must be executed in order, explaining the task queue of the call. The ordered
+     * {@code executeBlocking} of the Vert.x context is not used as it would also order the events of the other calls of
+     * the connection: the ordered tasks of a duplicated context are queued on its root context.
      */
     private class ReplayListener<ReqT> extends ServerCall.Listener<ReqT> {
         private ServerCall.Listener<ReqT> delegate;
         private final List<Consumer<ServerCall.Listener<ReqT>>> incomingEvents = new ArrayList<>();
+        private final ServerCall<ReqT, ?> call;
         private final ContextState requestContextState;
+        private final ContextInternal context;
+        private final TaskQueue taskQueue = new TaskQueue();
 
-        private ReplayListener(ContextState requestContextState) {
+        private ReplayListener(ServerCall<ReqT, ?> call, ContextState requestContextState, ContextInternal context) {
+            this.call = call;
             this.requestContextState = requestContextState;
+            this.context = context;
+        }
+
+        void executeBlocking(Handler<Promise<Object>> blockingHandler) {
+            Future<Object> result;
+            if (executor != null) {
+                result = executeOnExecutor(blockingHandler);
+            } else {
+                result = context.executeBlocking(blockingHandler, taskQueue);
+            }
+            result.onFailure(this::closeCall);
+        }
+
+        private Future<Object> executeOnExecutor(Handler<Promise<Object>> blockingHandler) {
+            // Vert.x can only dispatch a task on its own threads, so the outcome of the task is delivered on the context
+            Promise<Object> promise = context.promise();
+            taskQueue.execute(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        blockingHandler.handle(promise);
+                    } catch (Throwable t) {
+                        promise.tryFail(t);
+                    }
+                }
+            }, executor);
+            return promise.future();
+        }
+
+        private void closeCall(Throwable failure) {
+            try {
+                call.close(Status.fromThrowable(failure), new Metadata());
+            } catch (IllegalStateException ignored) {
+                // The call has already been closed
+            }
         }
 
         synchronized void setDelegate(ServerCall.Listener<ReqT> delegate,
@@ -136,7 +193,7 @@ public class BlockingServerInterceptor implements ServerInterceptor, Function<St
                 blockingHandler = new DevModeBlockingExecutionHandler(Thread.currentThread().getContextClassLoader(),
                         blockingHandler);
             }
-            vertx.executeBlocking(blockingHandler, true, null);
+            executeBlocking(blockingHandler);
         }
 
         @Override
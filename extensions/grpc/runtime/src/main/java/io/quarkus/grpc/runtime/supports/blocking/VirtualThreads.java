@@ -0,0 +1,52 @@
+package io.quarkus.grpc.runtime.supports.blocking;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Creates the executor running each task on its own virtual thread, if the JVM supports virtual threads.
+ * <p>
+ * The executor is looked up reflectively, as the extension targets a Java version without virtual threads.
+ */
+public final class VirtualThreads {
+
+    private static final Logger LOGGER = Logger.getLogger(VirtualThreads.class);
+
+    private static volatile Executor executor;
+    private static volatile boolean initialized;
+
+    private VirtualThreads() {
+    }
+
+    /**
+     * @return the virtual thread per task executor, or {@code null} if virtual threads are not supported
+     */
+    public static Executor getExecutor() {
+        if (!initialized) {
+            synchronized (VirtualThreads.class) {
+                if (!initialized) {
+                    executor = createExecutor();
+                    initialized = true;
+                }
+            }
+        }
+        return executor;
+    }
+
+    private static Executor createExecutor() {
+        try {
+            return (Executor) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (NoSuchMethodException e) {
+            LOGGER.warnf("Virtual threads are not supported by Java %s, the blocking gRPC methods run on the worker pool",
+                    System.getProperty("java.version"));
+        } catch (InvocationTargetException | IllegalAccessException e) {
+            // Virtual threads are a preview feature in some Java versions
+            LOGGER.warn("Virtual threads are not enabled, the blocking gRPC methods run on the worker pool",
+                    e instanceof InvocationTargetException ? e.getCause() : e);
+        }
+        return null;
+    }
+}
@@ -1,11 +1,21 @@
 package io.quarkus.grpc.runtime.supports;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -16,6 +26,7 @@ import io.grpc.Metadata;
 import io.grpc.MethodDescriptor;
 import io.grpc.ServerCall;
 import io.grpc.ServerCallHandler;
+import io.grpc.Status;
 import io.quarkus.arc.InjectableContext;
 import io.quarkus.arc.ManagedContext;
 import io.quarkus.grpc.runtime.supports.blocking.BlockingServerInterceptor;
@@ -27,12 +38,13 @@ class BlockingServerInterceptorTest {
 
     BlockingServerInterceptor blockingServerInterceptor;
     Vertx vertx;
+    ManagedContext requestContext;
 
     @BeforeEach
     void setup() {
         vertx = Vertx.vertx();
         InjectableContext.ContextState contextState = mock(InjectableContext.ContextState.class);
-        ManagedContext requestContext = mock(ManagedContext.class);
+        requestContext = mock(ManagedContext.class);
         when(requestContext.getState()).thenReturn(contextState);
         blockingServerInterceptor = new BlockingServerInterceptor(vertx, Collections.singletonList("blocking"), false) {
             @Override
@@ -70,6 +82,186 @@ class BlockingServerInterceptorTest {
         assertThat(serverCallHandler.contextUserName).isEqualTo("my-user");
     }
 
+    @Test
+    @Timeout(10)
+    void testExecutorKeepsEventOrder() throws Exception {
+        ExecutorService executor = Executors.newCachedThreadPool(r -> new Thread(r, "custom-executor"));
+        try {
+            BlockingServerInterceptor interceptor = new BlockingServerInterceptor(vertx,
+                    Collections.singletonList("blocking"), false, executor) {
+                @Override
+                protected ManagedContext getRequestContext() {
+                    return requestContext;
+                }
+            };
+            final ServerCall serverCall = mock(ServerCall.class);
+            final OrderServerCallHandler serverCallHandler = new OrderServerCallHandler();
+            final MethodDescriptor methodDescriptor = mock(MethodDescriptor.class);
+            when(methodDescriptor.getFullMethodName()).thenReturn("my-service/blocking");
+            when(serverCall.getMethodDescriptor()).thenReturn(methodDescriptor);
+
+            final ServerCall.Listener listener = interceptor.interceptCall(serverCall, null, serverCallHandler);
+            for (int i = 0; i < 100; i++) {
+                listener.onMessage(i);
+            }
+            listener.onHalfClose();
+            serverCallHandler.await();
+
+            assertThat(serverCallHandler.threadNames).containsOnly("custom-executor");
+            List<Object> expected = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                expected.add(i);
+            }
+            assertThat(serverCallHandler.messages).isEqualTo(expected);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @Timeout(10)
+    void testCallsOfTheSameContextAreConcurrent() throws Exception {
+        CountDownLatch secondCallStarted = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(2);
+        AtomicBoolean overlapped = new AtomicBoolean();
+        // The first call can only complete while the second one is running on another worker thread
+        ServerCallHandler first = new ServerCallHandler() {
+            @Override
+            public ServerCall.Listener startCall(ServerCall serverCall, Metadata metadata) {
+                return new ServerCall.Listener() {
+                    @Override
+                    public void onMessage(Object message) {
+                        try {
+                            overlapped.set(secondCallStarted.await(5, TimeUnit.SECONDS));
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        done.countDown();
+                    }
+                };
+            }
+        };
+        ServerCallHandler second = new ServerCallHandler() {
+            @Override
+            public ServerCall.Listener startCall(ServerCall serverCall, Metadata metadata) {
+                return new ServerCall.Listener() {
+                    @Override
+                    public void onMessage(Object message) {
+                        secondCallStarted.countDown();
+                        done.countDown();
+                    }
+                };
+            }
+        };
+        final MethodDescriptor methodDescriptor = mock(MethodDescriptor.class);
+        when(methodDescriptor.getFullMethodName()).thenReturn("my-service/blocking");
+        final ServerCall firstCall = mock(ServerCall.class);
+        when(firstCall.getMethodDescriptor()).thenReturn(methodDescriptor);
+        final ServerCall secondCall = mock(ServerCall.class);
+        when(secondCall.getMethodDescriptor()).thenReturn(methodDescriptor);
+
+        // Both calls are received on the same Vert.x context, as the calls multiplexed on a connection are
+        vertx.getOrCreateContext().runOnContext(v -> {
+            ServerCall.Listener firstListener = blockingServerInterceptor.interceptCall(firstCall, null, first);
+            ServerCall.Listener secondListener = blockingServerInterceptor.interceptCall(secondCall, null, second);
+            firstListener.onMessage("first");
+            secondListener.onMessage("second");
+        });
+
+        done.await();
+        assertThat(overlapped).isTrue();
+    }
+
+    @Test
+    @Timeout(10)
+    void testFailureClosesTheCall() {
+        IllegalStateException failure = new IllegalStateException("boom");
+        final ServerCall serverCall = mock(ServerCall.class);
+        final MethodDescriptor methodDescriptor = mock(MethodDescriptor.class);
+        when(methodDescriptor.getFullMethodName()).thenReturn("my-service/blocking");
+        when(serverCall.getMethodDescriptor()).thenReturn(methodDescriptor);
+
+        final ServerCall.Listener listener = blockingServerInterceptor.interceptCall(serverCall, null,
+                new FailingServerCallHandler(failure));
+        listener.onMessage("hello");
+
+        verify(serverCall, timeout(5000)).close(argThat(status -> status.getCode() == Status.Code.UNKNOWN
+                && status.getCause() == failure), any(Metadata.class));
+    }
+
+    @Test
+    @Timeout(10)
+    void testFailureOnExecutorClosesTheCall() {
+        IllegalStateException failure = new IllegalStateException("boom");
+        ExecutorService executor = Executors.newCachedThreadPool(r -> new Thread(r, "custom-executor"));
+        try {
+            BlockingServerInterceptor interceptor = new BlockingServerInterceptor(vertx,
+                    Collections.singletonList("blocking"), false, executor) {
+                @Override
+                protected ManagedContext getRequestContext() {
+                    return requestContext;
+                }
+            };
+            final ServerCall serverCall = mock(ServerCall.class);
+            final MethodDescriptor methodDescriptor = mock(MethodDescriptor.class);
+            when(methodDescriptor.getFullMethodName()).thenReturn("my-service/blocking");
+            when(serverCall.getMethodDescriptor()).thenReturn(methodDescriptor);
+
+            final ServerCall.Listener listener = interceptor.interceptCall(serverCall, null,
+                    new FailingServerCallHandler(failure));
+            listener.onMessage("hello");
+
+            verify(serverCall, timeout(5000)).close(argThat(status -> status.getCause() == failure),
+                    any(Metadata.class));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    static class FailingServerCallHandler implements ServerCallHandler {
+        private final RuntimeException failure;
+
+        FailingServerCallHandler(RuntimeException failure) {
+            this.failure = failure;
+        }
+
+        @Override
+        public ServerCall.Listener startCall(ServerCall serverCall, Metadata metadata) {
+            return new ServerCall.Listener() {
+                @Override
+                public void onMessage(Object message) {
+                    throw failure;
+                }
+            };
+        }
+    }
+
+    static class OrderServerCallHandler implements ServerCallHandler {
+        final List<Object> messages = Collections.synchronizedList(new ArrayList<>());
+        final List<String> threadNames = Collections.synchronizedList(new ArrayList<>());
+        private final CountDownLatch latch = new CountDownLatch(1);
+
+        @Override
+        public ServerCall.Listener startCall(ServerCall serverCall, Metadata metadata) {
+            return new ServerCall.Listener() {
+                @Override
+                public void onMessage(Object message) {
+                    threadNames.add(Thread.currentThread().getName());
+                    messages.add(message);
+                }
+
+                @Override
+                public void onHalfClose() {
+                    latch.countDown();
+                }
+            };
+        }
+
+        public void await() throws InterruptedException {
+            latch.await();
+        }
+    }
+
     static class BlockingServerCallHandler implements ServerCallHandler {
         String threadName;
         String contextUserName;
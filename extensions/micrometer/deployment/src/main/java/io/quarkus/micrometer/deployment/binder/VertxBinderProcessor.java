@@ -34,8 +34,9 @@ public class VertxBinderProcessor {
 
     @BuildStep(onlyIf = VertxBinderEnabled.class)
     @Record(value = ExecutionTime.STATIC_INIT)
-    VertxOptionsConsumerBuildItem build(VertxMeterBinderRecorder recorder) {
-        return new VertxOptionsConsumerBuildItem(recorder.setVertxMetricsOptions(), Interceptor.Priority.LIBRARY_AFTER);
+    VertxOptionsConsumerBuildItem build(VertxMeterBinderRecorder recorder, MicrometerConfig mConfig) {
+        return new VertxOptionsConsumerBuildItem(recorder.setVertxMetricsOptions(mConfig.binder.vertx.sqlClientEnabled),
+                Interceptor.Priority.LIBRARY_AFTER);
     }
 
     @BuildStep(onlyIf = VertxBinderEnabled.class)
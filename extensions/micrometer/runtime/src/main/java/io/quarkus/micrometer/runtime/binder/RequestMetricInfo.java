@@ -11,8 +11,6 @@ import io.micrometer.core.instrument.Timer;
 public class RequestMetricInfo {
     static final Logger log = Logger.getLogger(RequestMetricInfo.class);
 
-    public static final Pattern TRAILING_SLASH_PATTERN = Pattern.compile("/$");
-    public static final Pattern MULTIPLE_SLASH_PATTERN = Pattern.compile("//+");
     public static final String ROOT = "/";
 
     public static final String HTTP_REQUEST_PATH = "HTTP_REQUEST_PATH";
@@ -86,11 +84,26 @@ public class RequestMetricInfo {
             return ROOT;
         }
         // Label value consistency: result should begin with a '/' and should not end with one
-        String workingPath = MULTIPLE_SLASH_PATTERN.matcher('/' + uri).replaceAll("/");
-        workingPath = TRAILING_SLASH_PATTERN.matcher(workingPath).replaceAll("");
-        if (workingPath.isEmpty()) {
-            return ROOT;
+        // This is called for every request, so avoid regular expressions and only allocate if the path needs changes
+        if (isNormalized(uri)) {
+            return uri;
+        }
+        StringBuilder workingPath = new StringBuilder(uri.length() + 1);
+        workingPath.append('/');
+        for (int i = 0; i < uri.length(); i++) {
+            char c = uri.charAt(i);
+            // Collapse multiple slashes
+            if (c != '/' || workingPath.charAt(workingPath.length() - 1) != '/') {
+                workingPath.append(c);
+            }
         }
-        return workingPath;
+        if (workingPath.length() > 1 && workingPath.charAt(workingPath.length() - 1) == '/') {
+            workingPath.setLength(workingPath.length() - 1);
+        }
+        return workingPath.toString();
+    }
+
+    private static boolean isNormalized(String uri) {
+        return uri.charAt(0) == '/' && uri.charAt(uri.length() - 1) != '/' && uri.indexOf("//") == -1;
     }
 }
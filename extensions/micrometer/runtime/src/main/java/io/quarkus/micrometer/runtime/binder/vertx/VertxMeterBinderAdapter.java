@@ -9,6 +9,7 @@ import io.vertx.core.http.HttpServerOptions;
 import io.vertx.core.metrics.MetricsOptions;
 import io.vertx.core.net.SocketAddress;
 import io.vertx.core.spi.VertxMetricsFactory;
+import io.vertx.core.spi.metrics.ClientMetrics;
 import io.vertx.core.spi.metrics.HttpServerMetrics;
 import io.vertx.core.spi.metrics.VertxMetrics;
 
@@ -16,6 +17,7 @@ public class VertxMeterBinderAdapter extends MetricsOptions implements VertxMetr
     private static final Logger log = Logger.getLogger(VertxMeterBinderAdapter.class);
 
     private HttpBinderConfiguration httpBinderConfiguration;
+    private volatile boolean sqlClientEnabled;
 
     public VertxMeterBinderAdapter() {
     }
@@ -24,6 +26,10 @@ public class VertxMeterBinderAdapter extends MetricsOptions implements VertxMetr
         this.httpBinderConfiguration = httpBinderConfiguration;
     }
 
+    void setSqlClientEnabled(boolean sqlClientEnabled) {
+        this.sqlClientEnabled = sqlClientEnabled;
+    }
+
     @Override
     public boolean isEnabled() {
         return true;
@@ -55,4 +61,13 @@ public class VertxMeterBinderAdapter extends MetricsOptions implements VertxMetr
         }
         return null;
     }
+
+    @Override
+    public ClientMetrics<?, ?, ?, ?> createClientMetrics(SocketAddress remoteAddress, String type, String namespace) {
+        if (sqlClientEnabled && VertxSqlClientMetrics.TYPE.equals(type)) {
+            log.debugf("Create ClientMetrics for the SQL client %s and address %s", namespace, remoteAddress);
+            return new VertxSqlClientMetrics(Metrics.globalRegistry, namespace);
+        }
+        return null;
+    }
 }
@@ -18,7 +18,8 @@ public class VertxMeterBinderRecorder {
     static volatile HttpBinderConfiguration devModeConfig;
 
     /* STATIC_INIT */
-    public Consumer<VertxOptions> setVertxMetricsOptions() {
+    public Consumer<VertxOptions> setVertxMetricsOptions(boolean sqlClientEnabled) {
+        binderAdapter.setSqlClientEnabled(sqlClientEnabled);
         return new Consumer<VertxOptions>() {
             @Override
             public void accept(VertxOptions vertxOptions) {
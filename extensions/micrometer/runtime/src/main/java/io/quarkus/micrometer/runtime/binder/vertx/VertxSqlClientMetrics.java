@@ -0,0 +1,110 @@
+package io.quarkus.micrometer.runtime.binder.vertx;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.vertx.core.spi.metrics.ClientMetrics;
+
+/**
+ * Records the metrics of the pool of a reactive SQL client.
+ * <p>
+ * A request is enqueued while it waits for a connection of the pool, then the request begins when the query is sent
+ * to the database.
+ */
+public class VertxSqlClientMetrics
+        implements ClientMetrics<Timer.Sample, VertxSqlClientMetrics.QueryMetric, Object, Object> {
+
+    static final String TYPE = "sql";
+    static final int MAX_QUERIES = 100;
+    static final String OTHER = "OTHER";
+
+    final MeterRegistry registry;
+    final String datasource;
+    final Timer poolWait;
+    final Map<String, QueryTimers> queryTimers = new ConcurrentHashMap<>();
+
+    VertxSqlClientMetrics(MeterRegistry registry, String datasource) {
+        this.registry = registry;
+        this.datasource = datasource;
+        this.poolWait = Timer.builder("sql.client.pool.wait")
+                .description("The time spent waiting for a connection of the pool")
+                .tags(Tags.of("datasource", datasource))
+                .register(registry);
+    }
+
+    @Override
+    public Timer.Sample enqueueRequest() {
+        return Timer.start(registry);
+    }
+
+    @Override
+    public void dequeueRequest(Timer.Sample sample) {
+        if (sample != null) {
+            sample.stop(poolWait);
+        }
+    }
+
+    @Override
+    public QueryMetric requestBegin(String sql, Object request) {
+        return new QueryMetric(sql, Timer.start(registry));
+    }
+
+    @Override
+    public void requestReset(QueryMetric queryMetric) {
+        if (queryMetric != null) {
+            queryMetric.sample.stop(getQueryTimers(queryMetric.sql).failure);
+        }
+    }
+
+    @Override
+    public void responseEnd(QueryMetric queryMetric, long bytesRead) {
+        if (queryMetric != null) {
+            queryMetric.sample.stop(getQueryTimers(queryMetric.sql).success);
+        }
+    }
+
+    QueryTimers getQueryTimers(String sql) {
+        String query = sql == null ? OTHER : sql;
+        QueryTimers timers = queryTimers.get(query);
+        if (timers != null) {
+            return timers;
+        }
+        if (queryTimers.size() >= MAX_QUERIES) {
+            // Bound the number of meters if the queries are not parameterized
+            query = OTHER;
+        }
+        return queryTimers.computeIfAbsent(query, QueryTimers::new);
+    }
+
+    final class QueryTimers {
+
+        final Timer success;
+        final Timer failure;
+
+        QueryTimers(String query) {
+            this.success = queryTimer(query, "SUCCESS");
+            this.failure = queryTimer(query, "FAILURE");
+        }
+
+        private Timer queryTimer(String query, String outcome) {
+            return Timer.builder("sql.client.queries")
+                    .description("The latency of the queries sent to the database")
+                    .tags(Tags.of("datasource", datasource, "query", query, "outcome", outcome))
+                    .register(registry);
+        }
+    }
+
+    static final class QueryMetric {
+
+        final String sql;
+        final Timer.Sample sample;
+
+        QueryMetric(String sql, Timer.Sample sample) {
+            this.sql = sql;
+            this.sample = sample;
+        }
+    }
+}
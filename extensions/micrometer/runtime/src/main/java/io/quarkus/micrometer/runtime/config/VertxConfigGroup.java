@@ -22,6 +22,17 @@ public class VertxConfigGroup implements MicrometerConfig.CapabilityEnabled {
     @ConfigItem
     public Optional<Boolean> enabled;
 
+    /**
+     * Reactive SQL client metrics support.
+     * <p>
+     * If enabled, the time spent waiting for a connection of the pool and the latency of the queries are recorded for
+     * each reactive datasource. The query latency is tagged with the SQL of the query, so the applications should use
+     * parameterized queries rather than queries that embed literal values. At most 100 distinct SQL queries are tagged
+     * per datasource, the others are recorded with the {@code OTHER} tag.
+     */
+    @ConfigItem(name = "sql-client.enabled")
+    public boolean sqlClientEnabled;
+
     @Override
     public Optional<Boolean> getEnabled() {
         return enabled;
@@ -31,6 +42,7 @@ public class VertxConfigGroup implements MicrometerConfig.CapabilityEnabled {
     public String toString() {
         return this.getClass().getSimpleName()
                 + "{enabled=" + enabled
+                + ",sqlClientEnabled=" + sqlClientEnabled
                 + '}';
     }
 }
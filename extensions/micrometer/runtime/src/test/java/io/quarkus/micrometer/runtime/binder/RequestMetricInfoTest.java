@@ -37,6 +37,19 @@ public class RequestMetricInfoTest {
         Assertions.assertEquals("/", path);
     }
 
+    @Test
+    public void testParsePathMultipleAndTrailingSlashes() {
+        String path = requestMetric.getNormalizedUriPath(NO_MATCH_PATTERNS, NO_IGNORE_PATTERNS, "//item///123//");
+        Assertions.assertEquals("/item/123", path);
+    }
+
+    @Test
+    public void testParseNormalizedPath() {
+        String uri = "/item/123";
+        String path = requestMetric.getNormalizedUriPath(NO_MATCH_PATTERNS, NO_IGNORE_PATTERNS, uri);
+        Assertions.assertSame(uri, path);
+    }
+
     @Test
     public void testParseEmptyPath() {
         String path = requestMetric.getNormalizedUriPath(NO_MATCH_PATTERNS, NO_IGNORE_PATTERNS, "");
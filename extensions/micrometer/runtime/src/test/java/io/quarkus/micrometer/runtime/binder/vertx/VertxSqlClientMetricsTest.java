@@ -0,0 +1,55 @@
+package io.quarkus.micrometer.runtime.binder.vertx;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class VertxSqlClientMetricsTest {
+
+    SimpleMeterRegistry registry;
+    VertxSqlClientMetrics metrics;
+
+    @BeforeEach
+    public void init() {
+        registry = new SimpleMeterRegistry();
+        metrics = new VertxSqlClientMetrics(registry, "fruits");
+    }
+
+    @Test
+    public void testPoolWait() {
+        metrics.dequeueRequest(metrics.enqueueRequest());
+        Assertions.assertEquals(1, registry.get("sql.client.pool.wait").tag("datasource", "fruits").timer().count());
+    }
+
+    @Test
+    public void testQueryLatency() {
+        String sql = "SELECT * FROM fruits WHERE id = $1";
+        metrics.responseEnd(metrics.requestBegin(sql, null), -1);
+        metrics.responseEnd(metrics.requestBegin(sql, null), -1);
+        metrics.requestReset(metrics.requestBegin(sql, null));
+
+        Assertions.assertEquals(2, queryTimer(sql, "SUCCESS").count());
+        Assertions.assertEquals(1, queryTimer(sql, "FAILURE").count());
+    }
+
+    @Test
+    public void testMaxQueries() {
+        for (int i = 0; i < VertxSqlClientMetrics.MAX_QUERIES + 10; i++) {
+            metrics.responseEnd(metrics.requestBegin("SELECT " + i, null), -1);
+        }
+        Assertions.assertEquals(VertxSqlClientMetrics.MAX_QUERIES + 1, metrics.queryTimers.size());
+        Assertions.assertEquals(1, queryTimer("SELECT 0", "SUCCESS").count());
+        Assertions.assertEquals(10, queryTimer(VertxSqlClientMetrics.OTHER, "SUCCESS").count());
+    }
+
+    private Timer queryTimer(String query, String outcome) {
+        return registry.get("sql.client.queries")
+                .tag("datasource", "fruits")
+                .tag("query", query)
+                .tag("outcome", outcome)
+                .timer();
+    }
+}
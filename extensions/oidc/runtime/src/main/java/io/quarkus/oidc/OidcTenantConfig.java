@@ -785,6 +785,20 @@ public class OidcTenantConfig extends OidcCommonConfig {
         @ConfigItem(defaultValue = "true")
         public boolean allowOpaqueTokenIntrospection = true;
 
+        /**
+         * Maximum number of verified JWT tokens which are cached, so that the signature of a token which is sent again
+         * is not verified again until this token expires.
+         * Set it to a positive value if the cache has to be enabled. The cache is cleared when the JWK set is refreshed.
+         */
+        @ConfigItem(defaultValue = "0")
+        public int verifiedJwtCacheSize = 0;
+
+        /**
+         * Maximum amount of time a verified JWT token is cached for, even if it expires later.
+         */
+        @ConfigItem(defaultValue = "3M")
+        public Duration verifiedJwtCacheTimeToLive = Duration.ofMinutes(3);
+
         public Optional<String> getIssuer() {
             return issuer;
         }
@@ -872,6 +886,22 @@ public class OidcTenantConfig extends OidcCommonConfig {
         public void setAllowOpaqueTokenIntrospection(boolean allowOpaqueTokenIntrospection) {
             this.allowOpaqueTokenIntrospection = allowOpaqueTokenIntrospection;
         }
+
+        public int getVerifiedJwtCacheSize() {
+            return verifiedJwtCacheSize;
+        }
+
+        public void setVerifiedJwtCacheSize(int verifiedJwtCacheSize) {
+            this.verifiedJwtCacheSize = verifiedJwtCacheSize;
+        }
+
+        public Duration getVerifiedJwtCacheTimeToLive() {
+            return verifiedJwtCacheTimeToLive;
+        }
+
+        public void setVerifiedJwtCacheTimeToLive(Duration verifiedJwtCacheTimeToLive) {
+            this.verifiedJwtCacheTimeToLive = verifiedJwtCacheTimeToLive;
+        }
     }
 
     public static enum ApplicationType {
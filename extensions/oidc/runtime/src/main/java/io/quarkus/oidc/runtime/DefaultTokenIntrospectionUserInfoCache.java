@@ -1,11 +1,6 @@
 package io.quarkus.oidc.runtime;
 
-import java.util.Collections;
-import java.util.Iterator;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.function.IntUnaryOperator;
+import java.util.concurrent.atomic.LongAdder;
 
 import io.quarkus.oidc.OidcRequestContext;
 import io.quarkus.oidc.OidcTenantConfig;
@@ -14,6 +9,7 @@ import io.quarkus.oidc.TokenIntrospectionCache;
 import io.quarkus.oidc.UserInfo;
 import io.quarkus.oidc.UserInfoCache;
 import io.quarkus.oidc.runtime.OidcConfig.TokenCache;
+import io.quarkus.security.runtime.BoundedLruCache;
 import io.smallrye.mutiny.Uni;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
@@ -27,6 +23,8 @@ import io.vertx.core.Vertx;
  * <p>
  * In either case, if a remote request to fetch UserInfo is required then it will be the same access token
  * which has been introspected which will be used to request UserInfo.
+ * <p>
+ * The least recently used entry is evicted when the cache is full, see {@link BoundedLruCache}.
  */
 public class DefaultTokenIntrospectionUserInfoCache implements TokenIntrospectionCache, UserInfoCache {
     private static final Uni<TokenIntrospection> NULL_INTROSPECTION_UNI = Uni.createFrom().nullItem();
@@ -34,8 +32,10 @@ public class DefaultTokenIntrospectionUserInfoCache implements TokenIntrospectio
 
     private TokenCache cacheConfig;
 
-    private Map<String, CacheEntry> cacheMap;
-    private AtomicInteger size = new AtomicInteger();
+    private BoundedLruCache<CacheEntry> cache;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
 
     public DefaultTokenIntrospectionUserInfoCache(OidcConfig oidcConfig, Vertx vertx) {
         this.cacheConfig = oidcConfig.tokenCache;
@@ -44,30 +44,30 @@ public class DefaultTokenIntrospectionUserInfoCache implements TokenIntrospectio
 
     private void init(Vertx vertx) {
         if (cacheConfig.maxSize > 0) {
-            cacheMap = new ConcurrentHashMap<>();
+            cache = new BoundedLruCache<>(cacheConfig.maxSize);
             if (cacheConfig.cleanUpTimerInterval.isPresent()) {
                 vertx.setPeriodic(cacheConfig.cleanUpTimerInterval.get().toMillis(), new Handler<Long>() {
                     @Override
                     public void handle(Long event) {
                         // Remove all the entries which have expired
-                        removeInvalidEntries();
+                        cache.removeExpiredEntries();
                     }
                 });
             }
-        } else {
-            cacheMap = Collections.emptyMap();
         }
     }
 
     @Override
     public Uni<Void> addIntrospection(String token, TokenIntrospection introspection, OidcTenantConfig oidcTenantConfig,
             OidcRequestContext<Void> requestContext) {
-        if (cacheConfig.maxSize > 0) {
+        if (cache != null) {
             CacheEntry entry = findValidCacheEntry(token);
             if (entry != null) {
                 entry.introspection = introspection;
-            } else if (prepareSpaceForNewCacheEntry()) {
-                cacheMap.put(token, new CacheEntry(introspection));
+            } else {
+                CacheEntry newEntry = new CacheEntry();
+                newEntry.introspection = introspection;
+                addCacheEntry(token, newEntry);
             }
         }
 
@@ -78,18 +78,22 @@ public class DefaultTokenIntrospectionUserInfoCache implements TokenIntrospectio
     public Uni<TokenIntrospection> getIntrospection(String token, OidcTenantConfig oidcConfig,
             OidcRequestContext<TokenIntrospection> requestContext) {
         CacheEntry entry = findValidCacheEntry(token);
-        return entry == null ? NULL_INTROSPECTION_UNI : Uni.createFrom().item(entry.introspection);
+        TokenIntrospection introspection = entry == null ? null : entry.introspection;
+        recordLookup(introspection != null);
+        return introspection == null ? NULL_INTROSPECTION_UNI : Uni.createFrom().item(introspection);
     }
 
     @Override
     public Uni<Void> addUserInfo(String token, UserInfo userInfo, OidcTenantConfig oidcTenantConfig,
             OidcRequestContext<Void> requestContext) {
-        if (cacheConfig.maxSize > 0) {
+        if (cache != null) {
             CacheEntry entry = findValidCacheEntry(token);
             if (entry != null) {
                 entry.userInfo = userInfo;
-            } else if (prepareSpaceForNewCacheEntry()) {
-                cacheMap.put(token, new CacheEntry(userInfo));
+            } else {
+                CacheEntry newEntry = new CacheEntry();
+                newEntry.userInfo = userInfo;
+                addCacheEntry(token, newEntry);
             }
         }
 
@@ -100,86 +104,54 @@ public class DefaultTokenIntrospectionUserInfoCache implements TokenIntrospectio
     public Uni<UserInfo> getUserInfo(String token, OidcTenantConfig oidcConfig,
             OidcRequestContext<UserInfo> requestContext) {
         CacheEntry entry = findValidCacheEntry(token);
-        return entry == null ? NULL_USERINFO_UNI : Uni.createFrom().item(entry.userInfo);
+        UserInfo userInfo = entry == null ? null : entry.userInfo;
+        recordLookup(userInfo != null);
+        return userInfo == null ? NULL_USERINFO_UNI : Uni.createFrom().item(userInfo);
     }
 
     public int getCacheSize() {
-        return cacheMap.size();
+        return cache == null ? 0 : cache.getSize();
     }
 
-    public void clearCache() {
-        cacheMap.clear();
+    public long getHitCount() {
+        return hitCount.sum();
     }
 
-    private void removeInvalidEntries() {
-        long now = now();
-        for (Iterator<Map.Entry<String, CacheEntry>> it = cacheMap.entrySet().iterator(); it.hasNext();) {
-            Map.Entry<String, CacheEntry> next = it.next();
-            if (isEntryExpired(next.getValue(), now)) {
-                it.remove();
-                size.decrementAndGet();
-            }
-        }
+    public long getMissCount() {
+        return missCount.sum();
     }
 
-    private boolean prepareSpaceForNewCacheEntry() {
-        int currentSize;
-        do {
-            currentSize = size.get();
-            if (currentSize == cacheConfig.maxSize) {
-                return false;
-            }
-        } while (!size.compareAndSet(currentSize, currentSize + 1));
-        return true;
+    public long getEvictionCount() {
+        return cache == null ? 0 : cache.getEvictionCount();
     }
 
-    private CacheEntry findValidCacheEntry(String token) {
-        CacheEntry entry = cacheMap.get(token);
-        if (entry != null) {
-            long now = now();
-            if (isEntryExpired(entry, now)) {
-                // Entry has expired, remote introspection will be required
-                entry = null;
-                cacheMap.remove(token);
-                size.decrementAndGet();
-            }
+    public void clearCache() {
+        if (cache != null) {
+            cache.clear();
         }
-        return entry;
     }
 
-    private boolean isEntryExpired(CacheEntry entry, long now) {
-        return entry.createdTime + cacheConfig.timeToLive.toMillis() < now;
+    private void addCacheEntry(String token, CacheEntry newEntry) {
+        cache.put(token, newEntry, System.currentTimeMillis() + cacheConfig.timeToLive.toMillis());
     }
 
-    private static long now() {
-        return System.currentTimeMillis();
+    private CacheEntry findValidCacheEntry(String token) {
+        // An expired entry is removed, remote introspection will be required
+        return cache == null ? null : cache.get(token);
     }
 
-    private static class CacheEntry {
-        volatile TokenIntrospection introspection;
-        volatile UserInfo userInfo;
-        long createdTime = System.currentTimeMillis();
-
-        public CacheEntry(TokenIntrospection introspection) {
-            this.introspection = introspection;
-        }
-
-        public CacheEntry(UserInfo userInfo) {
-            this.userInfo = userInfo;
+    private void recordLookup(boolean hit) {
+        if (cache != null) {
+            if (hit) {
+                hitCount.increment();
+            } else {
+                missCount.increment();
+            }
         }
     }
 
-    private static class IncrementOperator implements IntUnaryOperator {
-        int maxSize;
-
-        IncrementOperator(int maxSize) {
-            this.maxSize = maxSize;
-        }
-
-        @Override
-        public int applyAsInt(int n) {
-            return n < maxSize ? n + 1 : n;
-        }
-
+    private static class CacheEntry {
+        volatile TokenIntrospection introspection;
+        volatile UserInfo userInfo;
     }
 }
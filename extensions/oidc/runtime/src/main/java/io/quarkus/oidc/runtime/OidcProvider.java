@@ -4,6 +4,8 @@ import java.io.Closeable;
 import java.security.Key;
 import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
@@ -27,6 +29,7 @@ import io.quarkus.oidc.TokenIntrospection;
 import io.quarkus.oidc.UserInfo;
 import io.quarkus.oidc.common.runtime.OidcConstants;
 import io.quarkus.security.AuthenticationFailedException;
+import io.quarkus.security.runtime.VerifiedTokenCache;
 import io.smallrye.jwt.algorithm.SignatureAlgorithm;
 import io.smallrye.jwt.util.KeyUtils;
 import io.smallrye.mutiny.Uni;
@@ -51,6 +54,11 @@ public class OidcProvider implements Closeable {
     final OidcTenantConfig oidcConfig;
     final String issuer;
     final String[] audience;
+    final VerifiedTokenCache<TokenVerificationResult> verifiedJwtCache;
+
+    // Shared by the verified JWT caches of all the providers, so that the totals do not decrease when a provider is replaced
+    static final LongAdder VERIFIED_JWT_CACHE_HIT_COUNT = new LongAdder();
+    static final LongAdder VERIFIED_JWT_CACHE_MISS_COUNT = new LongAdder();
 
     public OidcProvider(OidcProviderClient client, OidcTenantConfig oidcConfig, JsonWebKeySet jwks) {
         this.client = client;
@@ -60,6 +68,7 @@ public class OidcProvider implements Closeable {
 
         this.issuer = checkIssuerProp();
         this.audience = checkAudienceProp();
+        this.verifiedJwtCache = createVerifiedJwtCache();
     }
 
     public OidcProvider(String publicKeyEnc, OidcTenantConfig oidcConfig) {
@@ -68,6 +77,7 @@ public class OidcProvider implements Closeable {
         this.asymmetricKeyResolver = new LocalPublicKeyResolver(publicKeyEnc);
         this.issuer = checkIssuerProp();
         this.audience = checkAudienceProp();
+        this.verifiedJwtCache = createVerifiedJwtCache();
     }
 
     private String checkIssuerProp() {
@@ -81,6 +91,14 @@ public class OidcProvider implements Closeable {
         return ANY_ISSUER.equals(issuerProp) ? null : issuerProp;
     }
 
+    private VerifiedTokenCache<TokenVerificationResult> createVerifiedJwtCache() {
+        if (oidcConfig != null && oidcConfig.token.verifiedJwtCacheSize > 0) {
+            return new VerifiedTokenCache<>(oidcConfig.token.verifiedJwtCacheSize,
+                    oidcConfig.token.verifiedJwtCacheTimeToLive, VERIFIED_JWT_CACHE_HIT_COUNT, VERIFIED_JWT_CACHE_MISS_COUNT);
+        }
+        return null;
+    }
+
     private String[] checkAudienceProp() {
         List<String> audienceProp = oidcConfig != null ? oidcConfig.token.audience.orElse(null) : null;
         return audienceProp != null ? audienceProp.toArray(new String[] {}) : null;
@@ -91,7 +109,19 @@ public class OidcProvider implements Closeable {
     }
 
     public TokenVerificationResult verifyJwtToken(String token) throws InvalidJwtException {
-        return verifyJwtTokenInternal(token, ASYMMETRIC_ALGORITHM_CONSTRAINTS, asymmetricKeyResolver);
+        if (verifiedJwtCache == null) {
+            return verifyJwtTokenInternal(token, ASYMMETRIC_ALGORITHM_CONSTRAINTS, asymmetricKeyResolver);
+        }
+        String key = verifiedJwtCache.key(token);
+        TokenVerificationResult result = verifiedJwtCache.get(key);
+        if (result == null) {
+            result = verifyJwtTokenInternal(token, ASYMMETRIC_ALGORITHM_CONSTRAINTS, asymmetricKeyResolver);
+            // The expiration time is required by the verification
+            long expiresAt = result.localVerificationResult.getLong("exp")
+                    + oidcConfig.token.lifespanGrace.orElse(0);
+            verifiedJwtCache.put(key, result, TimeUnit.SECONDS.toMillis(expiresAt));
+        }
+        return result;
     }
 
     private TokenVerificationResult verifyJwtTokenInternal(String token, AlgorithmConstraints algConstraints,
@@ -285,6 +315,10 @@ public class OidcProvider implements Closeable {
                     @Override
                     public Uni<? extends Void> apply(JsonWebKeySet t) {
                         jwks = t;
+                        if (verifiedJwtCache != null) {
+                            // The tokens signed with the keys which are no longer available must be verified again
+                            verifiedJwtCache.clear();
+                        }
                         return Uni.createFrom().voidItem();
                     }
 
@@ -5,6 +5,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -24,6 +25,7 @@ import io.quarkus.runtime.LaunchMode;
 import io.quarkus.runtime.TlsConfig;
 import io.quarkus.runtime.annotations.Recorder;
 import io.quarkus.runtime.configuration.ConfigurationException;
+import io.quarkus.runtime.metrics.MetricsFactory;
 import io.smallrye.mutiny.Uni;
 import io.vertx.core.Vertx;
 import io.vertx.core.net.ProxyOptions;
@@ -42,6 +44,82 @@ public class OidcRecorder {
         return () -> new DefaultTokenIntrospectionUserInfoCache(config, vertx.get());
     }
 
+    /* RUNTIME_INIT */
+    public Consumer<MetricsFactory> registerTokenCacheMetrics(OidcConfig config) {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                if (config.tokenCache.maxSize <= 0) {
+                    return;
+                }
+                DefaultTokenIntrospectionUserInfoCache cache = Arc.container()
+                        .instance(DefaultTokenIntrospectionUserInfoCache.class).get();
+                metricsFactory.builder("oidc.token.cache.size")
+                        .description("The number of entries in the token introspection and UserInfo cache.")
+                        .buildGauge(cache::getCacheSize);
+                metricsFactory.builder("oidc.token.cache.gets")
+                        .description("The number of times a token introspection or UserInfo was found in the cache.")
+                        .tag("result", "hit")
+                        .buildCounter(cache::getHitCount);
+                metricsFactory.builder("oidc.token.cache.gets")
+                        .description("The number of times a token introspection or UserInfo was not found in the cache.")
+                        .tag("result", "miss")
+                        .buildCounter(cache::getMissCount);
+                metricsFactory.builder("oidc.token.cache.evictions")
+                        .description("The number of times the least recently used entry has been evicted from the cache.")
+                        .buildCounter(cache::getEvictionCount);
+            }
+        };
+    }
+
+    /* RUNTIME_INIT */
+    public Consumer<MetricsFactory> registerVerifiedJwtCacheMetrics(OidcConfig config) {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                boolean cacheEnabled = config.defaultTenant.token.verifiedJwtCacheSize > 0;
+                for (OidcTenantConfig tenantConfig : config.namedTenants.values()) {
+                    cacheEnabled |= tenantConfig.token.verifiedJwtCacheSize > 0;
+                }
+                if (!cacheEnabled) {
+                    return;
+                }
+                metricsFactory.builder("oidc.verified.jwt.cache.size")
+                        .description("The number of verified JWT tokens in the caches of all the tenants.")
+                        .buildGauge(() -> sumVerifiedJwtCacheSizes());
+                // The counters are shared by the caches of all the providers, a provider which is replaced does not
+                // take its counts away
+                metricsFactory.builder("oidc.verified.jwt.cache.gets")
+                        .description("The number of times a JWT token has been found in the verified token caches.")
+                        .tag("result", "hit")
+                        .buildCounter(OidcProvider.VERIFIED_JWT_CACHE_HIT_COUNT::sum);
+                metricsFactory.builder("oidc.verified.jwt.cache.gets")
+                        .description("The number of times a JWT token has not been found in the verified token caches.")
+                        .tag("result", "miss")
+                        .buildCounter(OidcProvider.VERIFIED_JWT_CACHE_MISS_COUNT::sum);
+            }
+        };
+    }
+
+    private static long sumVerifiedJwtCacheSizes() {
+        TenantConfigBean tenantConfigBean = Arc.container().instance(TenantConfigBean.class).get();
+        long sum = getVerifiedJwtCacheSize(tenantConfigBean.getDefaultTenant());
+        for (TenantConfigContext context : tenantConfigBean.getStaticTenantsConfig().values()) {
+            sum += getVerifiedJwtCacheSize(context);
+        }
+        for (TenantConfigContext context : tenantConfigBean.getDynamicTenantsConfig().values()) {
+            sum += getVerifiedJwtCacheSize(context);
+        }
+        return sum;
+    }
+
+    private static long getVerifiedJwtCacheSize(TenantConfigContext context) {
+        if (context == null || context.provider == null || context.provider.verifiedJwtCache == null) {
+            return 0;
+        }
+        return context.provider.verifiedJwtCache.getSize();
+    }
+
     public Supplier<TenantConfigBean> setup(OidcConfig config, Supplier<Vertx> vertx, TlsConfig tlsConfig) {
         final Vertx vertxValue = vertx.get();
 
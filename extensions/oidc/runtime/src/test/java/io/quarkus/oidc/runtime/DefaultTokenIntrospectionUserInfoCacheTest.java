@@ -0,0 +1,69 @@
+package io.quarkus.oidc.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.oidc.TokenIntrospection;
+import io.quarkus.oidc.UserInfo;
+
+public class DefaultTokenIntrospectionUserInfoCacheTest {
+
+    @Test
+    public void testLeastRecentlyUsedEntryIsEvicted() {
+        DefaultTokenIntrospectionUserInfoCache cache = createCache(2, Duration.ofMinutes(3));
+        cache.addIntrospection("token1", new TokenIntrospection(), null, null);
+        cache.addIntrospection("token2", new TokenIntrospection(), null, null);
+        assertNotNull(getIntrospection(cache, "token1"));
+
+        cache.addIntrospection("token3", new TokenIntrospection(), null, null);
+        assertEquals(2, cache.getCacheSize());
+        assertEquals(1, cache.getEvictionCount());
+        assertNotNull(getIntrospection(cache, "token1"));
+        assertNull(getIntrospection(cache, "token2"));
+        assertNotNull(getIntrospection(cache, "token3"));
+
+        assertEquals(3, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    public void testExpiredEntriesAreRemovedFirst() {
+        DefaultTokenIntrospectionUserInfoCache cache = createCache(2, Duration.ofMillis(-1));
+        cache.addIntrospection("token1", new TokenIntrospection(), null, null);
+        cache.addUserInfo("token2", new UserInfo(), null, null);
+        assertEquals(1, cache.getCacheSize());
+        assertEquals(0, cache.getEvictionCount());
+        assertNull(cache.getUserInfo("token2", null, null).await().indefinitely());
+        assertEquals(0, cache.getCacheSize());
+    }
+
+    @Test
+    public void testIntrospectionAndUserInfoShareEntry() {
+        DefaultTokenIntrospectionUserInfoCache cache = createCache(2, Duration.ofMinutes(3));
+        cache.addIntrospection("token1", new TokenIntrospection(), null, null);
+        assertNull(cache.getUserInfo("token1", null, null).await().indefinitely());
+        cache.addUserInfo("token1", new UserInfo(), null, null);
+        assertNotNull(cache.getUserInfo("token1", null, null).await().indefinitely());
+        assertEquals(1, cache.getCacheSize());
+
+        cache.clearCache();
+        assertEquals(0, cache.getCacheSize());
+        assertNull(getIntrospection(cache, "token1"));
+    }
+
+    private static TokenIntrospection getIntrospection(DefaultTokenIntrospectionUserInfoCache cache, String token) {
+        return cache.getIntrospection(token, null, null).await().indefinitely();
+    }
+
+    private static DefaultTokenIntrospectionUserInfoCache createCache(int maxSize, Duration timeToLive) {
+        OidcConfig config = new OidcConfig();
+        config.tokenCache.maxSize = maxSize;
+        config.tokenCache.timeToLive = timeToLive;
+        return new DefaultTokenIntrospectionUserInfoCache(config, null);
+    }
+}
@@ -0,0 +1,103 @@
+package io.quarkus.oidc.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletionException;
+
+import org.jose4j.jwk.JsonWebKey;
+import org.jose4j.jwk.RsaJsonWebKey;
+import org.jose4j.jwk.RsaJwkGenerator;
+import org.jose4j.jws.AlgorithmIdentifiers;
+import org.jose4j.jws.JsonWebSignature;
+import org.jose4j.jwt.JwtClaims;
+import org.jose4j.jwt.consumer.InvalidJwtException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.oidc.OidcTenantConfig;
+import io.smallrye.mutiny.Uni;
+
+public class OidcProviderTest {
+
+    RsaJsonWebKey rsaJsonWebKey;
+    String token;
+
+    @BeforeEach
+    public void createToken() throws Exception {
+        rsaJsonWebKey = RsaJwkGenerator.generateJwk(2048);
+        rsaJsonWebKey.setKeyId("k1");
+
+        JwtClaims claims = new JwtClaims();
+        claims.setSubject("alice");
+        claims.setIssuedAtToNow();
+        claims.setExpirationTimeMinutesInTheFuture(5);
+
+        JsonWebSignature jws = new JsonWebSignature();
+        jws.setPayload(claims.toJson());
+        jws.setKey(rsaJsonWebKey.getPrivateKey());
+        jws.setKeyIdHeaderValue(rsaJsonWebKey.getKeyId());
+        jws.setAlgorithmHeaderValue(AlgorithmIdentifiers.RSA_USING_SHA256);
+        token = jws.getCompactSerialization();
+    }
+
+    @Test
+    public void testVerifiedJwtCacheHit() throws Exception {
+        OidcProvider provider = createProvider(Duration.ofMinutes(3), jwks(rsaJsonWebKey));
+
+        TokenVerificationResult result = provider.verifyJwtToken(token);
+        assertEquals("alice", result.localVerificationResult.getString("sub"));
+        assertSame(result, provider.verifyJwtToken(token));
+        assertEquals(1, provider.verifiedJwtCache.getSize());
+    }
+
+    @Test
+    public void testVerifiedJwtCacheTimeToLive() throws Exception {
+        OidcProvider provider = createProvider(Duration.ofMillis(1), jwks(rsaJsonWebKey));
+
+        TokenVerificationResult result = provider.verifyJwtToken(token);
+        Thread.sleep(5);
+        // The token is still valid but it has been cached for longer than the time to live, so it is verified again
+        assertNotSame(result, provider.verifyJwtToken(token));
+    }
+
+    @Test
+    public void testVerifiedJwtCacheIsClearedWhenJwksIsRefreshed() throws Exception {
+        RsaJsonWebKey newJsonWebKey = RsaJwkGenerator.generateJwk(2048);
+        newJsonWebKey.setKeyId("k2");
+        OidcProvider provider = createProvider(Duration.ofMinutes(3), jwks(newJsonWebKey));
+
+        provider.verifyJwtToken(token);
+        assertEquals(1, provider.verifiedJwtCache.getSize());
+
+        // The key the token has been signed with is no longer in the refreshed JWK set
+        CompletionException ex = assertThrows(CompletionException.class,
+                () -> provider.refreshJwksAndVerifyJwtToken(token).await().indefinitely());
+        assertTrue(ex.getCause() instanceof InvalidJwtException);
+        assertEquals(0, provider.verifiedJwtCache.getSize());
+        assertThrows(InvalidJwtException.class, () -> provider.verifyJwtToken(token));
+    }
+
+    private OidcProvider createProvider(Duration timeToLive, String refreshedJwks) {
+        OidcTenantConfig oidcConfig = new OidcTenantConfig();
+        oidcConfig.token.issuer = Optional.of("any");
+        oidcConfig.token.verifiedJwtCacheSize = 10;
+        oidcConfig.token.verifiedJwtCacheTimeToLive = timeToLive;
+        OidcProviderClient client = new OidcProviderClient(null, null, oidcConfig) {
+            @Override
+            public Uni<JsonWebKeySet> getJsonWebKeySet() {
+                return Uni.createFrom().item(new JsonWebKeySet(refreshedJwks));
+            }
+        };
+        return new OidcProvider(client, oidcConfig, new JsonWebKeySet(jwks(rsaJsonWebKey)));
+    }
+
+    private static String jwks(RsaJsonWebKey key) {
+        return "{\"keys\":[" + key.toJson(JsonWebKey.OutputControlLevel.PUBLIC_ONLY) + "]}";
+    }
+}
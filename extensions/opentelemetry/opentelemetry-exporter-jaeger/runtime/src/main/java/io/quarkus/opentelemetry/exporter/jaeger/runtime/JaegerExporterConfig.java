@@ -3,6 +3,7 @@ package io.quarkus.opentelemetry.exporter.jaeger.runtime;
 import java.time.Duration;
 import java.util.Optional;
 
+import io.quarkus.opentelemetry.runtime.tracing.BatchSpanProcessorConfig;
 import io.quarkus.runtime.annotations.ConfigItem;
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
@@ -35,5 +36,10 @@ public class JaegerExporterConfig {
          */
         @ConfigItem(defaultValue = "10S")
         public Duration exportTimeout;
+
+        /**
+         * The batching of the exported spans.
+         */
+        public BatchSpanProcessorConfig batch;
     }
 }
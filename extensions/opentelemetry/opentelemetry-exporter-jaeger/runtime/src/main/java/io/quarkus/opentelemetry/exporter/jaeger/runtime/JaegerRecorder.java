@@ -1,14 +1,16 @@
 package io.quarkus.opentelemetry.exporter.jaeger.runtime;
 
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import javax.enterprise.inject.Any;
 import javax.enterprise.inject.spi.CDI;
 
 import io.opentelemetry.exporter.jaeger.JaegerGrpcSpanExporter;
-import io.opentelemetry.sdk.trace.export.BatchSpanProcessor;
+import io.quarkus.opentelemetry.runtime.tracing.BoundedBatchSpanProcessor;
 import io.quarkus.runtime.LaunchMode;
 import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
 
 @Recorder
 public class JaegerRecorder {
@@ -28,13 +30,39 @@ public class JaegerRecorder {
                         .setTimeout(runtimeConfig.exportTimeout)
                         .build();
 
-                // Create BatchSpanProcessor for Jaeger and install into LateBoundBatchSpanProcessor
+                // Create a bounded BatchSpanProcessor for Jaeger and install into LateBoundBatchSpanProcessor
                 LateBoundBatchSpanProcessor delayedProcessor = CDI.current()
                         .select(LateBoundBatchSpanProcessor.class, Any.Literal.INSTANCE).get();
-                delayedProcessor.setBatchSpanProcessorDelegate(BatchSpanProcessor.builder(jaegerSpanExporter).build());
+                delayedProcessor.setBatchSpanProcessorDelegate(
+                        new BoundedBatchSpanProcessor(jaegerSpanExporter, runtimeConfig.batch, runtimeConfig.exportTimeout));
             } catch (IllegalArgumentException iae) {
                 throw new IllegalStateException("Unable to install Jaeger Exporter", iae);
             }
         }
     }
+
+    /* RUNTIME_INIT */
+    public Consumer<MetricsFactory> registerMetrics() {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                LateBoundBatchSpanProcessor processor = CDI.current()
+                        .select(LateBoundBatchSpanProcessor.class, Any.Literal.INSTANCE).get();
+                metricsFactory.builder("opentelemetry.exporter.queue.size")
+                        .description("The number of ended spans waiting to be exported.")
+                        .tag("exporter", "jaeger")
+                        .buildGauge(processor::getQueueSize);
+                metricsFactory.builder("opentelemetry.exporter.spans")
+                        .description("The number of spans handed to the exporter.")
+                        .tag("exporter", "jaeger")
+                        .tag("result", "exported")
+                        .buildCounter(processor::getExportedCount);
+                metricsFactory.builder("opentelemetry.exporter.spans")
+                        .description("The number of spans dropped because the export queue was full.")
+                        .tag("exporter", "jaeger")
+                        .tag("result", "dropped")
+                        .buildCounter(processor::getDroppedCount);
+            }
+        };
+    }
 }
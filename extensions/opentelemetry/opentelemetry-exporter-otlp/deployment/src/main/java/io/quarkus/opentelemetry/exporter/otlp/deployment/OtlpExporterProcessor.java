@@ -1,14 +1,18 @@
 package io.quarkus.opentelemetry.exporter.otlp.deployment;
 
+import java.util.Optional;
 import java.util.function.BooleanSupplier;
 
 import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
 import io.quarkus.deployment.Feature;
+import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.ExecutionTime;
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.LaunchModeBuildItem;
+import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
 import io.quarkus.opentelemetry.exporter.otlp.runtime.OtlpExporterConfig;
 import io.quarkus.opentelemetry.exporter.otlp.runtime.OtlpExporterProvider;
 import io.quarkus.opentelemetry.exporter.otlp.runtime.OtlpRecorder;
@@ -42,4 +46,14 @@ public class OtlpExporterProcessor {
             OtlpExporterConfig.OtlpExporterRuntimeConfig runtimeConfig) {
         recorder.installBatchSpanProcessorForOtlp(runtimeConfig, launchModeBuildItem.getLaunchMode());
     }
+
+    @BuildStep(onlyIf = OtlpExporterEnabled.class)
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void registerMetrics(OtlpRecorder recorder,
+            Optional<MetricsCapabilityBuildItem> metricsCapability,
+            BuildProducer<MetricsFactoryConsumerBuildItem> metrics) {
+        if (metricsCapability.isPresent()) {
+            metrics.produce(new MetricsFactoryConsumerBuildItem(recorder.registerMetrics()));
+        }
+    }
 }
@@ -8,6 +8,7 @@ import io.opentelemetry.sdk.trace.ReadWriteSpan;
 import io.opentelemetry.sdk.trace.ReadableSpan;
 import io.opentelemetry.sdk.trace.SpanProcessor;
 import io.opentelemetry.sdk.trace.export.BatchSpanProcessor;
+import io.quarkus.opentelemetry.runtime.tracing.BoundedBatchSpanProcessor;
 
 /**
  * Class to facilitate a delay in when the worker thread inside {@link BatchSpanProcessor}
@@ -18,17 +19,44 @@ public class LateBoundBatchSpanProcessor implements SpanProcessor {
     private static final Logger log = Logger.getLogger(LateBoundBatchSpanProcessor.class);
 
     private boolean warningLogged = false;
-    private BatchSpanProcessor delegate;
+    private SpanProcessor delegate;
 
     /**
      * Set the actual {@link BatchSpanProcessor} to use as the delegate.
      *
-     * @param delegate Properly constructed {@link BatchSpanProcessor} for processing spans.
+     * @param delegate Properly constructed {@link BatchSpanProcessor} or {@link BoundedBatchSpanProcessor}
+     *        for processing spans.
      */
-    public void setBatchSpanProcessorDelegate(BatchSpanProcessor delegate) {
+    public void setBatchSpanProcessorDelegate(SpanProcessor delegate) {
         this.delegate = delegate;
     }
 
+    /**
+     * @return the number of spans waiting to be exported, or {@code 0} if the delegate does not keep count of them
+     */
+    public int getQueueSize() {
+        SpanProcessor delegate = this.delegate;
+        return delegate instanceof BoundedBatchSpanProcessor ? ((BoundedBatchSpanProcessor) delegate).getQueueSize() : 0;
+    }
+
+    /**
+     * @return the number of exported spans, or {@code 0} if the delegate does not keep count of them
+     */
+    public long getExportedCount() {
+        SpanProcessor delegate = this.delegate;
+        return delegate instanceof BoundedBatchSpanProcessor ? ((BoundedBatchSpanProcessor) delegate).getExportedCount()
+                : 0;
+    }
+
+    /**
+     * @return the number of dropped spans, or {@code 0} if the delegate does not keep count of them
+     */
+    public long getDroppedCount() {
+        SpanProcessor delegate = this.delegate;
+        return delegate instanceof BoundedBatchSpanProcessor ? ((BoundedBatchSpanProcessor) delegate).getDroppedCount()
+                : 0;
+    }
+
     @Override
     public void onStart(Context parentContext, ReadWriteSpan span) {
         if (delegate == null) {
@@ -4,6 +4,7 @@ import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 
+import io.quarkus.opentelemetry.runtime.tracing.BatchSpanProcessorConfig;
 import io.quarkus.runtime.annotations.ConfigItem;
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
@@ -48,6 +49,11 @@ public class OtlpExporterConfig {
         @ConfigItem(defaultValue = "10S")
         public Duration exportTimeout;
 
+        /**
+         * The batching of the exported spans.
+         */
+        public BatchSpanProcessorConfig batch;
+
         /**
          * Compression method to be used by exporter to compress the payload.
          * <p>
@@ -2,16 +2,18 @@ package io.quarkus.opentelemetry.exporter.otlp.runtime;
 
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import javax.enterprise.inject.Any;
 import javax.enterprise.inject.spi.CDI;
 
 import io.opentelemetry.exporter.otlp.trace.OtlpGrpcSpanExporter;
 import io.opentelemetry.exporter.otlp.trace.OtlpGrpcSpanExporterBuilder;
-import io.opentelemetry.sdk.trace.export.BatchSpanProcessor;
 import io.quarkus.opentelemetry.runtime.OpenTelemetryUtil;
+import io.quarkus.opentelemetry.runtime.tracing.BoundedBatchSpanProcessor;
 import io.quarkus.runtime.LaunchMode;
 import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
 
 @Recorder
 public class OtlpRecorder {
@@ -36,13 +38,39 @@ public class OtlpRecorder {
 
                 OtlpGrpcSpanExporter otlpSpanExporter = otlpGrpcSpanExporterBuilder.build();
 
-                // Create BatchSpanProcessor for OTLP and install into LateBoundBatchSpanProcessor
+                // Create a bounded BatchSpanProcessor for OTLP and install into LateBoundBatchSpanProcessor
                 LateBoundBatchSpanProcessor delayedProcessor = CDI.current()
                         .select(LateBoundBatchSpanProcessor.class, Any.Literal.INSTANCE).get();
-                delayedProcessor.setBatchSpanProcessorDelegate(BatchSpanProcessor.builder(otlpSpanExporter).build());
+                delayedProcessor.setBatchSpanProcessorDelegate(
+                        new BoundedBatchSpanProcessor(otlpSpanExporter, runtimeConfig.batch, runtimeConfig.exportTimeout));
             } catch (IllegalArgumentException iae) {
                 throw new IllegalStateException("Unable to install OTLP Exporter", iae);
             }
         }
     }
+
+    /* RUNTIME_INIT */
+    public Consumer<MetricsFactory> registerMetrics() {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                LateBoundBatchSpanProcessor processor = CDI.current()
+                        .select(LateBoundBatchSpanProcessor.class, Any.Literal.INSTANCE).get();
+                metricsFactory.builder("opentelemetry.exporter.queue.size")
+                        .description("The number of ended spans waiting to be exported.")
+                        .tag("exporter", "otlp")
+                        .buildGauge(processor::getQueueSize);
+                metricsFactory.builder("opentelemetry.exporter.spans")
+                        .description("The number of spans handed to the exporter.")
+                        .tag("exporter", "otlp")
+                        .tag("result", "exported")
+                        .buildCounter(processor::getExportedCount);
+                metricsFactory.builder("opentelemetry.exporter.spans")
+                        .description("The number of spans dropped because the export queue was full.")
+                        .tag("exporter", "otlp")
+                        .tag("result", "dropped")
+                        .buildCounter(processor::getDroppedCount);
+            }
+        };
+    }
 }
@@ -4,6 +4,7 @@ import static javax.interceptor.Interceptor.Priority.LIBRARY_AFTER;
 
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.BooleanSupplier;
 
@@ -35,6 +36,8 @@ import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.NativeImageResourceBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
+import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
 import io.quarkus.opentelemetry.runtime.OpenTelemetryConfig;
 import io.quarkus.opentelemetry.runtime.tracing.TracerProducer;
 import io.quarkus.opentelemetry.runtime.tracing.TracerRecorder;
@@ -168,6 +171,18 @@ public class TracerProcessor {
             TracerRecorder recorder) {
         recorder.setupResources(runtimeConfig);
         recorder.setupSampler(runtimeConfig);
+        recorder.setupTailSampling(runtimeConfig);
         recorder.setupVertxTracer();
     }
+
+    @BuildStep(onlyIf = TracerEnabled.class)
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void registerTailSamplingMetrics(TracerRuntimeConfig runtimeConfig,
+            TracerRecorder recorder,
+            Optional<MetricsCapabilityBuildItem> metricsCapability,
+            BuildProducer<MetricsFactoryConsumerBuildItem> metrics) {
+        if (metricsCapability.isPresent()) {
+            metrics.produce(new MetricsFactoryConsumerBuildItem(recorder.registerTailSamplingMetrics(runtimeConfig)));
+        }
+    }
 }
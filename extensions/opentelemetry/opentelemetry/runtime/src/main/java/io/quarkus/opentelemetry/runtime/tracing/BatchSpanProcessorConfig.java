@@ -0,0 +1,32 @@
+package io.quarkus.opentelemetry.runtime.tracing;
+
+import java.time.Duration;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+@ConfigGroup
+public class BatchSpanProcessorConfig {
+
+    /**
+     * The maximum number of ended spans waiting to be exported, including the batch being assembled.
+     * <p>
+     * The spans which end while the queue is full are dropped.
+     */
+    @ConfigItem(defaultValue = "2048")
+    public int maxQueueSize;
+
+    /**
+     * The maximum number of spans sent to the collector in a single export request.
+     * <p>
+     * It must not be greater than the maximum queue size.
+     */
+    @ConfigItem(defaultValue = "512")
+    public int maxExportBatchSize;
+
+    /**
+     * The maximum delay between two exports. A smaller batch is exported when the delay has elapsed.
+     */
+    @ConfigItem(defaultValue = "5S")
+    public Duration scheduleDelay;
+}
@@ -0,0 +1,142 @@
+package io.quarkus.opentelemetry.runtime.tracing;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.BatchSpanProcessor;
+import io.opentelemetry.sdk.trace.export.BatchSpanProcessorBuilder;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+
+/**
+ * A {@link BatchSpanProcessor} which keeps count of the spans it queues, exports and drops.
+ * <p>
+ * The ended spans are queued and exported in batches by the worker thread of the {@link BatchSpanProcessor}, so the
+ * threads ending the spans never wait for the collector. A span which ends while {@code maxQueueSize} spans are waiting
+ * to be exported, the batch being assembled included, is dropped here, so the processor never drops a span which has
+ * not been counted.
+ */
+public class BoundedBatchSpanProcessor implements SpanProcessor {
+
+    private final int maxQueueSize;
+    private final BatchSpanProcessor delegate;
+    private final AtomicInteger queueSize = new AtomicInteger();
+    private final LongAdder exportedCount = new LongAdder();
+    private final LongAdder droppedCount = new LongAdder();
+
+    public BoundedBatchSpanProcessor(SpanExporter spanExporter, BatchSpanProcessorConfig config, Duration exportTimeout) {
+        if (config.maxQueueSize <= 0) {
+            throw new IllegalArgumentException("The maximum queue size must be positive");
+        }
+        if (config.maxExportBatchSize <= 0 || config.maxExportBatchSize > config.maxQueueSize) {
+            throw new IllegalArgumentException(
+                    "The maximum export batch size must be positive and not greater than the maximum queue size");
+        }
+        this.maxQueueSize = config.maxQueueSize;
+        BatchSpanProcessorBuilder builder = BatchSpanProcessor.builder(new CountingSpanExporter(spanExporter))
+                .setMaxQueueSize(config.maxQueueSize)
+                .setMaxExportBatchSize(config.maxExportBatchSize)
+                .setScheduleDelay(config.scheduleDelay);
+        if (!exportTimeout.isZero()) {
+            // A zero timeout disables the exporter timeout but would not let the worker wait for the export at all
+            builder.setExporterTimeout(exportTimeout);
+        }
+        this.delegate = builder.build();
+    }
+
+    /**
+     * @return the number of spans waiting to be exported
+     */
+    public int getQueueSize() {
+        return queueSize.get();
+    }
+
+    /**
+     * @return the number of spans handed to the exporter
+     */
+    public long getExportedCount() {
+        return exportedCount.sum();
+    }
+
+    /**
+     * @return the number of spans dropped because the queue was full
+     */
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    @Override
+    public void onStart(Context parentContext, ReadWriteSpan span) {
+        delegate.onStart(parentContext, span);
+    }
+
+    @Override
+    public boolean isStartRequired() {
+        return delegate.isStartRequired();
+    }
+
+    @Override
+    public void onEnd(ReadableSpan span) {
+        if (!span.getSpanContext().isSampled()) {
+            // Not exported by the delegate either
+            return;
+        }
+        int size;
+        do {
+            size = queueSize.get();
+            if (size >= maxQueueSize) {
+                droppedCount.increment();
+                return;
+            }
+        } while (!queueSize.compareAndSet(size, size + 1));
+        delegate.onEnd(span);
+    }
+
+    @Override
+    public boolean isEndRequired() {
+        return delegate.isEndRequired();
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        return delegate.shutdown();
+    }
+
+    @Override
+    public CompletableResultCode forceFlush() {
+        return delegate.forceFlush();
+    }
+
+    private class CountingSpanExporter implements SpanExporter {
+
+        private final SpanExporter exporter;
+
+        CountingSpanExporter(SpanExporter exporter) {
+            this.exporter = exporter;
+        }
+
+        @Override
+        public CompletableResultCode export(Collection<SpanData> spans) {
+            queueSize.addAndGet(-spans.size());
+            exportedCount.add(spans.size());
+            return exporter.export(spans);
+        }
+
+        @Override
+        public CompletableResultCode flush() {
+            return exporter.flush();
+        }
+
+        @Override
+        public CompletableResultCode shutdown() {
+            return exporter.shutdown();
+        }
+    }
+}
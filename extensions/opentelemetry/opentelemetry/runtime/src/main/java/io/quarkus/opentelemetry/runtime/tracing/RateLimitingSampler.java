@@ -0,0 +1,183 @@
+package io.quarkus.opentelemetry.runtime.tracing;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.trace.data.LinkData;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import io.opentelemetry.sdk.trace.samplers.SamplingDecision;
+import io.opentelemetry.sdk.trace.samplers.SamplingResult;
+import io.opentelemetry.semconv.trace.attributes.SemanticAttributes;
+
+/**
+ * Samples at most the configured number of spans per second for every route, so that the rarely used routes are sampled
+ * as well as the busy ones.
+ * <p>
+ * The route is the {@code http.route} attribute if it is known when the span starts. Otherwise it is derived from the
+ * span name, which is the request URI of the server spans: the query string is removed, the path is normalized and the
+ * segments which look like identifiers are replaced with {@value #PATH_PARAMETER}.
+ * <p>
+ * Every route has its own limiter, which lets a burst of one second of spans through. The limiters are bounded to
+ * {@link #MAX_ROUTES}: once they are all created, the idle ones, which have accumulated a full burst and therefore behave
+ * like new ones, are evicted at most once per second. The routes which still find no room share the same limiter.
+ */
+public class RateLimitingSampler implements Sampler {
+    static final int MAX_ROUTES = 1000;
+    static final String PATH_PARAMETER = "{param}";
+
+    private static final SamplingResult POSITIVE_SAMPLING_RESULT = SamplingResult.create(SamplingDecision.RECORD_AND_SAMPLE);
+    private static final SamplingResult NEGATIVE_SAMPLING_RESULT = SamplingResult.create(SamplingDecision.DROP);
+
+    private final double spansPerSecond;
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final Map<String, RateLimiter> limiters = new ConcurrentHashMap<>();
+    private final RateLimiter sharedLimiter;
+    private final AtomicLong lastEviction;
+
+    public RateLimitingSampler(double spansPerSecond) {
+        if (spansPerSecond <= 0) {
+            throw new IllegalArgumentException("The number of spans per second must be positive");
+        }
+        this.spansPerSecond = spansPerSecond;
+        this.intervalNanos = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / spansPerSecond));
+        this.burstNanos = Math.max(intervalNanos, TimeUnit.SECONDS.toNanos(1));
+        this.sharedLimiter = new RateLimiter();
+        this.lastEviction = new AtomicLong(System.nanoTime() - burstNanos);
+    }
+
+    @Override
+    public SamplingResult shouldSample(Context parentContext, String traceId, String name, SpanKind spanKind,
+            Attributes attributes, List<LinkData> parentLinks) {
+        long now = System.nanoTime();
+        return getLimiter(route(name, attributes), now).tryAcquire(now) ? POSITIVE_SAMPLING_RESULT
+                : NEGATIVE_SAMPLING_RESULT;
+    }
+
+    @Override
+    public String getDescription() {
+        return "RateLimitingSampler{" + spansPerSecond + "}";
+    }
+
+    int getLimiterCount() {
+        return limiters.size();
+    }
+
+    private RateLimiter getLimiter(String route, long now) {
+        RateLimiter limiter = limiters.get(route);
+        if (limiter != null) {
+            return limiter;
+        }
+        if (limiters.size() >= MAX_ROUTES && !evictIdleLimiters(now)) {
+            return sharedLimiter;
+        }
+        return limiters.computeIfAbsent(route, r -> new RateLimiter());
+    }
+
+    private boolean evictIdleLimiters(long now) {
+        long last = lastEviction.get();
+        if (now - last >= burstNanos && lastEviction.compareAndSet(last, now)) {
+            // A span sampled concurrently by an evicted limiter is not accounted by its replacement, which is only a
+            // small overshoot
+            limiters.values().removeIf(limiter -> limiter.isIdle(now));
+        }
+        return limiters.size() < MAX_ROUTES;
+    }
+
+    static String route(String name, Attributes attributes) {
+        String route = attributes.get(SemanticAttributes.HTTP_ROUTE);
+        if (route != null) {
+            return route;
+        }
+        return normalizePath(name);
+    }
+
+    /**
+     * Removes the query string, collapses the slashes, removes the trailing slash and replaces the segments which look
+     * like identifiers.
+     */
+    static String normalizePath(String name) {
+        int end = name.indexOf('?');
+        if (end == -1) {
+            end = name.length();
+        }
+        StringBuilder path = new StringBuilder(end);
+        if (end > 0 && name.charAt(0) == '/') {
+            path.append('/');
+        }
+        int start = 0;
+        while (start < end) {
+            int slash = name.indexOf('/', start);
+            if (slash == -1 || slash > end) {
+                slash = end;
+            }
+            if (slash > start) {
+                if (path.length() > 0 && path.charAt(path.length() - 1) != '/') {
+                    path.append('/');
+                }
+                if (isIdentifier(name, start, slash)) {
+                    path.append(PATH_PARAMETER);
+                } else {
+                    path.append(name, start, slash);
+                }
+            }
+            start = slash + 1;
+        }
+        return path.toString();
+    }
+
+    /**
+     * A segment looks like an identifier if it is made of digits, or of at least 8 hexadecimal digits and dashes with at
+     * least one digit, as UUIDs and hashes are.
+     */
+    private static boolean isIdentifier(String name, int start, int end) {
+        int length = end - start;
+        boolean digits = true;
+        boolean hexadecimal = true;
+        boolean anyDigit = false;
+        for (int i = start; i < end; i++) {
+            char c = name.charAt(i);
+            if (c >= '0' && c <= '9') {
+                anyDigit = true;
+            } else {
+                digits = false;
+                if (!((c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F') || c == '-')) {
+                    hexadecimal = false;
+                }
+            }
+        }
+        return digits || (hexadecimal && anyDigit && length >= 8);
+    }
+
+    /**
+     * A generic cell rate algorithm: a span is sampled if the theoretical arrival time of the next span is not more
+     * than a burst ahead of now, and then pushes it back by one interval.
+     */
+    private class RateLimiter {
+        private final AtomicLong theoreticalArrivalTime = new AtomicLong(System.nanoTime() - burstNanos);
+
+        boolean isIdle(long now) {
+            return theoreticalArrivalTime.get() - now <= 0;
+        }
+
+        boolean tryAcquire(long now) {
+            for (;;) {
+                long current = theoreticalArrivalTime.get();
+                // Compared by difference as nanoTime may overflow
+                long next = (current - now < 0 ? now : current) + intervalNanos;
+                if (next - now > burstNanos) {
+                    return false;
+                }
+                if (theoreticalArrivalTime.compareAndSet(current, next)) {
+                    return true;
+                }
+            }
+        }
+    }
+}
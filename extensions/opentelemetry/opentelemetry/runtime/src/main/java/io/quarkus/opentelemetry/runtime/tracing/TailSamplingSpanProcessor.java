@@ -0,0 +1,357 @@
+package io.quarkus.opentelemetry.runtime.tracing;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+
+/**
+ * Buffers the ended spans of every trace until the local root span ends, and only passes on the traces which have a
+ * span slower than the latency threshold, a span with an error status or a span with one of the configured names.
+ * Once a trace has been kept, its spans are passed on as soon as they end.
+ * <p>
+ * The decision is remembered after the local root span has ended, so that the spans ending after it, such as the
+ * asynchronous tasks started by a request, follow the decision of their trace instead of being buffered again. The
+ * decisions are forgotten after the decision wait, or when {@code maxTraces} decisions are remembered.
+ * <p>
+ * The memory is bounded: when {@code maxTraces} traces are buffered the oldest one is evicted, a trace is evicted when
+ * its root span has not ended after the decision wait, and the spans of a trace beyond {@code maxSpansPerTrace} are not
+ * buffered. The buffered traces and the decided ones are linked in two lists in the order they started and were decided,
+ * so the evictions, which are done when a trace is added or decided, never scan them.
+ * <p>
+ * The processor is created during static initialization and passes all the spans on until it is enabled by
+ * {@link #configure(TracerRuntimeConfig.TailSamplingConfig)} during runtime initialization.
+ */
+public class TailSamplingSpanProcessor implements SpanProcessor {
+
+    private final SpanProcessor delegate;
+
+    private volatile Settings settings;
+
+    private final Map<String, TraceBuffer> traces = new ConcurrentHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    // Guarded by the lock
+    private final TraceBuffer pending = new TraceBuffer(null, 0);
+    private final TraceBuffer decided = new TraceBuffer(null, 0);
+    private volatile int bufferedTraces;
+    private volatile int decidedTraces;
+
+    private final LongAdder keptCount = new LongAdder();
+    private final LongAdder droppedCount = new LongAdder();
+    private final LongAdder evictedCount = new LongAdder();
+
+    public TailSamplingSpanProcessor(SpanProcessor delegate) {
+        this.delegate = delegate;
+        pending.next = pending.prev = pending;
+        decided.next = decided.prev = decided;
+    }
+
+    public void configure(TracerRuntimeConfig.TailSamplingConfig config) {
+        if (!config.enabled) {
+            settings = null;
+            return;
+        }
+        if (config.maxTraces <= 0 || config.maxSpansPerTrace <= 0) {
+            throw new IllegalArgumentException("The maximum number of traces and of spans per trace must be positive");
+        }
+        settings = new Settings(config);
+    }
+
+    public int getBufferedTraces() {
+        return bufferedTraces;
+    }
+
+    public int getDecidedTraces() {
+        return decidedTraces;
+    }
+
+    public long getKeptCount() {
+        return keptCount.sum();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    public long getEvictedCount() {
+        return evictedCount.sum();
+    }
+
+    @Override
+    public void onStart(Context parentContext, ReadWriteSpan span) {
+        delegate.onStart(parentContext, span);
+    }
+
+    @Override
+    public boolean isStartRequired() {
+        return delegate.isStartRequired();
+    }
+
+    @Override
+    public void onEnd(ReadableSpan span) {
+        Settings settings = this.settings;
+        if (settings == null || !span.getSpanContext().isSampled()) {
+            delegate.onEnd(span);
+            return;
+        }
+        long now = System.nanoTime();
+        String traceId = span.getSpanContext().getTraceId();
+        boolean localRoot = isLocalRoot(span.getParentSpanContext());
+        TraceBuffer trace = traces.get(traceId);
+        if (trace == null) {
+            if (localRoot) {
+                // A trace whose first ended span is the root does not need to be buffered
+                boolean rootKept = settings.isKept(span);
+                trace = addDecidedTrace(settings, traceId, rootKept, now);
+                if (trace == null) {
+                    count(rootKept);
+                    if (rootKept) {
+                        delegate.onEnd(span);
+                    }
+                    return;
+                }
+                // A span of the trace has been buffered concurrently
+            } else {
+                trace = addTrace(settings, traceId, now);
+            }
+        }
+
+        List<ReadableSpan> spans;
+        boolean decision = false;
+        boolean kept;
+        synchronized (trace) {
+            kept = trace.kept;
+            if (trace.decided) {
+                // Ended after the local root span
+                spans = kept ? Collections.singletonList(span) : null;
+            } else if (trace.closed) {
+                // Evicted concurrently
+                return;
+            } else {
+                if (!kept && settings.isKept(span)) {
+                    kept = trace.kept = true;
+                }
+                if (!kept) {
+                    if (!localRoot && trace.spans.size() < settings.maxSpansPerTrace) {
+                        trace.spans.add(span);
+                    }
+                    spans = null;
+                } else {
+                    spans = trace.spans;
+                    trace.spans = new ArrayList<>(0);
+                    spans.add(span);
+                }
+                if (localRoot) {
+                    trace.decided = true;
+                    decision = true;
+                    if (!kept) {
+                        trace.spans = Collections.emptyList();
+                    }
+                }
+            }
+        }
+        if (decision) {
+            decide(settings, trace, now);
+            count(kept);
+        }
+        if (spans != null) {
+            for (ReadableSpan ended : spans) {
+                delegate.onEnd(ended);
+            }
+        }
+    }
+
+    @Override
+    public boolean isEndRequired() {
+        return true;
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        return delegate.shutdown();
+    }
+
+    @Override
+    public CompletableResultCode forceFlush() {
+        return delegate.forceFlush();
+    }
+
+    private static boolean isLocalRoot(SpanContext parentSpanContext) {
+        return !parentSpanContext.isValid() || parentSpanContext.isRemote();
+    }
+
+    private void count(boolean kept) {
+        if (kept) {
+            keptCount.increment();
+        } else {
+            droppedCount.increment();
+        }
+    }
+
+    private TraceBuffer addTrace(Settings settings, String traceId, long now) {
+        TraceBuffer newTrace = new TraceBuffer(traceId, now);
+        lock.lock();
+        try {
+            TraceBuffer existing = traces.putIfAbsent(traceId, newTrace);
+            if (existing != null) {
+                // Another span of the trace has ended concurrently
+                return existing;
+            }
+            removeExpiredTraces(settings, now);
+            if (bufferedTraces == settings.maxTraces) {
+                evict(pending.next);
+            }
+            linkLast(pending, newTrace);
+            bufferedTraces++;
+            return newTrace;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Records the decision of a trace whose local root span ended before any other span.
+     *
+     * @return the trace added concurrently by another span, or {@code null} if the decision was recorded
+     */
+    private TraceBuffer addDecidedTrace(Settings settings, String traceId, boolean kept, long now) {
+        TraceBuffer newTrace = new TraceBuffer(traceId, now);
+        newTrace.kept = kept;
+        newTrace.decided = true;
+        newTrace.spans = Collections.emptyList();
+        lock.lock();
+        try {
+            TraceBuffer existing = traces.putIfAbsent(traceId, newTrace);
+            if (existing != null) {
+                return existing;
+            }
+            newTrace.decisionTime = now;
+            linkDecided(settings, newTrace, now);
+            return null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void decide(Settings settings, TraceBuffer trace, long now) {
+        lock.lock();
+        try {
+            if (trace.next == null) {
+                // Evicted concurrently
+                return;
+            }
+            unlink(trace);
+            bufferedTraces--;
+            trace.decisionTime = now;
+            linkDecided(settings, trace, now);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // The methods below must be called with the lock held
+
+    private void linkDecided(Settings settings, TraceBuffer trace, long now) {
+        TraceBuffer oldest = decided.next;
+        while (oldest != decided
+                && (decidedTraces >= settings.maxTraces || now - oldest.decisionTime > settings.decisionWaitNanos)) {
+            // Forget the decision: a span of the trace ending later is buffered again
+            traces.remove(oldest.traceId, oldest);
+            unlink(oldest);
+            decidedTraces--;
+            oldest = decided.next;
+        }
+        linkLast(decided, trace);
+        decidedTraces++;
+    }
+
+    private void removeExpiredTraces(Settings settings, long now) {
+        TraceBuffer oldest = pending.next;
+        while (oldest != pending && now - oldest.startTime > settings.decisionWaitNanos) {
+            evict(oldest);
+            oldest = pending.next;
+        }
+    }
+
+    private void evict(TraceBuffer trace) {
+        synchronized (trace) {
+            trace.closed = true;
+            trace.spans = Collections.emptyList();
+        }
+        traces.remove(trace.traceId, trace);
+        unlink(trace);
+        bufferedTraces--;
+        evictedCount.increment();
+    }
+
+    private static void linkLast(TraceBuffer list, TraceBuffer trace) {
+        trace.prev = list.prev;
+        trace.next = list;
+        list.prev.next = trace;
+        list.prev = trace;
+    }
+
+    private static void unlink(TraceBuffer trace) {
+        trace.prev.next = trace.next;
+        trace.next.prev = trace.prev;
+        trace.prev = trace.next = null;
+    }
+
+    private static class Settings {
+        final long latencyThresholdNanos;
+        final boolean keepErrors;
+        final Set<String> spanNames;
+        final long decisionWaitNanos;
+        final int maxTraces;
+        final int maxSpansPerTrace;
+
+        Settings(TracerRuntimeConfig.TailSamplingConfig config) {
+            this.latencyThresholdNanos = config.latencyThreshold.toNanos();
+            this.keepErrors = config.errors;
+            this.spanNames = config.spanNames.<Set<String>> map(HashSet::new).orElse(Collections.emptySet());
+            this.decisionWaitNanos = config.decisionWait.toNanos();
+            this.maxTraces = config.maxTraces;
+            this.maxSpansPerTrace = config.maxSpansPerTrace;
+        }
+
+        boolean isKept(ReadableSpan span) {
+            return span.getLatencyNanos() >= latencyThresholdNanos
+                    || spanNames.contains(span.getName())
+                    || (keepErrors && span.toSpanData().getStatus().getStatusCode() == StatusCode.ERROR);
+        }
+    }
+
+    private static class TraceBuffer {
+        final String traceId;
+        final long startTime;
+
+        // Guarded by the monitor of the trace
+        List<ReadableSpan> spans = new ArrayList<>();
+        boolean kept;
+        boolean decided;
+        boolean closed;
+
+        // Guarded by the processor lock
+        long decisionTime;
+        TraceBuffer prev;
+        TraceBuffer next;
+
+        TraceBuffer(String traceId, long startTime) {
+            this.traceId = traceId;
+            this.startTime = startTime;
+        }
+    }
+}
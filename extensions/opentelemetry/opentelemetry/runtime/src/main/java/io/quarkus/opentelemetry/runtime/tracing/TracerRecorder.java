@@ -1,5 +1,7 @@
 package io.quarkus.opentelemetry.runtime.tracing;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Consumer;
 
@@ -23,11 +25,13 @@ import io.quarkus.opentelemetry.runtime.tracing.vertx.VertxTracingAdapter;
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
 import io.vertx.core.VertxOptions;
 
 @Recorder
 public class TracerRecorder {
     static VertxTracingAdapter vertxTracingAdapter = new VertxTracingAdapter();
+    static TailSamplingSpanProcessor tailSamplingSpanProcessor;
 
     /* STATIC INIT */
     public Consumer<VertxOptions> setVertxTracingOptions() {
@@ -73,15 +77,21 @@ public class TracerRecorder {
         // Set LateBoundSampler
         builder.setSampler(lateBoundSampler);
 
+        List<SpanProcessor> spanProcessors = new ArrayList<>();
+
         // Find all SpanExporter instances
         Instance<SpanExporter> allExporters = beanManager.createInstance()
                 .select(SpanExporter.class, Any.Literal.INSTANCE);
-        allExporters.forEach(spanExporter -> builder.addSpanProcessor(SimpleSpanProcessor.create(spanExporter)));
+        allExporters.forEach(spanExporter -> spanProcessors.add(SimpleSpanProcessor.create(spanExporter)));
 
         // Find all SpanProcessor instances
         Instance<SpanProcessor> allProcessors = beanManager.createInstance()
                 .select(SpanProcessor.class, Any.Literal.INSTANCE);
-        allProcessors.forEach(builder::addSpanProcessor);
+        allProcessors.forEach(spanProcessors::add);
+
+        // Wrap them all so that tail sampling can be enabled during runtime initialization
+        tailSamplingSpanProcessor = new TailSamplingSpanProcessor(SpanProcessor.composite(spanProcessors));
+        builder.addSpanProcessor(tailSamplingSpanProcessor);
 
         SdkTracerProvider tracerProvider = builder.build();
 
@@ -144,6 +154,39 @@ public class TracerRecorder {
         }
     }
 
+    /* RUNTIME INIT */
+    public void setupTailSampling(TracerRuntimeConfig config) {
+        tailSamplingSpanProcessor.configure(config.tailSampling);
+    }
+
+    /* RUNTIME INIT */
+    public Consumer<MetricsFactory> registerTailSamplingMetrics(TracerRuntimeConfig config) {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                if (!config.tailSampling.enabled) {
+                    return;
+                }
+                TailSamplingSpanProcessor processor = tailSamplingSpanProcessor;
+                metricsFactory.builder("opentelemetry.tail.sampling.buffered.traces")
+                        .description("The number of traces buffered until their root span ends.")
+                        .buildGauge(processor::getBufferedTraces);
+                metricsFactory.builder("opentelemetry.tail.sampling.traces")
+                        .description("The number of traces which have been kept.")
+                        .tag("result", "kept")
+                        .buildCounter(processor::getKeptCount);
+                metricsFactory.builder("opentelemetry.tail.sampling.traces")
+                        .description("The number of traces which have been dropped when their root span ended.")
+                        .tag("result", "dropped")
+                        .buildCounter(processor::getDroppedCount);
+                metricsFactory.builder("opentelemetry.tail.sampling.traces")
+                        .description("The number of traces which have been evicted before their root span ended.")
+                        .tag("result", "evicted")
+                        .buildCounter(processor::getEvictedCount);
+            }
+        };
+    }
+
     public static boolean isClassPresent(String classname) {
         try {
             Class.forName(classname, false, Thread.currentThread().getContextClassLoader());
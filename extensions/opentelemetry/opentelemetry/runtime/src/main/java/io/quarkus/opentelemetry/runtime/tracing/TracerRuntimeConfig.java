@@ -1,5 +1,6 @@
 package io.quarkus.opentelemetry.runtime.tracing;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,6 +23,9 @@ public class TracerRuntimeConfig {
     /** Config for sampler */
     public SamplerConfig sampler;
 
+    /** Config for tail sampling */
+    public TailSamplingConfig tailSampling;
+
     /**
      * Suppress non-application uris from trace collection.
      * This will suppress tracing of `/q` endpoints.
@@ -39,7 +43,7 @@ public class TracerRuntimeConfig {
         /**
          * The sampler to use for tracing.
          * <p>
-         * Valid values are {@code off, on, ratio}.
+         * Valid values are {@code off, on, ratio, rate-limited}.
          * <p>
          * Defaults to {@code on}.
          */
@@ -53,6 +57,15 @@ public class TracerRuntimeConfig {
          */
         public Optional<Double> ratio;
 
+        /**
+         * The maximum number of spans to sample per second for every route.
+         * <p>
+         * Only supported by the {@code rate-limited} sampler.
+         * <p>
+         * Defaults to {@code 100}.
+         */
+        public Optional<Double> spansPerSecond;
+
         /**
          * If the sampler to use for tracing is parent based.
          * <p>
@@ -63,4 +76,56 @@ public class TracerRuntimeConfig {
         @ConfigItem(defaultValue = "true")
         public Boolean parentBased;
     }
+
+    @ConfigGroup
+    public static class TailSamplingConfig {
+        /**
+         * If the ended spans are buffered until the end of their trace, and only the traces which are slow, have an error
+         * or have a span with one of the configured names are exported.
+         * <p>
+         * Only the spans which have been sampled are buffered, so tail sampling is usually combined with the {@code on}
+         * sampler.
+         */
+        @ConfigItem(defaultValue = "false")
+        public boolean enabled;
+
+        /**
+         * The traces which have a span at least this long are kept.
+         */
+        @ConfigItem(defaultValue = "1S")
+        public Duration latencyThreshold;
+
+        /**
+         * If the traces which have a span with an error status are kept.
+         */
+        @ConfigItem(defaultValue = "true")
+        public boolean errors;
+
+        /**
+         * The traces which have a span with one of these names are kept.
+         */
+        @ConfigItem
+        public Optional<List<String>> spanNames;
+
+        /**
+         * The maximum amount of time to wait for the end of the local root span of a trace. The trace is dropped when
+         * its root span has not ended in time.
+         */
+        @ConfigItem(defaultValue = "30S")
+        public Duration decisionWait;
+
+        /**
+         * The maximum number of traces buffered at the same time. The oldest trace is dropped when a trace starts while
+         * the maximum number of traces are buffered.
+         */
+        @ConfigItem(defaultValue = "10000")
+        public int maxTraces;
+
+        /**
+         * The maximum number of spans buffered for a single trace. The spans of a trace beyond this number are dropped
+         * unless the trace is kept before they end.
+         */
+        @ConfigItem(defaultValue = "1000")
+        public int maxSpansPerTrace;
+    }
 }
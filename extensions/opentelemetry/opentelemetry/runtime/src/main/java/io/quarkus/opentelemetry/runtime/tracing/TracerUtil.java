@@ -1,7 +1,6 @@
 package io.quarkus.opentelemetry.runtime.tracing;
 
 import java.util.List;
-import java.util.Optional;
 
 import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.common.AttributesBuilder;
@@ -21,21 +20,23 @@ public class TracerUtil {
         return Resource.create(attributesBuilder.build());
     }
 
-    private static Sampler getBaseSampler(String samplerName, Optional<Double> ratio) {
-        switch (samplerName) {
+    private static Sampler getBaseSampler(TracerRuntimeConfig.SamplerConfig samplerConfig) {
+        switch (samplerConfig.samplerName) {
             case "on":
                 return Sampler.alwaysOn();
             case "off":
                 return Sampler.alwaysOff();
             case "ratio":
-                return Sampler.traceIdRatioBased(ratio.orElse(1.0d));
+                return Sampler.traceIdRatioBased(samplerConfig.ratio.orElse(1.0d));
+            case "rate-limited":
+                return new RateLimitingSampler(samplerConfig.spansPerSecond.orElse(100.0d));
             default:
-                throw new IllegalArgumentException("Unrecognized value for sampler: " + samplerName);
+                throw new IllegalArgumentException("Unrecognized value for sampler: " + samplerConfig.samplerName);
         }
     }
 
     public static Sampler mapSampler(TracerRuntimeConfig.SamplerConfig samplerConfig, boolean suppressNonApplicationUris) {
-        Sampler sampler = getBaseSampler(samplerConfig.samplerName, samplerConfig.ratio);
+        Sampler sampler = getBaseSampler(samplerConfig);
 
         if (suppressNonApplicationUris) {
             sampler = new NonApplicationEndpointSampler(sampler);
@@ -0,0 +1,91 @@
+package io.quarkus.opentelemetry.runtime.tracing;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+
+public class BoundedBatchSpanProcessorTest {
+
+    @Test
+    public void testSpansAreDroppedWhenQueueIsFull() throws InterruptedException {
+        CountDownLatch exportAllowed = new CountDownLatch(1);
+        BoundedBatchSpanProcessor processor = new BoundedBatchSpanProcessor(new BlockingSpanExporter(exportAllowed),
+                config(2, 2), Duration.ofSeconds(10));
+        SdkTracerProvider tracerProvider = SdkTracerProvider.builder().addSpanProcessor(processor).build();
+        try {
+            Tracer tracer = tracerProvider.get("test");
+            for (int i = 0; i < 10; i++) {
+                tracer.spanBuilder("span-" + i).startSpan().end();
+            }
+            // The worker is blocked by the first batch, at most one more batch can be queued
+            Assertions.assertThat(processor.getQueueSize()).isLessThanOrEqualTo(2);
+            Assertions.assertThat(processor.getExportedCount()).isLessThanOrEqualTo(2);
+            Assertions.assertThat(processor.getDroppedCount()).isGreaterThanOrEqualTo(6);
+            Assertions.assertThat(processor.getQueueSize() + processor.getExportedCount() + processor.getDroppedCount())
+                    .isEqualTo(10);
+
+            exportAllowed.countDown();
+            Assertions.assertThat(processor.forceFlush().join(10, TimeUnit.SECONDS).isSuccess()).isTrue();
+            Assertions.assertThat(processor.getQueueSize()).isZero();
+            Assertions.assertThat(processor.getExportedCount() + processor.getDroppedCount()).isEqualTo(10);
+        } finally {
+            exportAllowed.countDown();
+            tracerProvider.shutdown().join(10, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void testBatchSizeGreaterThanQueueSizeIsRejected() {
+        Assertions.assertThatIllegalArgumentException()
+                .isThrownBy(() -> new BoundedBatchSpanProcessor(new BlockingSpanExporter(new CountDownLatch(0)),
+                        config(2, 4), Duration.ofSeconds(10)));
+    }
+
+    private static BatchSpanProcessorConfig config(int maxQueueSize, int maxExportBatchSize) {
+        BatchSpanProcessorConfig config = new BatchSpanProcessorConfig();
+        config.maxQueueSize = maxQueueSize;
+        config.maxExportBatchSize = maxExportBatchSize;
+        config.scheduleDelay = Duration.ofMillis(100);
+        return config;
+    }
+
+    private static class BlockingSpanExporter implements SpanExporter {
+
+        private final CountDownLatch exportAllowed;
+
+        BlockingSpanExporter(CountDownLatch exportAllowed) {
+            this.exportAllowed = exportAllowed;
+        }
+
+        @Override
+        public CompletableResultCode export(Collection<SpanData> spans) {
+            try {
+                exportAllowed.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return CompletableResultCode.ofFailure();
+            }
+            return CompletableResultCode.ofSuccess();
+        }
+
+        @Override
+        public CompletableResultCode flush() {
+            return CompletableResultCode.ofSuccess();
+        }
+
+        @Override
+        public CompletableResultCode shutdown() {
+            return CompletableResultCode.ofSuccess();
+        }
+    }
+}
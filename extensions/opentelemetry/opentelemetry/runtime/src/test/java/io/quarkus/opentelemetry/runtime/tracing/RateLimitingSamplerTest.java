@@ -0,0 +1,96 @@
+package io.quarkus.opentelemetry.runtime.tracing;
+
+import java.util.Collections;
+import java.util.Optional;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.trace.samplers.SamplingDecision;
+import io.opentelemetry.semconv.trace.attributes.SemanticAttributes;
+
+public class RateLimitingSamplerTest {
+
+    private static final String TRACE_ID = "0af7651916cd43dd8448eb211c80319c";
+
+    @Test
+    public void testSpansAreLimitedPerRoute() {
+        RateLimitingSampler sampler = new RateLimitingSampler(5);
+        Assertions.assertThat(sampled(sampler, "/hello", 10)).isEqualTo(5);
+        Assertions.assertThat(sampled(sampler, "/bye", 10)).isEqualTo(5);
+        Assertions.assertThat(sampled(sampler, "/hello?name=joe", 10)).isZero();
+    }
+
+    @Test
+    public void testRequestUrisOfTheSameRouteShareALimiter() {
+        RateLimitingSampler sampler = new RateLimitingSampler(5);
+        int sampled = 0;
+        for (int i = 0; i < 10; i++) {
+            sampled += sampled(sampler, "items/" + i, 1);
+        }
+        Assertions.assertThat(sampled).isEqualTo(5);
+        Assertions.assertThat(sampler.getLimiterCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void testRouteAttributeIsPreferred() {
+        Assertions.assertThat(RateLimitingSampler.route("items/42",
+                Attributes.of(SemanticAttributes.HTTP_ROUTE, "/items/{id}"))).isEqualTo("/items/{id}");
+        Assertions.assertThat(RateLimitingSampler.route("items/42", Attributes.empty())).isEqualTo("items/{param}");
+    }
+
+    @Test
+    public void testNormalizePath() {
+        Assertions.assertThat(RateLimitingSampler.normalizePath("HTTP GET")).isEqualTo("HTTP GET");
+        Assertions.assertThat(RateLimitingSampler.normalizePath("/")).isEqualTo("/");
+        Assertions.assertThat(RateLimitingSampler.normalizePath("hello?name=joe")).isEqualTo("hello");
+        Assertions.assertThat(RateLimitingSampler.normalizePath("/hello//world/")).isEqualTo("/hello/world");
+        Assertions.assertThat(RateLimitingSampler.normalizePath("orders/1234/items/f81d4fae-7dec-11d0-a765-00a0c91e6bf6"))
+                .isEqualTo("orders/{param}/items/{param}");
+        Assertions.assertThat(RateLimitingSampler.normalizePath("v2/cafe/deadbeef")).isEqualTo("v2/cafe/deadbeef");
+    }
+
+    @Test
+    public void testIdleLimitersAreEvicted() throws InterruptedException {
+        RateLimitingSampler sampler = new RateLimitingSampler(1_000_000);
+        for (int i = 0; i < RateLimitingSampler.MAX_ROUTES; i++) {
+            sampled(sampler, "route" + i, 1);
+        }
+        Assertions.assertThat(sampler.getLimiterCount()).isEqualTo(RateLimitingSampler.MAX_ROUTES);
+        // Long enough for all the limiters to accumulate a full burst again
+        Thread.sleep(10);
+
+        Assertions.assertThat(sampled(sampler, "other", 1)).isEqualTo(1);
+        Assertions.assertThat(sampler.getLimiterCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void testDescription() {
+        Assertions.assertThat(new RateLimitingSampler(5).getDescription()).isEqualTo("RateLimitingSampler{5.0}");
+    }
+
+    @Test
+    public void testMapRateLimitingSampler() {
+        TracerRuntimeConfig.SamplerConfig config = new TracerRuntimeConfig.SamplerConfig();
+        config.samplerName = "rate-limited";
+        config.ratio = Optional.empty();
+        config.spansPerSecond = Optional.of(10d);
+        config.parentBased = false;
+        Assertions.assertThat(TracerUtil.mapSampler(config, false).getDescription())
+                .isEqualTo("RateLimitingSampler{10.0}");
+    }
+
+    private static int sampled(RateLimitingSampler sampler, String name, int spans) {
+        int sampled = 0;
+        for (int i = 0; i < spans; i++) {
+            if (sampler.shouldSample(Context.root(), TRACE_ID, name, SpanKind.SERVER, Attributes.empty(),
+                    Collections.emptyList()).getDecision() == SamplingDecision.RECORD_AND_SAMPLE) {
+                sampled++;
+            }
+        }
+        return sampled;
+    }
+}
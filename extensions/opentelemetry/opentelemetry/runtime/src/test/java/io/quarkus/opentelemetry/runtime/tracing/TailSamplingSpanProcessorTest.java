@@ -0,0 +1,185 @@
+package io.quarkus.opentelemetry.runtime.tracing;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+
+public class TailSamplingSpanProcessorTest {
+
+    private final List<String> endedSpans = new CopyOnWriteArrayList<>();
+    private TailSamplingSpanProcessor processor;
+    private SdkTracerProvider tracerProvider;
+    private Tracer tracer;
+
+    @BeforeEach
+    public void setUp() {
+        processor = new TailSamplingSpanProcessor(new CollectingSpanProcessor());
+        processor.configure(config(2));
+        tracerProvider = SdkTracerProvider.builder().addSpanProcessor(processor).build();
+        tracer = tracerProvider.get("test");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        tracerProvider.shutdown();
+    }
+
+    @Test
+    public void testTraceIsDropped() {
+        Span root = tracer.spanBuilder("root").startSpan();
+        tracer.spanBuilder("child").setParent(Context.root().with(root)).startSpan().end();
+        Assertions.assertThat(processor.getBufferedTraces()).isEqualTo(1);
+        root.end();
+
+        Assertions.assertThat(endedSpans).isEmpty();
+        Assertions.assertThat(processor.getBufferedTraces()).isZero();
+        Assertions.assertThat(processor.getDroppedCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void testTraceWithErrorIsKept() {
+        Span root = tracer.spanBuilder("root").startSpan();
+        tracer.spanBuilder("child").setParent(Context.root().with(root)).startSpan().end();
+        tracer.spanBuilder("failed").setParent(Context.root().with(root)).startSpan()
+                .setStatus(StatusCode.ERROR).end();
+        Assertions.assertThat(endedSpans).containsExactly("child", "failed");
+        root.end();
+
+        Assertions.assertThat(endedSpans).containsExactly("child", "failed", "root");
+        Assertions.assertThat(processor.getBufferedTraces()).isZero();
+        Assertions.assertThat(processor.getKeptCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void testTraceWithConfiguredSpanNameIsKept() {
+        tracer.spanBuilder("important").startSpan().end();
+        tracer.spanBuilder("root").startSpan().end();
+
+        Assertions.assertThat(endedSpans).containsExactly("important");
+        Assertions.assertThat(processor.getKeptCount()).isEqualTo(1);
+        Assertions.assertThat(processor.getDroppedCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void testChildEndingAfterDroppedRootIsDropped() {
+        Span root = tracer.spanBuilder("root").startSpan();
+        tracer.spanBuilder("child").setParent(Context.root().with(root)).startSpan().end();
+        Span late = tracer.spanBuilder("late").setParent(Context.root().with(root)).startSpan();
+        root.end();
+        late.end();
+
+        Assertions.assertThat(endedSpans).isEmpty();
+        Assertions.assertThat(processor.getBufferedTraces()).isZero();
+        Assertions.assertThat(processor.getDecidedTraces()).isEqualTo(1);
+        Assertions.assertThat(processor.getDroppedCount()).isEqualTo(1);
+        Assertions.assertThat(processor.getEvictedCount()).isZero();
+    }
+
+    @Test
+    public void testChildEndingAfterKeptRootIsPassedOn() {
+        Span root = tracer.spanBuilder("root").startSpan();
+        Span late = tracer.spanBuilder("late").setParent(Context.root().with(root)).startSpan();
+        root.setStatus(StatusCode.ERROR).end();
+        Assertions.assertThat(endedSpans).containsExactly("root");
+        late.end();
+
+        Assertions.assertThat(endedSpans).containsExactly("root", "late");
+        Assertions.assertThat(processor.getBufferedTraces()).isZero();
+        Assertions.assertThat(processor.getKeptCount()).isEqualTo(1);
+        Assertions.assertThat(processor.getEvictedCount()).isZero();
+    }
+
+    @Test
+    public void testOldestDecisionIsForgotten() {
+        for (int i = 0; i < 3; i++) {
+            tracer.spanBuilder("root").startSpan().end();
+        }
+        Assertions.assertThat(processor.getDecidedTraces()).isEqualTo(2);
+        Assertions.assertThat(processor.getDroppedCount()).isEqualTo(3);
+    }
+
+    @Test
+    public void testOldestTraceIsEvicted() {
+        Span first = tracer.spanBuilder("root").startSpan();
+        for (int i = 0; i < 3; i++) {
+            Span root = i == 0 ? first : tracer.spanBuilder("root").startSpan();
+            tracer.spanBuilder("child").setParent(Context.root().with(root)).startSpan().end();
+        }
+        Assertions.assertThat(processor.getBufferedTraces()).isEqualTo(2);
+        Assertions.assertThat(processor.getEvictedCount()).isEqualTo(1);
+
+        // The root span of an evicted trace is handled on its own
+        first.end();
+        Assertions.assertThat(endedSpans).isEmpty();
+        Assertions.assertThat(processor.getBufferedTraces()).isEqualTo(2);
+    }
+
+    @Test
+    public void testDisabledProcessorPassesAllSpansOn() {
+        TracerRuntimeConfig.TailSamplingConfig config = config(2);
+        config.enabled = false;
+        processor.configure(config);
+
+        Span root = tracer.spanBuilder("root").startSpan();
+        tracer.spanBuilder("child").setParent(Context.root().with(root)).startSpan().end();
+        root.end();
+
+        Assertions.assertThat(endedSpans).containsExactly("child", "root");
+    }
+
+    private static TracerRuntimeConfig.TailSamplingConfig config(int maxTraces) {
+        TracerRuntimeConfig.TailSamplingConfig config = new TracerRuntimeConfig.TailSamplingConfig();
+        config.enabled = true;
+        config.latencyThreshold = Duration.ofHours(1);
+        config.errors = true;
+        config.spanNames = Optional.of(Arrays.asList("important"));
+        config.decisionWait = Duration.ofSeconds(30);
+        config.maxTraces = maxTraces;
+        config.maxSpansPerTrace = 10;
+        return config;
+    }
+
+    private class CollectingSpanProcessor implements SpanProcessor {
+
+        @Override
+        public void onStart(Context parentContext, ReadWriteSpan span) {
+        }
+
+        @Override
+        public boolean isStartRequired() {
+            return false;
+        }
+
+        @Override
+        public void onEnd(ReadableSpan span) {
+            endedSpans.add(span.getName());
+        }
+
+        @Override
+        public boolean isEndRequired() {
+            return true;
+        }
+
+        @Override
+        public CompletableResultCode shutdown() {
+            return CompletableResultCode.ofSuccess();
+        }
+    }
+}
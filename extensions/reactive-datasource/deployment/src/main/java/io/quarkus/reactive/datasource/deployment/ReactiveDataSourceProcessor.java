@@ -1,9 +1,16 @@
 package io.quarkus.reactive.datasource.deployment;
 
+import java.util.List;
+
 import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
+import io.quarkus.datasource.runtime.DataSourcesBuildTimeConfig;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.annotations.ExecutionTime;
+import io.quarkus.deployment.annotations.Record;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
 import io.quarkus.reactive.datasource.ReactiveDataSource;
+import io.quarkus.reactive.datasource.runtime.metrics.ReactiveDataSourceMetricsRecorder;
 
 class ReactiveDataSourceProcessor {
 
@@ -12,4 +19,22 @@ class ReactiveDataSourceProcessor {
         // add the @ReactiveDataSource class otherwise it won't be registered as a qualifier
         additionalBeans.produce(AdditionalBeanBuildItem.builder().addBeanClass(ReactiveDataSource.class).build());
     }
+
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void registerPartitionMetrics(ReactiveDataSourceMetricsRecorder recorder,
+            DataSourcesBuildTimeConfig dataSourcesBuildTimeConfig,
+            List<VertxPoolBuildItem> vertxPools,
+            BuildProducer<MetricsFactoryConsumerBuildItem> datasourceMetrics) {
+        if (!dataSourcesBuildTimeConfig.metricsEnabled) {
+            return;
+        }
+        for (VertxPoolBuildItem vertxPool : vertxPools) {
+            // The pools produced with the deprecated constructor cannot be tagged with their name
+            if (vertxPool.getDataSourceName() != null) {
+                datasourceMetrics.produce(new MetricsFactoryConsumerBuildItem(
+                        recorder.registerPartitionMetrics(vertxPool.getDataSourceName(), vertxPool.getPool())));
+            }
+        }
+    }
 }
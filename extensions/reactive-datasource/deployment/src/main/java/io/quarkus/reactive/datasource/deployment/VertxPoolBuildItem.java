@@ -1,6 +1,7 @@
 package io.quarkus.reactive.datasource.deployment;
 
 import io.quarkus.builder.item.MultiBuildItem;
+import io.quarkus.datasource.common.runtime.DataSourceUtil;
 import io.quarkus.runtime.RuntimeValue;
 import io.vertx.sqlclient.Pool;
 
@@ -14,11 +15,24 @@ public final class VertxPoolBuildItem extends MultiBuildItem {
 
     private final RuntimeValue<? extends Pool> vertxPool;
     private final String dbKind;
+    private final String dataSourceName;
     private final boolean isDefault;
 
+    public VertxPoolBuildItem(RuntimeValue<? extends Pool> vertxPool, String dbKind, String dataSourceName) {
+        this.vertxPool = vertxPool;
+        this.dbKind = dbKind;
+        this.dataSourceName = dataSourceName;
+        this.isDefault = DataSourceUtil.isDefault(dataSourceName);
+    }
+
+    /**
+     * @deprecated use {@link #VertxPoolBuildItem(RuntimeValue, String, String)} so that the name of the data source is known
+     */
+    @Deprecated
     public VertxPoolBuildItem(RuntimeValue<? extends Pool> vertxPool, String dbKind, boolean isDefault) {
         this.vertxPool = vertxPool;
         this.dbKind = dbKind;
+        this.dataSourceName = isDefault ? DataSourceUtil.DEFAULT_DATASOURCE_NAME : null;
         this.isDefault = isDefault;
     }
 
@@ -30,6 +44,13 @@ public final class VertxPoolBuildItem extends MultiBuildItem {
         return dbKind;
     }
 
+    /**
+     * @return the name of the data source, or {@code null} if it is unknown
+     */
+    public String getDataSourceName() {
+        return dataSourceName;
+    }
+
     public boolean isDefault() {
         return isDefault;
     }
@@ -0,0 +1,259 @@
+package io.quarkus.reactive.datasource.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.netty.channel.DefaultEventLoopGroup;
+import io.netty.util.concurrent.EventExecutor;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.sqlclient.Query;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.SqlConnection;
+
+public class EventLoopPartitionedPoolTest {
+
+    private DefaultEventLoopGroup eventLoopGroup;
+    private List<EventExecutor> eventLoops;
+    private final List<ConnectionTestPool> partitions = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        eventLoopGroup = new DefaultEventLoopGroup(2);
+        eventLoops = new ArrayList<>();
+        eventLoopGroup.forEach(eventLoops::add);
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        eventLoopGroup.shutdownGracefully(0, 1, TimeUnit.SECONDS).sync();
+    }
+
+    @Test
+    public void testPartitionSizes() {
+        TestPartitionedPool pool = new TestPartitionedPool(5);
+        assertEquals(2, pool.getPartitionCount());
+        assertEquals(3, pool.getPartitionMaxSize(0));
+        assertEquals(2, pool.getPartitionMaxSize(1));
+
+        partitions.clear();
+        pool = new TestPartitionedPool(1);
+        assertEquals(1, pool.getPartitionCount());
+        assertEquals(1, pool.getPartitionMaxSize(0));
+    }
+
+    @Test
+    public void testEventLoopAffinity() throws Exception {
+        TestPartitionedPool pool = new TestPartitionedPool(4);
+        assertEquals(0, onEventLoop(0, pool::selectPartition));
+        assertEquals(1, onEventLoop(1, pool::selectPartition));
+    }
+
+    @Test
+    public void testWorkStealing() throws Exception {
+        TestPartitionedPool pool = new TestPartitionedPool(4);
+        List<SqlConnection> connections = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            connections.add(onEventLoop(0, () -> pool.getConnection()).toCompletionStage().toCompletableFuture()
+                    .get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(2, pool.getPartitionLeases(0));
+        assertEquals(1, onEventLoop(0, pool::selectPartition));
+
+        // A released connection makes room in the local partition again, even though it still holds the connection
+        connections.get(0).close();
+        assertEquals(1, pool.getPartitionLeases(0));
+        assertEquals(0, onEventLoop(0, pool::selectPartition));
+    }
+
+    @Test
+    public void testEveryPartitionFull() throws Exception {
+        TestPartitionedPool pool = new TestPartitionedPool(2);
+        onEventLoop(0, () -> pool.getConnection()).toCompletionStage().toCompletableFuture().get(5, TimeUnit.SECONDS);
+        onEventLoop(1, () -> pool.getConnection()).toCompletionStage().toCompletableFuture().get(5, TimeUnit.SECONDS);
+
+        // The acquisition waits on the local partition
+        assertEquals(0, onEventLoop(0, pool::selectPartition));
+    }
+
+    @Test
+    public void testStolenAcquisitionIsMadeOnThePartitionEventLoop() throws Exception {
+        TestPartitionedPool pool = new TestPartitionedPool(2);
+        onEventLoop(0, () -> pool.getConnection()).toCompletionStage().toCompletableFuture().get(5, TimeUnit.SECONDS);
+        assertTrue(partitions.get(0).acquiredOnEventLoop);
+
+        SqlConnection stolen = onEventLoop(0, () -> pool.getConnection()).toCompletionStage().toCompletableFuture()
+                .get(5, TimeUnit.SECONDS);
+        assertNotNull(stolen);
+        assertEquals(1, pool.getPartitionLeases(1));
+        // Acquired by the second partition on its own event loop rather than on the caller's one
+        assertSame(eventLoops.get(1), partitions.get(1).acquiringEventLoop);
+    }
+
+    @Test
+    public void testNonEventLoopThread() throws Exception {
+        TestPartitionedPool pool = new TestPartitionedPool(4);
+        pool.getConnection().toCompletionStage().toCompletableFuture().get(5, TimeUnit.SECONDS);
+        pool.getConnection().toCompletionStage().toCompletableFuture().get(5, TimeUnit.SECONDS);
+        assertEquals(2, pool.getPartitionLeases(0) + pool.getPartitionLeases(1));
+        assertTrue(pool.getPartitionLeases(0) > 0 && pool.getPartitionLeases(1) > 0);
+    }
+
+    @Test
+    public void testFailedAcquisitionReleasesTheLease() throws Exception {
+        TestPartitionedPool pool = new TestPartitionedPool(2);
+        partitions.get(0).failure = new IllegalStateException("Unable to connect");
+        CompletableFuture<SqlConnection> connection = onEventLoop(0, () -> pool.getConnection()).toCompletionStage()
+                .toCompletableFuture();
+        assertTrue(connection.handle((c, t) -> t != null).get(5, TimeUnit.SECONDS));
+        assertEquals(0, pool.getPartitionLeases(0));
+    }
+
+    @Test
+    public void testQueryFromNonEventLoopThreadRunsOnLeasedConnection() throws Exception {
+        TestPartitionedPool pool = new TestPartitionedPool(4);
+        Promise<RowSet<Row>> result = Promise.promise();
+        for (ConnectionTestPool partition : partitions) {
+            partition.queryResult = result.future();
+        }
+        CompletableFuture<RowSet<Row>> query = pool.query("SELECT 1").execute().toCompletionStage().toCompletableFuture();
+        // The connection is leased until the query completes
+        assertEquals(1, pool.getPartitionLeases(0) + pool.getPartitionLeases(1));
+        result.complete(null);
+        query.get(5, TimeUnit.SECONDS);
+        assertEquals(0, pool.getPartitionLeases(0) + pool.getPartitionLeases(1));
+        // Acquired on the event loop of its partition rather than on a context of the caller
+        int partition = partitions.get(0).acquiredOnEventLoop ? 0 : 1;
+        assertSame(eventLoops.get(partition), partitions.get(partition).acquiringEventLoop);
+    }
+
+    @Test
+    public void testQueryFromEventLoopUsesTheLocalPartition() throws Exception {
+        TestPartitionedPool pool = new TestPartitionedPool(4);
+        Query<RowSet<Row>> query = onEventLoop(1, () -> pool.query("SELECT 1"));
+        assertSame(partitions.get(1).partitionQuery, query);
+        assertEquals(0, pool.getPartitionLeases(1));
+    }
+
+    @Test
+    public void testLostConnectionReleasesTheLease() throws Exception {
+        TestPartitionedPool pool = new TestPartitionedPool(2);
+        SqlConnection connection = onEventLoop(0, () -> pool.getConnection()).toCompletionStage().toCompletableFuture()
+                .get(5, TimeUnit.SECONDS);
+        CompletableFuture<Void> closed = new CompletableFuture<>();
+        connection.closeHandler(closed::complete);
+        assertEquals(1, pool.getPartitionLeases(0));
+
+        partitions.get(0).closeHandler.handle(null);
+        assertTrue(closed.isDone());
+        assertEquals(0, pool.getPartitionLeases(0));
+        // The lease is only released once
+        connection.close();
+        assertEquals(0, pool.getPartitionLeases(0));
+    }
+
+    @Test
+    public void testConnectionFailureReleasesTheLease() throws Exception {
+        TestPartitionedPool pool = new TestPartitionedPool(2);
+        onEventLoop(0, () -> pool.getConnection()).toCompletionStage().toCompletableFuture().get(5, TimeUnit.SECONDS);
+        assertEquals(1, pool.getPartitionLeases(0));
+        assertNotNull(partitions.get(0).exceptionHandler);
+
+        partitions.get(0).exceptionHandler.handle(new IllegalStateException("Connection reset"));
+        assertEquals(0, pool.getPartitionLeases(0));
+    }
+
+    private <T> T onEventLoop(int index, Callable<T> action) throws Exception {
+        return eventLoops.get(index).submit(action).get(5, TimeUnit.SECONDS);
+    }
+
+    private class TestPartitionedPool extends EventLoopPartitionedPool<ConnectionTestPool> {
+
+        TestPartitionedPool(int maxSize) {
+            super(eventLoops, maxSize, partitionMaxSize -> {
+                ConnectionTestPool partition = new ConnectionTestPool();
+                partitions.add(partition);
+                return partition;
+            }, eventLoop -> eventLoop);
+        }
+    }
+
+    private class ConnectionTestPool extends TestPool {
+
+        volatile boolean acquiredOnEventLoop;
+        volatile EventExecutor acquiringEventLoop;
+        volatile Throwable failure;
+        volatile Future<?> queryResult = Future.succeededFuture();
+        volatile Handler<Void> closeHandler;
+        volatile Handler<Throwable> exceptionHandler;
+        final Query<RowSet<Row>> partitionQuery = query();
+
+        @Override
+        public Query<RowSet<Row>> query(String sql) {
+            return partitionQuery;
+        }
+
+        @Override
+        public void getConnection(Handler<AsyncResult<SqlConnection>> handler) {
+            for (EventExecutor eventLoop : eventLoops) {
+                if (eventLoop.inEventLoop()) {
+                    acquiredOnEventLoop = true;
+                    acquiringEventLoop = eventLoop;
+                }
+            }
+            if (failure != null) {
+                handler.handle(Future.failedFuture(failure));
+            } else {
+                handler.handle(Future.succeededFuture(connection()));
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        SqlConnection connection() {
+            return (SqlConnection) Proxy.newProxyInstance(EventLoopPartitionedPoolTest.class.getClassLoader(),
+                    new Class<?>[] { SqlConnection.class }, (proxy, method, args) -> {
+                        switch (method.getName()) {
+                            case "close":
+                                return Future.succeededFuture();
+                            case "closeHandler":
+                                closeHandler = (Handler<Void>) args[0];
+                                return proxy;
+                            case "exceptionHandler":
+                                exceptionHandler = (Handler<Throwable>) args[0];
+                                return proxy;
+                            case "query":
+                                return query();
+                            default:
+                                return null;
+                        }
+                    });
+        }
+
+        @SuppressWarnings("unchecked")
+        Query<RowSet<Row>> query() {
+            return (Query<RowSet<Row>>) Proxy.newProxyInstance(EventLoopPartitionedPoolTest.class.getClassLoader(),
+                    new Class<?>[] { Query.class }, (proxy, method, args) -> {
+                        if (method.getName().equals("execute")) {
+                            return queryResult;
+                        }
+                        return null;
+                    });
+        }
+    }
+}
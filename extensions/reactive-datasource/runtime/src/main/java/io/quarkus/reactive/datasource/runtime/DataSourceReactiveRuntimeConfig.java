@@ -20,6 +20,21 @@ public class DataSourceReactiveRuntimeConfig {
     @ConfigItem(defaultValue = "false")
     public boolean cachePreparedStatements = false;
 
+    /**
+     * The maximum number of prepared statements cached per connection, when
+     * {@code cache-prepared-statements} is enabled.
+     */
+    @ConfigItem(defaultValueDocumentation = "256")
+    public OptionalInt preparedStatementCacheMaxSize = OptionalInt.empty();
+
+    /**
+     * The maximum length of the SQL of the cached prepared statements, when {@code cache-prepared-statements} is enabled.
+     * <p>
+     * Longer statements are not cached.
+     */
+    @ConfigItem(defaultValueDocumentation = "2048")
+    public OptionalInt preparedStatementCacheSqlLimit = OptionalInt.empty();
+
     /**
      * The datasource URL.
      */
@@ -32,6 +47,25 @@ public class DataSourceReactiveRuntimeConfig {
     @ConfigItem
     public OptionalInt maxSize = OptionalInt.empty();
 
+    /**
+     * The number of event loops the pool spreads its connections over.
+     * <p>
+     * By default, the connections are bound to the event loop of the caller.
+     */
+    @ConfigItem
+    public OptionalInt eventLoopSize = OptionalInt.empty();
+
+    /**
+     * Whether the pool connections should be partitioned per Vert.x event loop.
+     * <p>
+     * When enabled, the connections acquired from an event loop are taken from the partition of this event loop, and from
+     * the other partitions only when all its connections are leased. The maximum size is split between the partitions and
+     * {@code event-loop-size} is ignored. The acquired connections only implement {@code io.vertx.sqlclient.SqlConnection}
+     * and cannot be cast to the client specific connection types.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean eventLoopPartitioned = false;
+
     /**
      * Whether all server certificates should be trusted.
      */
@@ -0,0 +1,267 @@
+package io.quarkus.reactive.datasource.runtime;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+import io.netty.channel.EventLoop;
+import io.netty.util.concurrent.EventExecutor;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.impl.ContextInternal;
+import io.vertx.core.impl.VertxInternal;
+import io.vertx.sqlclient.Pool;
+import io.vertx.sqlclient.PrepareOptions;
+import io.vertx.sqlclient.PreparedQuery;
+import io.vertx.sqlclient.Query;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.SqlConnection;
+
+/**
+ * A pool whose connections are partitioned per Vert.x event loop.
+ * <p>
+ * Each partition is a regular pool holding a share of the configured maximum size, and is pinned to its own event loop: the
+ * connections it creates are always bound to the context of that event loop. A connection acquired from an event loop thread
+ * is taken from the partition of that event loop, so the connection and its caller share the same thread. When the local
+ * partition already has all its connections leased, the acquisition is stolen by the partition with the most free slots;
+ * when every partition is full, it waits on the local partition. Acquisitions made from other threads are spread over the
+ * partitions in the same way. An acquisition served by the partition of another event loop is made on that event loop,
+ * and its result is delivered on the context of the caller.
+ * <p>
+ * The occupancy of a partition is the number of connections leased by {@link #getConnection()}, including the pending
+ * acquisitions, until they are closed or fail. The acquired connections are therefore wrapped and only implement
+ * {@link SqlConnection}. The queries executed directly on the pool from an event loop hold a connection for a single query,
+ * they are not counted and always use the local partition, since a stolen connection would be bound to the context of the
+ * caller. The partitions do not have event loops of their own, so the queries executed from other threads are not sent to a
+ * partition directly, where they would bind a new connection to the context of the caller: they run on a connection
+ * leased by {@link #getConnection()}, which is acquired on the event loop of its partition and closed once the query
+ * completes.
+ *
+ * @param <P> the type of the partitions
+ */
+public abstract class EventLoopPartitionedPool<P extends Pool> implements Pool {
+
+    private final List<P> partitions;
+    private final int[] partitionMaxSizes;
+    private final AtomicInteger[] partitionLeases;
+    private final List<EventExecutor> eventLoops;
+    private final List<Executor> partitionExecutors;
+    private final Map<Thread, Integer> eventLoopPartitions = new ConcurrentHashMap<>();
+    private final AtomicInteger next = new AtomicInteger();
+
+    protected EventLoopPartitionedPool(Vertx vertx, int maxSize, IntFunction<P> partitionFactory) {
+        this(vertx.nettyEventLoopGroup(), maxSize, partitionFactory, eventLoop -> {
+            // The partition pools are created with an event loop size of 0, so their connections are bound to the context
+            // which acquires them
+            ContextInternal context = ((VertxInternal) vertx).createEventLoopContext((EventLoop) eventLoop, null,
+                    Thread.currentThread().getContextClassLoader());
+            return task -> context.runOnContext(v -> task.run());
+        });
+    }
+
+    EventLoopPartitionedPool(Iterable<EventExecutor> eventLoopGroup, int maxSize, IntFunction<P> partitionFactory,
+            Function<EventExecutor, Executor> executorFactory) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("The maximum size of a partitioned pool must be positive");
+        }
+        List<EventExecutor> eventLoops = new ArrayList<>();
+        for (EventExecutor eventLoop : eventLoopGroup) {
+            eventLoops.add(eventLoop);
+        }
+        this.eventLoops = List.copyOf(eventLoops);
+        // Never create more partitions than connections, the extra event loops share the partitions
+        int partitionCount = Math.max(1, Math.min(eventLoops.size(), maxSize));
+        List<P> partitions = new ArrayList<>(partitionCount);
+        List<Executor> partitionExecutors = new ArrayList<>(partitionCount);
+        this.partitionMaxSizes = new int[partitionCount];
+        this.partitionLeases = new AtomicInteger[partitionCount];
+        for (int i = 0; i < partitionCount; i++) {
+            partitionMaxSizes[i] = maxSize / partitionCount + (i < maxSize % partitionCount ? 1 : 0);
+            partitionLeases[i] = new AtomicInteger();
+            partitions.add(partitionFactory.apply(partitionMaxSizes[i]));
+            partitionExecutors.add(eventLoops.isEmpty() ? Runnable::run : executorFactory.apply(eventLoops.get(i)));
+        }
+        this.partitions = List.copyOf(partitions);
+        this.partitionExecutors = List.copyOf(partitionExecutors);
+    }
+
+    /**
+     * @return the number of partitions
+     */
+    public int getPartitionCount() {
+        return partitions.size();
+    }
+
+    /**
+     * @param partition the index of the partition
+     * @return the number of connections currently held by the partition
+     */
+    public int getPartitionSize(int partition) {
+        return partitions.get(partition).size();
+    }
+
+    /**
+     * @param partition the index of the partition
+     * @return the number of connections of the partition currently leased or being acquired
+     */
+    public int getPartitionLeases(int partition) {
+        return partitionLeases[partition].get();
+    }
+
+    /**
+     * @param partition the index of the partition
+     * @return the maximum number of connections of the partition
+     */
+    public int getPartitionMaxSize(int partition) {
+        return partitionMaxSizes[partition];
+    }
+
+    /**
+     * @return the index of the partition that should serve an acquisition made from the current thread
+     */
+    int selectPartition() {
+        int local = localPartition();
+        if (local >= 0 && partitionLeases[local].get() < partitionMaxSizes[local]) {
+            return local;
+        }
+        int selected = -1;
+        int selectedFreeSlots = 0;
+        for (int i = 0; i < partitions.size(); i++) {
+            int freeSlots = partitionMaxSizes[i] - partitionLeases[i].get();
+            if (freeSlots > selectedFreeSlots) {
+                selected = i;
+                selectedFreeSlots = freeSlots;
+            }
+        }
+        if (selected >= 0) {
+            return selected;
+        }
+        if (local >= 0) {
+            return local;
+        }
+        return Math.floorMod(next.getAndIncrement(), partitions.size());
+    }
+
+    private int localPartition() {
+        Thread thread = Thread.currentThread();
+        Integer partition = eventLoopPartitions.get(thread);
+        if (partition != null) {
+            return partition;
+        }
+        for (int i = 0; i < eventLoops.size(); i++) {
+            if (eventLoops.get(i).inEventLoop()) {
+                // Only the event loop threads are remembered, the worker threads are not bounded
+                eventLoopPartitions.put(thread, i % partitions.size());
+                return i % partitions.size();
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public void getConnection(Handler<AsyncResult<SqlConnection>> handler) {
+        getConnection().onComplete(handler);
+    }
+
+    @Override
+    public Future<SqlConnection> getConnection() {
+        int partition = selectPartition();
+        AtomicInteger leases = partitionLeases[partition];
+        leases.incrementAndGet();
+        Future<SqlConnection> connection;
+        if (eventLoops.isEmpty() || eventLoops.get(partition).inEventLoop()) {
+            connection = partitions.get(partition).getConnection();
+        } else {
+            // Acquire on the event loop of the partition so that a new connection is bound to it
+            ContextInternal caller = (ContextInternal) Vertx.currentContext();
+            Promise<SqlConnection> promise = caller != null ? caller.promise() : Promise.promise();
+            try {
+                partitionExecutors.get(partition)
+                        .execute(() -> partitions.get(partition).getConnection().onComplete(promise));
+            } catch (RuntimeException e) {
+                promise.tryFail(e);
+            }
+            connection = promise.future();
+        }
+        return connection.<SqlConnection> map(c -> new LeasedConnection(c, leases))
+                .onFailure(t -> leases.decrementAndGet());
+    }
+
+    @Override
+    public Query<RowSet<Row>> query(String sql) {
+        int local = localPartition();
+        if (local >= 0) {
+            return partitions.get(local).query(sql);
+        }
+        return new LeasedQuery<>(this, connection -> connection.query(sql));
+    }
+
+    @Override
+    public PreparedQuery<RowSet<Row>> preparedQuery(String sql) {
+        int local = localPartition();
+        if (local >= 0) {
+            return partitions.get(local).preparedQuery(sql);
+        }
+        return new LeasedPreparedQuery<>(this, connection -> connection.preparedQuery(sql));
+    }
+
+    @Override
+    public PreparedQuery<RowSet<Row>> preparedQuery(String sql, PrepareOptions options) {
+        int local = localPartition();
+        if (local >= 0) {
+            return partitions.get(local).preparedQuery(sql, options);
+        }
+        return new LeasedPreparedQuery<>(this, connection -> connection.preparedQuery(sql, options));
+    }
+
+    @Override
+    public Pool connectHandler(Handler<SqlConnection> handler) {
+        for (P partition : partitions) {
+            partition.connectHandler(handler);
+        }
+        return this;
+    }
+
+    @Override
+    public Pool connectionProvider(Function<Context, Future<SqlConnection>> provider) {
+        for (P partition : partitions) {
+            partition.connectionProvider(provider);
+        }
+        return this;
+    }
+
+    @Override
+    public int size() {
+        int size = 0;
+        for (P partition : partitions) {
+            size += partition.size();
+        }
+        return size;
+    }
+
+    @SuppressWarnings("rawtypes")
+    @Override
+    public Future<Void> close() {
+        List<Future> closes = new ArrayList<>(partitions.size());
+        for (P partition : partitions) {
+            closes.add(partition.close());
+        }
+        return CompositeFuture.join(closes).mapEmpty();
+    }
+
+    @Override
+    public void close(Handler<AsyncResult<Void>> handler) {
+        close().onComplete(handler);
+    }
+}
@@ -0,0 +1,133 @@
+package io.quarkus.reactive.datasource.runtime;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.sqlclient.PrepareOptions;
+import io.vertx.sqlclient.PreparedQuery;
+import io.vertx.sqlclient.PreparedStatement;
+import io.vertx.sqlclient.Query;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.SqlConnection;
+import io.vertx.sqlclient.Transaction;
+import io.vertx.sqlclient.spi.DatabaseMetadata;
+
+/**
+ * A connection acquired from an {@link EventLoopPartitionedPool}, which releases its lease on the partition when it is
+ * closed, including when the connection is lost, or when it fails.
+ */
+class LeasedConnection implements SqlConnection {
+
+    private final SqlConnection delegate;
+    private final AtomicInteger leases;
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    LeasedConnection(SqlConnection delegate, AtomicInteger leases) {
+        this.delegate = delegate;
+        this.leases = leases;
+        // A lost connection may never be closed by its user
+        delegate.closeHandler(v -> release());
+        delegate.exceptionHandler(t -> release());
+    }
+
+    @Override
+    public SqlConnection prepare(String sql, Handler<AsyncResult<PreparedStatement>> handler) {
+        delegate.prepare(sql, handler);
+        return this;
+    }
+
+    @Override
+    public Future<PreparedStatement> prepare(String sql) {
+        return delegate.prepare(sql);
+    }
+
+    @Override
+    public SqlConnection prepare(String sql, PrepareOptions options, Handler<AsyncResult<PreparedStatement>> handler) {
+        delegate.prepare(sql, options, handler);
+        return this;
+    }
+
+    @Override
+    public Future<PreparedStatement> prepare(String sql, PrepareOptions options) {
+        return delegate.prepare(sql, options);
+    }
+
+    @Override
+    public SqlConnection exceptionHandler(Handler<Throwable> handler) {
+        delegate.exceptionHandler(t -> {
+            release();
+            if (handler != null) {
+                handler.handle(t);
+            }
+        });
+        return this;
+    }
+
+    @Override
+    public SqlConnection closeHandler(Handler<Void> handler) {
+        delegate.closeHandler(v -> {
+            release();
+            if (handler != null) {
+                handler.handle(v);
+            }
+        });
+        return this;
+    }
+
+    @Override
+    public void begin(Handler<AsyncResult<Transaction>> handler) {
+        delegate.begin(handler);
+    }
+
+    @Override
+    public Future<Transaction> begin() {
+        return delegate.begin();
+    }
+
+    @Override
+    public boolean isSSL() {
+        return delegate.isSSL();
+    }
+
+    @Override
+    public DatabaseMetadata databaseMetadata() {
+        return delegate.databaseMetadata();
+    }
+
+    @Override
+    public Query<RowSet<Row>> query(String sql) {
+        return delegate.query(sql);
+    }
+
+    @Override
+    public PreparedQuery<RowSet<Row>> preparedQuery(String sql) {
+        return delegate.preparedQuery(sql);
+    }
+
+    @Override
+    public PreparedQuery<RowSet<Row>> preparedQuery(String sql, PrepareOptions options) {
+        return delegate.preparedQuery(sql, options);
+    }
+
+    @Override
+    public void close(Handler<AsyncResult<Void>> handler) {
+        release();
+        delegate.close(handler);
+    }
+
+    @Override
+    public Future<Void> close() {
+        release();
+        return delegate.close();
+    }
+
+    private void release() {
+        if (released.compareAndSet(false, true)) {
+            leases.decrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package io.quarkus.reactive.datasource.runtime;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collector;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.sqlclient.Pool;
+import io.vertx.sqlclient.PreparedQuery;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.SqlConnection;
+import io.vertx.sqlclient.SqlResult;
+import io.vertx.sqlclient.Tuple;
+
+/**
+ * A prepared query of an {@link EventLoopPartitionedPool} which is executed on a connection acquired from the pool, and
+ * closed once the query completes.
+ *
+ * @param <T> the type of the result
+ */
+class LeasedPreparedQuery<T> implements PreparedQuery<T> {
+
+    private final Pool pool;
+    private final Function<SqlConnection, PreparedQuery<T>> query;
+
+    LeasedPreparedQuery(Pool pool, Function<SqlConnection, PreparedQuery<T>> query) {
+        this.pool = pool;
+        this.query = query;
+    }
+
+    @Override
+    public void execute(Handler<AsyncResult<T>> handler) {
+        execute().onComplete(handler);
+    }
+
+    @Override
+    public Future<T> execute() {
+        return pool.withConnection(connection -> query.apply(connection).execute());
+    }
+
+    @Override
+    public void execute(Tuple tuple, Handler<AsyncResult<T>> handler) {
+        execute(tuple).onComplete(handler);
+    }
+
+    @Override
+    public Future<T> execute(Tuple tuple) {
+        return pool.withConnection(connection -> query.apply(connection).execute(tuple));
+    }
+
+    @Override
+    public void executeBatch(List<Tuple> batch, Handler<AsyncResult<T>> handler) {
+        executeBatch(batch).onComplete(handler);
+    }
+
+    @Override
+    public Future<T> executeBatch(List<Tuple> batch) {
+        return pool.withConnection(connection -> query.apply(connection).executeBatch(batch));
+    }
+
+    @Override
+    public <R> PreparedQuery<SqlResult<R>> collecting(Collector<Row, ?, R> collector) {
+        return new LeasedPreparedQuery<>(pool, query.andThen(q -> q.collecting(collector)));
+    }
+
+    @Override
+    public <U> PreparedQuery<RowSet<U>> mapping(Function<Row, U> mapper) {
+        return new LeasedPreparedQuery<>(pool, query.andThen(q -> q.mapping(mapper)));
+    }
+}
@@ -0,0 +1,51 @@
+package io.quarkus.reactive.datasource.runtime;
+
+import java.util.function.Function;
+import java.util.stream.Collector;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.sqlclient.Pool;
+import io.vertx.sqlclient.Query;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.SqlConnection;
+import io.vertx.sqlclient.SqlResult;
+
+/**
+ * A query of an {@link EventLoopPartitionedPool} which is executed on a connection acquired from the pool, and closed once
+ * the query completes.
+ *
+ * @param <T> the type of the result
+ */
+class LeasedQuery<T> implements Query<T> {
+
+    private final Pool pool;
+    private final Function<SqlConnection, Query<T>> query;
+
+    LeasedQuery(Pool pool, Function<SqlConnection, Query<T>> query) {
+        this.pool = pool;
+        this.query = query;
+    }
+
+    @Override
+    public void execute(Handler<AsyncResult<T>> handler) {
+        execute().onComplete(handler);
+    }
+
+    @Override
+    public Future<T> execute() {
+        return pool.withConnection(connection -> query.apply(connection).execute());
+    }
+
+    @Override
+    public <R> Query<SqlResult<R>> collecting(Collector<Row, ?, R> collector) {
+        return new LeasedQuery<>(pool, query.andThen(q -> q.collecting(collector)));
+    }
+
+    @Override
+    public <U> Query<RowSet<U>> mapping(Function<Row, U> mapper) {
+        return new LeasedQuery<>(pool, query.andThen(q -> q.mapping(mapper)));
+    }
+}
@@ -51,6 +51,9 @@ public abstract class ReactiveDatasourceHealthCheck implements HealthCheck {
         for (Map.Entry<String, Pool> pgPoolEntry : pools.entrySet()) {
             final String dataSourceName = pgPoolEntry.getKey();
             final Pool pgPool = pgPoolEntry.getValue();
+            if (pgPool instanceof EventLoopPartitionedPool) {
+                addPartitionsData(builder, dataSourceName, (EventLoopPartitionedPool<?>) pgPool);
+            }
             try {
                 CompletableFuture<Void> databaseConnectionAttempt = new CompletableFuture<>();
                 Context context = Vertx.currentContext();
@@ -96,6 +99,15 @@ public abstract class ReactiveDatasourceHealthCheck implements HealthCheck {
         return builder.build();
     }
 
+    private void addPartitionsData(HealthCheckResponseBuilder builder, String dataSourceName,
+            EventLoopPartitionedPool<?> pool) {
+        // Reported as "leased connections/max connections" for each event loop partition
+        for (int i = 0; i < pool.getPartitionCount(); i++) {
+            builder.withData(dataSourceName + ".partition-" + i,
+                    pool.getPartitionLeases(i) + "/" + pool.getPartitionMaxSize(i));
+        }
+    }
+
     private void operationsError(final String datasourceName, final Throwable cause) {
         log.warn("Error obtaining database connection for healthcheck of datasource '" + datasourceName + '\'', cause);
     }
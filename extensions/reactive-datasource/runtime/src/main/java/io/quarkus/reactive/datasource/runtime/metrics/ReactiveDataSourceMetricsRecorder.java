@@ -0,0 +1,47 @@
+package io.quarkus.reactive.datasource.runtime.metrics;
+
+import java.util.function.Consumer;
+
+import io.quarkus.datasource.common.runtime.DataSourceUtil;
+import io.quarkus.reactive.datasource.runtime.EventLoopPartitionedPool;
+import io.quarkus.runtime.RuntimeValue;
+import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
+import io.vertx.sqlclient.Pool;
+
+@Recorder
+public class ReactiveDataSourceMetricsRecorder {
+
+    /* RUNTIME_INIT */
+    public Consumer<MetricsFactory> registerPartitionMetrics(String dataSourceName, RuntimeValue<? extends Pool> pool) {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                if (!(pool.getValue() instanceof EventLoopPartitionedPool)) {
+                    return;
+                }
+                EventLoopPartitionedPool<?> partitionedPool = (EventLoopPartitionedPool<?>) pool.getValue();
+                String tagValue = DataSourceUtil.isDefault(dataSourceName) ? "default" : dataSourceName;
+
+                for (int i = 0; i < partitionedPool.getPartitionCount(); i++) {
+                    int partition = i;
+                    metricsFactory.builder("reactive.datasource.partition.leased.count")
+                            .description("Number of connections leased from the event loop partition.")
+                            .tag("datasource", tagValue)
+                            .tag("partition", String.valueOf(partition))
+                            .buildGauge(() -> partitionedPool.getPartitionLeases(partition));
+                    metricsFactory.builder("reactive.datasource.partition.size")
+                            .description("Number of connections currently held by the event loop partition.")
+                            .tag("datasource", tagValue)
+                            .tag("partition", String.valueOf(partition))
+                            .buildGauge(() -> partitionedPool.getPartitionSize(partition));
+                    metricsFactory.builder("reactive.datasource.partition.max.size")
+                            .description("Maximum number of connections of the event loop partition.")
+                            .tag("datasource", tagValue)
+                            .tag("partition", String.valueOf(partition))
+                            .buildGauge(() -> partitionedPool.getPartitionMaxSize(partition));
+                }
+            }
+        };
+    }
+}
@@ -41,6 +41,7 @@ public class DB2PoolRecorder {
             ShutdownContext shutdown) {
 
         DB2Pool db2Pool = initialize(vertx.getValue(),
+                dataSourceName,
                 dataSourcesRuntimeConfig.getDataSourceRuntimeConfig(dataSourceName),
                 dataSourcesReactiveRuntimeConfig.getDataSourceReactiveRuntimeConfig(dataSourceName),
                 dataSourcesReactiveDB2Config.getDataSourceReactiveRuntimeConfig(dataSourceName));
@@ -53,17 +54,25 @@ public class DB2PoolRecorder {
         return new RuntimeValue<>(io.vertx.mutiny.db2client.DB2Pool.newInstance(db2Pool.getValue()));
     }
 
-    private DB2Pool initialize(Vertx vertx, DataSourceRuntimeConfig dataSourceRuntimeConfig,
+    private DB2Pool initialize(Vertx vertx, String dataSourceName,
+            DataSourceRuntimeConfig dataSourceRuntimeConfig,
             DataSourceReactiveRuntimeConfig dataSourceReactiveRuntimeConfig,
             DataSourceReactiveDB2Config dataSourceReactiveDB2Config) {
         PoolOptions poolOptions = toPoolOptions(dataSourceRuntimeConfig, dataSourceReactiveRuntimeConfig,
                 dataSourceReactiveDB2Config);
         DB2ConnectOptions connectOptions = toConnectOptions(dataSourceRuntimeConfig, dataSourceReactiveRuntimeConfig,
                 dataSourceReactiveDB2Config);
+        // Allows the metrics of the pool to be reported per datasource
+        connectOptions.setMetricsName(dataSourceName);
         if (dataSourceReactiveRuntimeConfig.threadLocal.isPresent()) {
             log.warn(
                     "Configuration element 'thread-local' on Reactive datasource connections is deprecated and will be ignored. The started pool will always be based on a per-thread separate pool now.");
         }
+        if (dataSourceReactiveRuntimeConfig.eventLoopPartitioned) {
+            return new PartitionedDB2Pool(vertx, poolOptions.getMaxSize(),
+                    partitionMaxSize -> DB2Pool.pool(vertx, connectOptions,
+                            new PoolOptions(poolOptions).setMaxSize(partitionMaxSize).setEventLoopSize(0)));
+        }
         return DB2Pool.pool(vertx, connectOptions, poolOptions);
     }
 
@@ -77,6 +86,10 @@ public class DB2PoolRecorder {
             poolOptions.setMaxSize(dataSourceReactiveRuntimeConfig.maxSize.getAsInt());
         }
 
+        if (dataSourceReactiveRuntimeConfig.eventLoopSize.isPresent()) {
+            poolOptions.setEventLoopSize(dataSourceReactiveRuntimeConfig.eventLoopSize.getAsInt());
+        }
+
         if (dataSourceReactiveRuntimeConfig.idleTimeout.isPresent()) {
             int idleTimeout = Math.toIntExact(dataSourceReactiveRuntimeConfig.idleTimeout.get().toMillis());
             poolOptions.setIdleTimeout(idleTimeout).setIdleTimeoutUnit(TimeUnit.MILLISECONDS);
@@ -133,6 +146,16 @@ public class DB2PoolRecorder {
             connectOptions.setCachePreparedStatements(dataSourceReactiveRuntimeConfig.cachePreparedStatements);
         }
 
+        if (dataSourceReactiveRuntimeConfig.preparedStatementCacheMaxSize.isPresent()) {
+            connectOptions.setPreparedStatementCacheMaxSize(
+                    dataSourceReactiveRuntimeConfig.preparedStatementCacheMaxSize.getAsInt());
+        }
+
+        if (dataSourceReactiveRuntimeConfig.preparedStatementCacheSqlLimit.isPresent()) {
+            connectOptions.setPreparedStatementCacheSqlLimit(
+                    dataSourceReactiveRuntimeConfig.preparedStatementCacheSqlLimit.getAsInt());
+        }
+
         connectOptions.setSsl(dataSourceReactiveDB2Config.ssl);
 
         connectOptions.setTrustAll(dataSourceReactiveRuntimeConfig.trustAll);
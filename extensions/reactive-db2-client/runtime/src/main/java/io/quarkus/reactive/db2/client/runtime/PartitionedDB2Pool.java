@@ -0,0 +1,31 @@
+package io.quarkus.reactive.db2.client.runtime;
+
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+import io.quarkus.reactive.datasource.runtime.EventLoopPartitionedPool;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.db2client.DB2Pool;
+import io.vertx.sqlclient.SqlConnection;
+
+class PartitionedDB2Pool extends EventLoopPartitionedPool<DB2Pool> implements DB2Pool {
+
+    PartitionedDB2Pool(Vertx vertx, int maxSize, IntFunction<DB2Pool> partitionFactory) {
+        super(vertx, maxSize, partitionFactory);
+    }
+
+    @Override
+    public DB2Pool connectHandler(Handler<SqlConnection> handler) {
+        super.connectHandler(handler);
+        return this;
+    }
+
+    @Override
+    public DB2Pool connectionProvider(Function<Context, Future<SqlConnection>> provider) {
+        super.connectionProvider(provider);
+        return this;
+    }
+}
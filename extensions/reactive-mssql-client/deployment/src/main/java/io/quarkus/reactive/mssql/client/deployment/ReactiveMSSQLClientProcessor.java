@@ -166,7 +166,7 @@ class ReactiveMSSQLClientProcessor {
 
         syntheticBeans.produce(mutinyMSSQLPoolConfigurator.done());
 
-        vertxPool.produce(new VertxPoolBuildItem(pool, DatabaseKind.MSSQL, DataSourceUtil.isDefault(dataSourceName)));
+        vertxPool.produce(new VertxPoolBuildItem(pool, DatabaseKind.MSSQL, dataSourceName));
     }
 
     private static boolean isReactiveMSSQLPoolDefined(DataSourcesBuildTimeConfig dataSourcesBuildTimeConfig,
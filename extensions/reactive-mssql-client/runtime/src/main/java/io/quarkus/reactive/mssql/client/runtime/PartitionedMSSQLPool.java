@@ -0,0 +1,31 @@
+package io.quarkus.reactive.mssql.client.runtime;
+
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+import io.quarkus.reactive.datasource.runtime.EventLoopPartitionedPool;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.mssqlclient.MSSQLPool;
+import io.vertx.sqlclient.SqlConnection;
+
+class PartitionedMSSQLPool extends EventLoopPartitionedPool<MSSQLPool> implements MSSQLPool {
+
+    PartitionedMSSQLPool(Vertx vertx, int maxSize, IntFunction<MSSQLPool> partitionFactory) {
+        super(vertx, maxSize, partitionFactory);
+    }
+
+    @Override
+    public MSSQLPool connectHandler(Handler<SqlConnection> handler) {
+        super.connectHandler(handler);
+        return this;
+    }
+
+    @Override
+    public MSSQLPool connectionProvider(Function<Context, Future<SqlConnection>> provider) {
+        super.connectionProvider(provider);
+        return this;
+    }
+}
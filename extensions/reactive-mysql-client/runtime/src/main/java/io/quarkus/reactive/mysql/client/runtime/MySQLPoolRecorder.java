@@ -43,6 +43,7 @@ public class MySQLPoolRecorder {
             ShutdownContext shutdown) {
 
         MySQLPool mysqlPool = initialize(vertx.getValue(),
+                dataSourceName,
                 dataSourcesRuntimeConfig.getDataSourceRuntimeConfig(dataSourceName),
                 dataSourcesReactiveRuntimeConfig.getDataSourceReactiveRuntimeConfig(dataSourceName),
                 dataSourcesReactiveMySQLConfig.getDataSourceReactiveRuntimeConfig(dataSourceName));
@@ -55,17 +56,25 @@ public class MySQLPoolRecorder {
         return new RuntimeValue<>(io.vertx.mutiny.mysqlclient.MySQLPool.newInstance(mysqlPool.getValue()));
     }
 
-    private MySQLPool initialize(Vertx vertx, DataSourceRuntimeConfig dataSourceRuntimeConfig,
+    private MySQLPool initialize(Vertx vertx, String dataSourceName,
+            DataSourceRuntimeConfig dataSourceRuntimeConfig,
             DataSourceReactiveRuntimeConfig dataSourceReactiveRuntimeConfig,
             DataSourceReactiveMySQLConfig dataSourceReactiveMySQLConfig) {
         PoolOptions poolOptions = toPoolOptions(dataSourceRuntimeConfig, dataSourceReactiveRuntimeConfig,
                 dataSourceReactiveMySQLConfig);
         MySQLConnectOptions mysqlConnectOptions = toMySQLConnectOptions(dataSourceRuntimeConfig,
                 dataSourceReactiveRuntimeConfig, dataSourceReactiveMySQLConfig);
+        // Allows the metrics of the pool to be reported per datasource
+        mysqlConnectOptions.setMetricsName(dataSourceName);
         if (dataSourceReactiveRuntimeConfig.threadLocal.isPresent()) {
             log.warn(
                     "Configuration element 'thread-local' on Reactive datasource connections is deprecated and will be ignored. The started pool will always be based on a per-thread separate pool now.");
         }
+        if (dataSourceReactiveRuntimeConfig.eventLoopPartitioned) {
+            return new PartitionedMySQLPool(vertx, poolOptions.getMaxSize(),
+                    partitionMaxSize -> MySQLPool.pool(vertx, mysqlConnectOptions,
+                            new PoolOptions(poolOptions).setMaxSize(partitionMaxSize).setEventLoopSize(0)));
+        }
         return MySQLPool.pool(vertx, mysqlConnectOptions, poolOptions);
     }
 
@@ -79,6 +88,10 @@ public class MySQLPoolRecorder {
             poolOptions.setMaxSize(dataSourceReactiveRuntimeConfig.maxSize.getAsInt());
         }
 
+        if (dataSourceReactiveRuntimeConfig.eventLoopSize.isPresent()) {
+            poolOptions.setEventLoopSize(dataSourceReactiveRuntimeConfig.eventLoopSize.getAsInt());
+        }
+
         if (dataSourceReactiveRuntimeConfig.idleTimeout.isPresent()) {
             int idleTimeout = Math.toIntExact(dataSourceReactiveRuntimeConfig.idleTimeout.get().toMillis());
             poolOptions.setIdleTimeout(idleTimeout).setIdleTimeoutUnit(TimeUnit.MILLISECONDS);
@@ -134,6 +147,16 @@ public class MySQLPoolRecorder {
             mysqlConnectOptions.setCachePreparedStatements(dataSourceReactiveRuntimeConfig.cachePreparedStatements);
         }
 
+        if (dataSourceReactiveRuntimeConfig.preparedStatementCacheMaxSize.isPresent()) {
+            mysqlConnectOptions.setPreparedStatementCacheMaxSize(
+                    dataSourceReactiveRuntimeConfig.preparedStatementCacheMaxSize.getAsInt());
+        }
+
+        if (dataSourceReactiveRuntimeConfig.preparedStatementCacheSqlLimit.isPresent()) {
+            mysqlConnectOptions.setPreparedStatementCacheSqlLimit(
+                    dataSourceReactiveRuntimeConfig.preparedStatementCacheSqlLimit.getAsInt());
+        }
+
         if (dataSourceReactiveMySQLConfig.charset.isPresent()) {
             mysqlConnectOptions.setCharset(dataSourceReactiveMySQLConfig.charset.get());
         }
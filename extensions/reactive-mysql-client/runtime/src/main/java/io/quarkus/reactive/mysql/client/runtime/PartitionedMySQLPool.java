@@ -0,0 +1,31 @@
+package io.quarkus.reactive.mysql.client.runtime;
+
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+import io.quarkus.reactive.datasource.runtime.EventLoopPartitionedPool;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.mysqlclient.MySQLPool;
+import io.vertx.sqlclient.SqlConnection;
+
+class PartitionedMySQLPool extends EventLoopPartitionedPool<MySQLPool> implements MySQLPool {
+
+    PartitionedMySQLPool(Vertx vertx, int maxSize, IntFunction<MySQLPool> partitionFactory) {
+        super(vertx, maxSize, partitionFactory);
+    }
+
+    @Override
+    public MySQLPool connectHandler(Handler<SqlConnection> handler) {
+        super.connectHandler(handler);
+        return this;
+    }
+
+    @Override
+    public MySQLPool connectionProvider(Function<Context, Future<SqlConnection>> provider) {
+        super.connectionProvider(provider);
+        return this;
+    }
+}
@@ -173,7 +173,7 @@ class ReactivePgClientProcessor {
 
         syntheticBeans.produce(mutinyPgPoolConfigurator.done());
 
-        vertxPool.produce(new VertxPoolBuildItem(pool, DatabaseKind.POSTGRESQL, DataSourceUtil.isDefault(dataSourceName)));
+        vertxPool.produce(new VertxPoolBuildItem(pool, DatabaseKind.POSTGRESQL, dataSourceName));
     }
 
     private static boolean isReactivePostgreSQLPoolDefined(DataSourcesBuildTimeConfig dataSourcesBuildTimeConfig,
@@ -0,0 +1,31 @@
+package io.quarkus.reactive.pg.client.runtime;
+
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+import io.quarkus.reactive.datasource.runtime.EventLoopPartitionedPool;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.pgclient.PgPool;
+import io.vertx.sqlclient.SqlConnection;
+
+class PartitionedPgPool extends EventLoopPartitionedPool<PgPool> implements PgPool {
+
+    PartitionedPgPool(Vertx vertx, int maxSize, IntFunction<PgPool> partitionFactory) {
+        super(vertx, maxSize, partitionFactory);
+    }
+
+    @Override
+    public PgPool connectHandler(Handler<SqlConnection> handler) {
+        super.connectHandler(handler);
+        return this;
+    }
+
+    @Override
+    public PgPool connectionProvider(Function<Context, Future<SqlConnection>> provider) {
+        super.connectionProvider(provider);
+        return this;
+    }
+}
@@ -29,6 +29,7 @@ import com.fasterxml.jackson.annotation.JsonView;
 import com.fasterxml.jackson.databind.exc.MismatchedInputException;
 
 import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
+import io.quarkus.arc.deployment.BeanContainerBuildItem;
 import io.quarkus.deployment.Feature;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
@@ -267,21 +268,7 @@ public class ResteasyReactiveJacksonProcessor {
             if (returnType.kind() == Type.Kind.VOID) {
                 continue;
             }
-            Type effectiveReturnType = returnType;
-            if (effectiveReturnType.name().equals(ResteasyReactiveDotNames.REST_RESPONSE) ||
-                    effectiveReturnType.name().equals(ResteasyReactiveDotNames.UNI) ||
-                    effectiveReturnType.name().equals(ResteasyReactiveDotNames.COMPLETABLE_FUTURE) ||
-                    effectiveReturnType.name().equals(ResteasyReactiveDotNames.COMPLETION_STAGE) ||
-                    effectiveReturnType.name().equals(ResteasyReactiveDotNames.MULTI)) {
-                effectiveReturnType = returnType.asParameterizedType().arguments().get(0);
-            }
-            if (effectiveReturnType.name().equals(ResteasyReactiveDotNames.SET) ||
-                    effectiveReturnType.name().equals(ResteasyReactiveDotNames.COLLECTION) ||
-                    effectiveReturnType.name().equals(ResteasyReactiveDotNames.LIST)) {
-                effectiveReturnType = effectiveReturnType.asParameterizedType().arguments().get(0);
-            } else if (effectiveReturnType.name().equals(ResteasyReactiveDotNames.MAP)) {
-                effectiveReturnType = effectiveReturnType.asParameterizedType().arguments().get(1);
-            }
+            Type effectiveReturnType = getEffectiveReturnType(returnType);
 
             ClassInfo effectiveReturnClassInfo = indexView.getClassByName(effectiveReturnType.name());
             if ((effectiveReturnClassInfo == null) || effectiveReturnClassInfo.name().equals(ResteasyReactiveDotNames.OBJECT)) {
@@ -320,6 +307,75 @@ public class ResteasyReactiveJacksonProcessor {
         }
     }
 
+    /**
+     * Jackson builds the serializer of a type the first time it is written, which makes the first request to each endpoint
+     * noticeably slower. The serializers of the types returned by the JSON endpoints are built during startup instead.
+     */
+    @Record(ExecutionTime.RUNTIME_INIT)
+    @BuildStep
+    void warmUpSerializers(ResteasyReactiveResourceMethodEntriesBuildItem resourceMethodEntries,
+            JaxRsResourceIndexBuildItem index, BeanContainerBuildItem beanContainer,
+            ResteasyReactiveServerJacksonRecorder recorder) {
+        IndexView indexView = index.getIndexView();
+        Set<String> returnTypes = new HashSet<>();
+        for (ResteasyReactiveResourceMethodEntriesBuildItem.Entry entry : resourceMethodEntries.getEntries()) {
+            String[] produces = entry.getResourceMethod().getProduces();
+            if (produces != null) {
+                boolean isJsonResponse = false;
+                for (String produced : produces) {
+                    if (produced.toLowerCase(Locale.ROOT).contains(MediaType.APPLICATION_JSON)) {
+                        isJsonResponse = true;
+                        break;
+                    }
+                }
+                if (!isJsonResponse) {
+                    continue;
+                }
+            }
+            Type returnType = entry.getMethodInfo().returnType();
+            if (returnType.kind() == Type.Kind.VOID) {
+                continue;
+            }
+            Type effectiveReturnType = getEffectiveReturnType(returnType);
+            if (effectiveReturnType.kind() != Type.Kind.CLASS
+                    || effectiveReturnType.name().equals(ResteasyReactiveDotNames.OBJECT)) {
+                continue;
+            }
+            // only the application types are warmed up, the serializers of the JDK types are cheap to build
+            if (indexView.getClassByName(effectiveReturnType.name()) != null) {
+                returnTypes.add(effectiveReturnType.name().toString());
+            }
+        }
+        if (!returnTypes.isEmpty()) {
+            recorder.warmUpSerializers(beanContainer.getValue(), returnTypes);
+        }
+    }
+
+    private Type getEffectiveReturnType(Type returnType) {
+        Type effectiveReturnType = returnType;
+        if (effectiveReturnType.kind() != Type.Kind.PARAMETERIZED_TYPE) {
+            return effectiveReturnType;
+        }
+        if (effectiveReturnType.name().equals(ResteasyReactiveDotNames.REST_RESPONSE) ||
+                effectiveReturnType.name().equals(ResteasyReactiveDotNames.UNI) ||
+                effectiveReturnType.name().equals(ResteasyReactiveDotNames.COMPLETABLE_FUTURE) ||
+                effectiveReturnType.name().equals(ResteasyReactiveDotNames.COMPLETION_STAGE) ||
+                effectiveReturnType.name().equals(ResteasyReactiveDotNames.MULTI)) {
+            effectiveReturnType = returnType.asParameterizedType().arguments().get(0);
+        }
+        if (effectiveReturnType.kind() != Type.Kind.PARAMETERIZED_TYPE) {
+            return effectiveReturnType;
+        }
+        if (effectiveReturnType.name().equals(ResteasyReactiveDotNames.SET) ||
+                effectiveReturnType.name().equals(ResteasyReactiveDotNames.COLLECTION) ||
+                effectiveReturnType.name().equals(ResteasyReactiveDotNames.LIST)) {
+            effectiveReturnType = effectiveReturnType.asParameterizedType().arguments().get(0);
+        } else if (effectiveReturnType.name().equals(ResteasyReactiveDotNames.MAP)) {
+            effectiveReturnType = effectiveReturnType.asParameterizedType().arguments().get(1);
+        }
+        return effectiveReturnType;
+    }
+
     private String getMethodId(MethodInfo methodInfo) {
         return getMethodId(methodInfo, methodInfo.declaringClass());
     }
@@ -0,0 +1,119 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+
+import org.hamcrest.Matchers;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+/**
+ * Tests that the serializers of the types returned by the JSON endpoints are built during startup, and that a serializer
+ * which cannot be built does not prevent the application from starting.
+ */
+public class SerializerWarmUpTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(new Supplier<JavaArchive>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class)
+                            .addClasses(WarmUpResource.class, Greeting.class, GreetingSerializer.class, Broken.class,
+                                    BrokenSerializer.class);
+                }
+            });
+
+    @Test
+    public void testSerializerIsBuiltDuringStartup() {
+        // No request has been sent yet
+        assertEquals(1, GreetingSerializer.INSTANCES.get());
+
+        RestAssured.get("/warm-up/greeting")
+                .then().statusCode(200).body(Matchers.equalTo("\"hello\""));
+        assertEquals(1, GreetingSerializer.INSTANCES.get());
+    }
+
+    @Test
+    public void testSerializerFailureDoesNotPreventStartup() {
+        RestAssured.get("/warm-up/broken")
+                .then().statusCode(500);
+    }
+
+    @Path("/warm-up")
+    public static class WarmUpResource {
+
+        @GET
+        @Path("/greeting")
+        @Produces(MediaType.APPLICATION_JSON)
+        public Greeting greeting() {
+            return new Greeting("hello");
+        }
+
+        @GET
+        @Path("/broken")
+        @Produces(MediaType.APPLICATION_JSON)
+        public Broken broken() {
+            return new Broken();
+        }
+    }
+
+    @JsonSerialize(using = GreetingSerializer.class)
+    public static class Greeting {
+
+        final String message;
+
+        public Greeting(String message) {
+            this.message = message;
+        }
+    }
+
+    public static class GreetingSerializer extends StdSerializer<Greeting> {
+
+        static final AtomicInteger INSTANCES = new AtomicInteger();
+
+        public GreetingSerializer() {
+            super(Greeting.class);
+            INSTANCES.incrementAndGet();
+        }
+
+        @Override
+        public void serialize(Greeting value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeString(value.message);
+        }
+    }
+
+    @JsonSerialize(using = BrokenSerializer.class)
+    public static class Broken {
+    }
+
+    public static class BrokenSerializer extends StdSerializer<Broken> {
+
+        public BrokenSerializer() {
+            super(Broken.class);
+            throw new IllegalStateException("This serializer cannot be built");
+        }
+
+        @Override
+        public void serialize(Broken value, JsonGenerator gen, SerializerProvider provider) {
+        }
+    }
+}
@@ -3,17 +3,23 @@ package io.quarkus.resteasy.reactive.jackson.runtime;
 import java.lang.reflect.Type;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.BiFunction;
 
+import org.jboss.logging.Logger;
+
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectWriter;
 
+import io.quarkus.arc.runtime.BeanContainer;
 import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
 
 @Recorder
 public class ResteasyReactiveServerJacksonRecorder {
 
+    private static final Logger LOGGER = Logger.getLogger(ResteasyReactiveServerJacksonRecorder.class);
+
     private static final Map<String, Class<?>> jsonViewMap = new HashMap<>();
     private static final Map<String, Class<?>> customSerializationMap = new HashMap<>();
 
@@ -35,6 +41,19 @@ public class ResteasyReactiveServerJacksonRecorder {
         });
     }
 
+    public void warmUpSerializers(BeanContainer beanContainer, Set<String> classNames) {
+        ObjectMapper mapper = beanContainer.instance(ObjectMapper.class);
+        for (String className : classNames) {
+            try {
+                // the serializer of the root type is fetched eagerly and kept in the serializer cache shared by the writers
+                mapper.writerFor(loadClass(className));
+            } catch (Exception e) {
+                // the serializer will be built on the first request
+                LOGGER.debugf(e, "Unable to build the JSON serializer of class '%s' during startup", className);
+            }
+        }
+    }
+
     public static Class<?> jsonViewForMethod(String methodId) {
         return jsonViewMap.get(methodId);
     }
@@ -1,5 +1,11 @@
 package io.quarkus.resteasy.reactive.qute.deployment;
 
+import java.util.Arrays;
+
+import javax.ws.rs.Priorities;
+import javax.ws.rs.RuntimeType;
+import javax.ws.rs.core.MediaType;
+
 import org.jboss.jandex.DotName;
 
 import io.quarkus.deployment.Feature;
@@ -7,8 +13,10 @@ import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveHierarchyIgnoreWarningBuildItem;
 import io.quarkus.qute.TemplateInstance;
+import io.quarkus.resteasy.reactive.qute.runtime.TemplateInstanceMessageBodyWriter;
 import io.quarkus.resteasy.reactive.qute.runtime.TemplateResponseFilter;
 import io.quarkus.resteasy.reactive.spi.CustomContainerResponseFilterBuildItem;
+import io.quarkus.resteasy.reactive.spi.MessageBodyWriterBuildItem;
 
 public class ResteasyReactiveQuteProcessor {
 
@@ -22,6 +30,14 @@ public class ResteasyReactiveQuteProcessor {
         return new CustomContainerResponseFilterBuildItem(TemplateResponseFilter.class.getName());
     }
 
+    @BuildStep
+    MessageBodyWriterBuildItem registerWriter() {
+        // text/plain is used if the client accepts any media type and the resource method does not declare one
+        return new MessageBodyWriterBuildItem(TemplateInstanceMessageBodyWriter.class.getName(),
+                TemplateInstance.class.getName(), Arrays.asList(MediaType.TEXT_PLAIN, MediaType.WILDCARD),
+                RuntimeType.SERVER, true, Priorities.USER);
+    }
+
     @BuildStep
     ReflectiveHierarchyIgnoreWarningBuildItem ignoreReflectiveWarning() {
         return new ReflectiveHierarchyIgnoreWarningBuildItem(new ReflectiveHierarchyIgnoreWarningBuildItem.DotNameExclusion(
@@ -1,6 +1,7 @@
 package io.quarkus.resteasy.reactive.qute.deployment;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import javax.inject.Inject;
 import javax.ws.rs.GET;
@@ -11,6 +12,7 @@ import io.quarkus.qute.CheckedTemplate;
 import io.quarkus.qute.Template;
 import io.quarkus.qute.TemplateInstance;
 import io.quarkus.resteasy.reactive.qute.RestTemplate;
+import io.smallrye.common.annotation.Blocking;
 
 @Path("hello")
 public class HelloResource {
@@ -42,6 +44,25 @@ public class HelloResource {
         return hello.data("name", name);
     }
 
+    @Path("async")
+    @GET
+    public TemplateInstance async(@QueryParam("name") String name) {
+        return hello.data("name", CompletableFuture.supplyAsync(() -> name != null ? name : "world"));
+    }
+
+    @Path("large")
+    @GET
+    public TemplateInstance large() {
+        return hello.data("name", "world".repeat(20_000));
+    }
+
+    @Path("large-blocking")
+    @GET
+    @Blocking
+    public TemplateInstance largeBlocking() {
+        return hello.data("name", "world".repeat(20_000));
+    }
+
     @Path("no-injection")
     @GET
     public TemplateInstance hello(@QueryParam("name") String name) {
@@ -2,6 +2,8 @@ package io.quarkus.resteasy.reactive.qute.deployment;
 
 import static io.restassured.RestAssured.when;
 
+import java.nio.charset.StandardCharsets;
+
 import org.hamcrest.Matchers;
 import org.jboss.shrinkwrap.api.asset.StringAsset;
 import org.junit.jupiter.api.Test;
@@ -42,4 +44,34 @@ public class TemplateResponseFilterTest {
         when().get("/hello/native/toplevel?name=Joe").then().body(Matchers.is("Salut Joe!"));
     }
 
+    @Test
+    public void testAsyncRendering() {
+        when().get("/hello/async").then().body(Matchers.is("Hello world!"));
+        when().get("/hello/async?name=Joe").then().body(Matchers.is("Hello Joe!"));
+    }
+
+    @Test
+    public void testLargeOutputFollowedBySmallOutput() {
+        when().get("/hello/large").then()
+                .header("Transfer-Encoding", "chunked")
+                .body(Matchers.is("Hello " + "world".repeat(20_000) + "!"));
+        when().get("/hello?name=Joe").then()
+                .header("Content-Length", "10")
+                .body(Matchers.is("Hello Joe!"));
+    }
+
+    @Test
+    public void testLargeOutputOnWorkerThread() {
+        when().get("/hello/large-blocking").then()
+                .header("Transfer-Encoding", "chunked")
+                .body(Matchers.is("Hello " + "world".repeat(20_000) + "!"));
+    }
+
+    @Test
+    public void testNonAsciiOutput() {
+        when().get("/hello?name=Žluťoučký").then()
+                .header("Content-Length", String.valueOf("Hello Žluťoučký!".getBytes(StandardCharsets.UTF_8).length))
+                .body(Matchers.is("Hello Žluťoučký!"));
+    }
+
 }
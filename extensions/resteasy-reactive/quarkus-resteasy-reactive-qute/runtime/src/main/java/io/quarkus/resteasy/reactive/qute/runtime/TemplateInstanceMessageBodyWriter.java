@@ -0,0 +1,165 @@
+package io.quarkus.resteasy.reactive.qute.runtime;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.ext.Provider;
+
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.spi.ResteasyReactiveResourceInfo;
+import org.jboss.resteasy.reactive.server.spi.ServerHttpResponse;
+import org.jboss.resteasy.reactive.server.spi.ServerMessageBodyWriter;
+import org.jboss.resteasy.reactive.server.spi.ServerRequestContext;
+
+import io.quarkus.qute.TemplateInstance;
+import io.quarkus.qute.Utf8Consumer;
+import io.quarkus.runtime.BlockingOperationControl;
+
+/**
+ * Streams the rendered template to the response: the output is encoded into chunks that are written as soon as they are
+ * full, so the page is never built as a single string and the first bytes are sent before the rendering completes. The
+ * static text of the template is copied from its pre-encoded bytes.
+ * <p>
+ * The response has a {@code Content-Length} if the output fits in a single chunk, otherwise it is chunked.
+ */
+@Provider
+public class TemplateInstanceMessageBodyWriter implements ServerMessageBodyWriter<TemplateInstance> {
+
+    static final int CHUNK_SIZE = 8 * 1024;
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, ResteasyReactiveResourceInfo target, MediaType mediaType) {
+        return isWritable(type);
+    }
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return isWritable(type);
+    }
+
+    private boolean isWritable(Class<?> type) {
+        return TemplateInstance.class.isAssignableFrom(type);
+    }
+
+    @Override
+    public void writeResponse(TemplateInstance instance, Type genericType, ServerRequestContext context)
+            throws WebApplicationException {
+        ResteasyReactiveRequestContext requestContext = (ResteasyReactiveRequestContext) context;
+        ResponseConsumer consumer = new ResponseConsumer(context.serverResponse());
+        requestContext.suspend();
+        // The completion stage is already completed if the template data was resolved synchronously
+        instance.consume(consumer).whenComplete((r, t) -> {
+            Throwable failure = t;
+            if (failure == null) {
+                try {
+                    consumer.end();
+                    requestContext.resume();
+                    return;
+                } catch (Throwable e) {
+                    failure = e;
+                }
+            }
+            if (consumer.written) {
+                // The response is committed, an error response cannot be sent anymore
+                requestContext.serverRequest().closeConnection();
+            }
+            requestContext.resume(failure);
+        });
+    }
+
+    @Override
+    public void writeTo(TemplateInstance instance, Class<?> type, Type genericType, Annotation[] annotations,
+            MediaType mediaType, MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream)
+            throws IOException, WebApplicationException {
+        // Writer interceptors expect a blocking write
+        entityStream.write(instance.render().getBytes(StandardCharsets.UTF_8));
+    }
+
+    static final class ResponseConsumer implements Utf8Consumer {
+
+        private final ServerHttpResponse response;
+        private byte[] chunk = new byte[CHUNK_SIZE];
+        private int position;
+        private volatile Throwable writeFailure;
+        boolean written;
+
+        ResponseConsumer(ServerHttpResponse response) {
+            this.response = response;
+        }
+
+        @Override
+        public void accept(String value) {
+            acceptUtf8(value.getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public void acceptUtf8(byte[] bytes) {
+            int offset = 0;
+            while (offset < bytes.length) {
+                int length = Math.min(bytes.length - offset, chunk.length - position);
+                System.arraycopy(bytes, offset, chunk, position, length);
+                position += length;
+                offset += length;
+                if (position == chunk.length) {
+                    write();
+                }
+            }
+        }
+
+        private void write() {
+            if (writeFailure != null) {
+                throw new IllegalStateException("Failed to write the rendered template", writeFailure);
+            }
+            if (!written) {
+                written = true;
+                response.setChunked(true);
+            }
+            // The chunk is not copied, a new one is needed
+            response.write(chunk, this::writeCompleted);
+            chunk = new byte[CHUNK_SIZE];
+            position = 0;
+            awaitWriteable();
+        }
+
+        /**
+         * The result tree is processed synchronously, so the rendering cannot be paused on an event loop and the chunks
+         * are queued. A worker thread waits until the write queue is drained instead.
+         */
+        private void awaitWriteable() {
+            if (!response.isWriteQueueFull() || !BlockingOperationControl.isBlockingAllowed()) {
+                return;
+            }
+            CompletableFuture<Void> drained = new CompletableFuture<>();
+            response.addDrainHandler(() -> drained.complete(null));
+            response.addCloseHandler(() -> drained.complete(null));
+            // The queue may have been drained before the handlers were registered
+            if (response.isWriteQueueFull() && !response.closed()) {
+                drained.join();
+            }
+            if (response.closed()) {
+                throw new IllegalStateException("The connection was closed while rendering the template");
+            }
+        }
+
+        private void writeCompleted(Throwable failure) {
+            if (failure != null) {
+                writeFailure = failure;
+            }
+        }
+
+        void end() {
+            byte[] last = Arrays.copyOf(chunk, position);
+            chunk = null;
+            response.end(last);
+        }
+    }
+
+}
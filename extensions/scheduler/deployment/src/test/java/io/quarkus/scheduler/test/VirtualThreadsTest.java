@@ -0,0 +1,57 @@
+package io.quarkus.scheduler.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class VirtualThreadsTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(Jobs.class)
+                    .addAsResource(new StringAsset("quarkus.scheduler.virtual-threads=true"),
+                            "application.properties"));
+
+    @Test
+    public void testExecutionOnVirtualThread() throws Exception {
+        assertTrue(Jobs.LATCH.await(5, TimeUnit.SECONDS));
+        Thread thread = Jobs.thread;
+        assertNotNull(thread);
+        Method isVirtual;
+        try {
+            isVirtual = Thread.class.getMethod("isVirtual");
+            ((ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null)).shutdown();
+        } catch (ReflectiveOperationException e) {
+            // Virtual threads are not supported or not enabled, the worker pool is used
+            return;
+        }
+        assertEquals(Boolean.TRUE, isVirtual.invoke(thread));
+    }
+
+    static class Jobs {
+
+        static final CountDownLatch LATCH = new CountDownLatch(1);
+
+        static volatile Thread thread;
+
+        @Scheduled(every = "1s")
+        void checkEverySecond() {
+            thread = Thread.currentThread();
+            LATCH.countDown();
+        }
+    }
+}
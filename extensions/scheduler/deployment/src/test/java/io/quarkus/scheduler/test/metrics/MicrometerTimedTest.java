@@ -1,5 +1,6 @@
 package io.quarkus.scheduler.test.metrics;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
@@ -83,6 +84,13 @@ public class MicrometerTimedTest {
             fail(e.getMessage() + "\nFound: " + registry.find("foo").meters().stream()
                     .map(Meter::getId).map(Object::toString).collect(Collectors.joining("\n\t- ")));
         }
+
+        // One lateness timer per trigger
+        Collection<Timer> lateness = registry.find("scheduled.methods.lateness").timers();
+        assertEquals(2, lateness.size());
+        Awaitility.await().pollInterval(10, TimeUnit.MILLISECONDS)
+                .atMost(2, TimeUnit.SECONDS)
+                .untilAsserted(() -> assertTrue(lateness.stream().allMatch(t -> t.count() > 0)));
     }
 
     static class Jobs {
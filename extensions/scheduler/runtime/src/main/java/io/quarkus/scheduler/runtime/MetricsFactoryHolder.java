@@ -0,0 +1,26 @@
+package io.quarkus.scheduler.runtime;
+
+import java.util.function.Consumer;
+
+import io.quarkus.runtime.metrics.MetricsFactory;
+
+/**
+ * Receives the factory used to register the scheduler metrics once the metrics extension has created it.
+ */
+public class MetricsFactoryHolder implements Consumer<MetricsFactory> {
+
+    private volatile MetricsFactory metricsFactory;
+
+    @Override
+    public void accept(MetricsFactory metricsFactory) {
+        this.metricsFactory = metricsFactory;
+    }
+
+    /**
+     * 
+     * @return the factory, or {@code null} if the metrics extension has not created it
+     */
+    public MetricsFactory get() {
+        return metricsFactory;
+    }
+}
@@ -6,6 +6,8 @@ import java.util.concurrent.ExecutorService;
 
 import com.cronutils.model.CronType;
 
+import io.quarkus.runtime.metrics.MetricsFactory;
+
 public interface SchedulerContext {
 
     ExecutorService getExecutor();
@@ -14,6 +16,14 @@ public interface SchedulerContext {
 
     List<ScheduledMethodMetadata> getScheduledMethods();
 
+    /**
+     * 
+     * @return the factory used to register the scheduler metrics, or {@code null} if the metrics are disabled
+     */
+    default MetricsFactory getMetricsFactory() {
+        return null;
+    }
+
     @SuppressWarnings("unchecked")
     default ScheduledInvoker createInvoker(String invokerClassName) {
         try {
@@ -7,12 +7,22 @@ import java.util.function.Supplier;
 import com.cronutils.model.CronType;
 
 import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
 
 @Recorder
 public class SchedulerRecorder {
 
+    public MetricsFactoryHolder createMetricsFactoryHolder() {
+        return new MetricsFactoryHolder();
+    }
+
+    /**
+     * 
+     * @param metricsFactoryHolder the holder of the factory used to register the scheduler metrics, or {@code null} if the
+     *        metrics are disabled
+     */
     public Supplier<Object> createContext(SchedulerConfig config, ExecutorService executorService,
-            List<ScheduledMethodMetadata> scheduledMethods) {
+            List<ScheduledMethodMetadata> scheduledMethods, MetricsFactoryHolder metricsFactoryHolder) {
         return new Supplier<Object>() {
             @Override
             public Object get() {
@@ -32,6 +42,11 @@ public class SchedulerRecorder {
                     public List<ScheduledMethodMetadata> getScheduledMethods() {
                         return scheduledMethods;
                     }
+
+                    @Override
+                    public MetricsFactory getMetricsFactory() {
+                        return metricsFactoryHolder != null ? metricsFactoryHolder.get() : null;
+                    }
                 };
             }
         };
@@ -13,4 +13,13 @@ public class SchedulerRuntimeConfig {
     @ConfigItem(defaultValue = "true")
     public boolean enabled;
 
+    /**
+     * Whether the scheduled methods run on virtual threads instead of the worker pool, so that the long running or
+     * blocking executions do not hold the worker threads. Every execution runs on its own virtual thread.
+     * Virtual threads require a Java version supporting them, the worker pool is used otherwise.
+     * This property is ignored by the Quartz scheduler, which runs the scheduled methods on its own thread pool.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean virtualThreads;
+
 }
\ No newline at end of file
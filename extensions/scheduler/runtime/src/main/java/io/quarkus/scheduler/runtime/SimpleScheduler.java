@@ -1,5 +1,6 @@
 package io.quarkus.scheduler.runtime;
 
+import java.lang.reflect.InvocationTargetException;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
@@ -11,6 +12,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.OptionalLong;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -35,6 +37,8 @@ import com.cronutils.parser.CronParser;
 
 import io.quarkus.arc.Arc;
 import io.quarkus.runtime.StartupEvent;
+import io.quarkus.runtime.metrics.MetricsFactory;
+import io.quarkus.runtime.metrics.MetricsFactory.TimeRecorder;
 import io.quarkus.scheduler.Scheduled;
 import io.quarkus.scheduler.Scheduled.ConcurrentExecution;
 import io.quarkus.scheduler.ScheduledExecution;
@@ -54,6 +58,8 @@ public class SimpleScheduler implements Scheduler {
 
     private final ScheduledExecutorService scheduledExecutor;
     private final ExecutorService executor;
+    // null unless the scheduled methods run on virtual threads
+    private final ExecutorService virtualThreadExecutor;
     private volatile boolean running;
     private final List<ScheduledTask> scheduledTasks;
     private final boolean enabled;
@@ -63,7 +69,10 @@ public class SimpleScheduler implements Scheduler {
         this.running = true;
         this.enabled = schedulerRuntimeConfig.enabled;
         this.scheduledTasks = new ArrayList<>();
-        this.executor = context.getExecutor();
+        this.virtualThreadExecutor = schedulerRuntimeConfig.enabled && schedulerRuntimeConfig.virtualThreads
+                ? createVirtualThreadExecutor()
+                : null;
+        this.executor = virtualThreadExecutor != null ? virtualThreadExecutor : context.getExecutor();
 
         if (!schedulerRuntimeConfig.enabled) {
             this.scheduledExecutor = null;
@@ -81,6 +90,7 @@ public class SimpleScheduler implements Scheduler {
 
             CronDefinition definition = CronDefinitionBuilder.instanceDefinitionFor(context.getCronType());
             CronParser parser = new CronParser(definition);
+            MetricsFactory metricsFactory = context.getMetricsFactory();
 
             for (ScheduledMethodMetadata method : context.getScheduledMethods()) {
                 int nameSequence = 0;
@@ -98,7 +108,14 @@ public class SimpleScheduler implements Scheduler {
                                     Arc.container().select(scheduled.skipExecutionIf(), Any.Literal.INSTANCE).get(),
                                     skippedExecutionEvent);
                         }
-                        scheduledTasks.add(new ScheduledTask(trigger.get(), invoker));
+                        TimeRecorder lateness = null;
+                        if (metricsFactory != null) {
+                            lateness = metricsFactory.builder("scheduled.methods.lateness")
+                                    .description("The delay between the scheduled fire time and the start of the execution")
+                                    .tag("trigger", trigger.get().getId())
+                                    .buildTimer();
+                        }
+                        scheduledTasks.add(new ScheduledTask(trigger.get(), invoker, lateness));
                     }
                 }
             }
@@ -127,6 +144,28 @@ public class SimpleScheduler implements Scheduler {
         } catch (Exception e) {
             LOG.warn("Unable to shutdown the scheduler executor", e);
         }
+        if (virtualThreadExecutor != null) {
+            virtualThreadExecutor.shutdown();
+        }
+    }
+
+    /**
+     * The executor is looked up reflectively, as the extension targets a Java version without virtual threads.
+     * 
+     * @return the virtual thread per task executor, or {@code null} if virtual threads are not supported
+     */
+    private static ExecutorService createVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (NoSuchMethodException e) {
+            LOG.warnf("Virtual threads are not supported by Java %s, the scheduled methods run on the worker pool",
+                    System.getProperty("java.version"));
+        } catch (InvocationTargetException | IllegalAccessException e) {
+            // Virtual threads are a preview feature in some Java versions
+            LOG.warn("Virtual threads are not enabled, the scheduled methods run on the worker pool",
+                    e instanceof InvocationTargetException ? e.getCause() : e);
+        }
+        return null;
     }
 
     void checkTriggers() {
@@ -254,10 +293,13 @@ public class SimpleScheduler implements Scheduler {
 
         final SimpleTrigger trigger;
         final ScheduledInvoker invoker;
+        // null if metrics are disabled
+        final TimeRecorder lateness;
 
-        ScheduledTask(SimpleTrigger trigger, ScheduledInvoker invoker) {
+        ScheduledTask(SimpleTrigger trigger, ScheduledInvoker invoker, TimeRecorder lateness) {
             this.trigger = trigger;
             this.invoker = invoker;
+            this.lateness = lateness;
         }
 
         void execute(ZonedDateTime now, ExecutorService executor) {
@@ -270,6 +312,10 @@ public class SimpleScheduler implements Scheduler {
                     executor.execute(new Runnable() {
                         @Override
                         public void run() {
+                            if (lateness != null) {
+                                // Includes the time spent waiting for a worker thread
+                                lateness.update(Duration.between(scheduledFireTime.toInstant(), Instant.now()));
+                            }
                             try {
                                 invoker.invoke(new SimpleScheduledExecution(now, scheduledFireTime, trigger));
                             } catch (Throwable t) {
@@ -0,0 +1,199 @@
+package io.quarkus.security.runtime;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded cache whose entries expire at a given time, used to cache the results of the token verifications.
+ * <p>
+ * The entries are linked in the order they were added and in the order they were last used. Every time an entry is added,
+ * the expired entries are removed from the head of the first list, which stops at the first valid entry as the entries
+ * may not expire in the order they were added, and, if the cache is still full, the least recently used entry is
+ * evicted, so the cache never has to be scanned. The lists are guarded by a lock which a cache hit only tries to acquire,
+ * so the use of an entry may not be recorded under contention.
+ *
+ * @param <V> the type of the cached values
+ */
+public class BoundedLruCache<V> {
+
+    private final int maxSize;
+    private final Map<String, CacheEntry<V>> cacheMap = new ConcurrentHashMap<>();
+
+    private final ReentrantLock lock = new ReentrantLock();
+    // Guarded by the lock
+    private final CacheEntry<V> writeOrder = new CacheEntry<>(null, null, 0);
+    private final CacheEntry<V> accessOrder = new CacheEntry<>(null, null, 0);
+    private volatile int size;
+
+    private final LongAdder evictionCount = new LongAdder();
+
+    public BoundedLruCache(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("The maximum size of the cache must be positive");
+        }
+        this.maxSize = maxSize;
+        writeOrder.nextWrite = writeOrder.prevWrite = writeOrder;
+        accessOrder.nextAccess = accessOrder.prevAccess = accessOrder;
+    }
+
+    /**
+     * @param key the key
+     * @return the cached value, or {@code null} if there is none or it has expired
+     */
+    public V get(String key) {
+        CacheEntry<V> entry = cacheMap.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt < now()) {
+            lock.lock();
+            try {
+                if (cacheMap.get(key) == entry) {
+                    removeEntry(entry);
+                }
+            } finally {
+                lock.unlock();
+            }
+            return null;
+        }
+        if (lock.tryLock()) {
+            try {
+                if (entry.nextAccess != null) {
+                    moveToLastAccess(entry);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+        return entry.value;
+    }
+
+    /**
+     * Adds a value, which replaces the value which may have been added concurrently for the same key.
+     *
+     * @param key the key
+     * @param value the value
+     * @param expiresAt the time when the value expires, in milliseconds since the epoch
+     */
+    public void put(String key, V value, long expiresAt) {
+        CacheEntry<V> newEntry = new CacheEntry<>(key, value, expiresAt);
+        lock.lock();
+        try {
+            removeExpiredEntries(now());
+            CacheEntry<V> previous = cacheMap.put(key, newEntry);
+            if (previous != null) {
+                unlink(previous);
+            } else if (size == maxSize) {
+                removeEntry(accessOrder.nextAccess);
+                evictionCount.increment();
+            }
+            linkLast(newEntry);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the expired entries which have been added before the first valid entry.
+     */
+    public void removeExpiredEntries() {
+        lock.lock();
+        try {
+            removeExpiredEntries(now());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void clear() {
+        lock.lock();
+        try {
+            while (writeOrder.nextWrite != writeOrder) {
+                removeEntry(writeOrder.nextWrite);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    // The methods below must be called with the lock held
+
+    private void removeExpiredEntries(long now) {
+        CacheEntry<V> entry = writeOrder.nextWrite;
+        while (entry != writeOrder && entry.expiresAt < now) {
+            removeEntry(entry);
+            entry = writeOrder.nextWrite;
+        }
+    }
+
+    private void removeEntry(CacheEntry<V> entry) {
+        cacheMap.remove(entry.key, entry);
+        unlink(entry);
+    }
+
+    private void linkLast(CacheEntry<V> entry) {
+        entry.prevWrite = writeOrder.prevWrite;
+        entry.nextWrite = writeOrder;
+        writeOrder.prevWrite.nextWrite = entry;
+        writeOrder.prevWrite = entry;
+
+        entry.prevAccess = accessOrder.prevAccess;
+        entry.nextAccess = accessOrder;
+        accessOrder.prevAccess.nextAccess = entry;
+        accessOrder.prevAccess = entry;
+        size++;
+    }
+
+    private void moveToLastAccess(CacheEntry<V> entry) {
+        entry.prevAccess.nextAccess = entry.nextAccess;
+        entry.nextAccess.prevAccess = entry.prevAccess;
+        entry.prevAccess = accessOrder.prevAccess;
+        entry.nextAccess = accessOrder;
+        accessOrder.prevAccess.nextAccess = entry;
+        accessOrder.prevAccess = entry;
+    }
+
+    private void unlink(CacheEntry<V> entry) {
+        if (entry.nextWrite == null) {
+            return;
+        }
+        entry.prevWrite.nextWrite = entry.nextWrite;
+        entry.nextWrite.prevWrite = entry.prevWrite;
+        entry.prevAccess.nextAccess = entry.nextAccess;
+        entry.nextAccess.prevAccess = entry.prevAccess;
+        entry.prevWrite = entry.nextWrite = entry.prevAccess = entry.nextAccess = null;
+        size--;
+    }
+
+    private static long now() {
+        return System.currentTimeMillis();
+    }
+
+    private static class CacheEntry<V> {
+        final String key;
+        final V value;
+        final long expiresAt;
+
+        // Guarded by the cache lock
+        CacheEntry<V> prevWrite;
+        CacheEntry<V> nextWrite;
+        CacheEntry<V> prevAccess;
+        CacheEntry<V> nextAccess;
+
+        CacheEntry(String key, V value, long expiresAt) {
+            this.key = key;
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package io.quarkus.security.runtime;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded cache of the results of a successful token verification, which allows to skip the parsing and the signature
+ * verification of the tokens which are sent again and again by the same clients.
+ * <p>
+ * The entries are keyed by the SHA-256 digest of the token, so the tokens themselves are not kept in memory. The digest is
+ * computed once per request by {@link #key(String)} and then passed to {@link #get(String)} and
+ * {@link #put(String, Object, long)}. An entry is valid until the token expires, but never for longer than the configured
+ * time to live. The least recently used entry is evicted when the cache is full, see {@link BoundedLruCache}.
+ *
+ * @param <T> the type of the verification result
+ */
+public class VerifiedTokenCache<T> {
+
+    private final BoundedLruCache<T> cache;
+    private final long timeToLiveMillis;
+
+    private final LongAdder hitCount;
+    private final LongAdder missCount;
+
+    public VerifiedTokenCache(int maxSize, Duration timeToLive) {
+        this(maxSize, timeToLive, new LongAdder(), new LongAdder());
+    }
+
+    /**
+     * @param hitCount the counter of the cache hits, which can be shared with the caches this cache replaces so that the
+     *        total never decreases
+     * @param missCount the counter of the cache misses, which can be shared the same way
+     */
+    public VerifiedTokenCache(int maxSize, Duration timeToLive, LongAdder hitCount, LongAdder missCount) {
+        this.cache = new BoundedLruCache<>(maxSize);
+        this.timeToLiveMillis = timeToLive.toMillis();
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+    }
+
+    /**
+     * @param token the token
+     * @return the key of the token, its SHA-256 digest
+     */
+    public String key(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().withoutPadding()
+                    .encodeToString(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * @param key the key of the token, see {@link #key(String)}
+     * @return the cached verification result, or {@code null} if the token has not been verified or has expired
+     */
+    public T get(String key) {
+        T result = cache.get(key);
+        if (result == null) {
+            missCount.increment();
+        } else {
+            hitCount.increment();
+        }
+        return result;
+    }
+
+    /**
+     * @param key the key of the verified token, see {@link #key(String)}
+     * @param result the verification result
+     * @param tokenExpiresAt the time when the token expires, in milliseconds since the epoch
+     */
+    public void put(String key, T result, long tokenExpiresAt) {
+        long now = System.currentTimeMillis();
+        long expiresAt = Math.min(tokenExpiresAt, now + timeToLiveMillis);
+        if (expiresAt >= now) {
+            cache.put(key, result, expiresAt);
+        }
+    }
+
+    /**
+     * Removes all the entries, for example when the verification keys have been refreshed.
+     */
+    public void clear() {
+        cache.clear();
+    }
+
+    public int getSize() {
+        return cache.getSize();
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getEvictionCount() {
+        return cache.getEvictionCount();
+    }
+}
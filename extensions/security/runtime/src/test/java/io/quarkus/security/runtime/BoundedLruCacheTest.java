@@ -0,0 +1,70 @@
+package io.quarkus.security.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+
+public class BoundedLruCacheTest {
+
+    @Test
+    public void testLeastRecentlyUsedEntryIsEvicted() {
+        BoundedLruCache<String> cache = new BoundedLruCache<>(2);
+        long expiresAt = System.currentTimeMillis() + 60_000;
+        cache.put("key1", "value1", expiresAt);
+        cache.put("key2", "value2", expiresAt);
+        assertEquals("value1", cache.get("key1"));
+
+        cache.put("key3", "value3", expiresAt);
+        assertEquals(2, cache.getSize());
+        assertEquals(1, cache.getEvictionCount());
+        assertNull(cache.get("key2"));
+        assertEquals("value1", cache.get("key1"));
+        assertEquals("value3", cache.get("key3"));
+    }
+
+    @Test
+    public void testPutReplacesTheValue() {
+        BoundedLruCache<String> cache = new BoundedLruCache<>(2);
+        long expiresAt = System.currentTimeMillis() + 60_000;
+        cache.put("key1", "value1", expiresAt);
+        cache.put("key1", "value2", expiresAt);
+        assertEquals(1, cache.getSize());
+        assertEquals("value2", cache.get("key1"));
+    }
+
+    @Test
+    public void testExpiredEntries() throws InterruptedException {
+        BoundedLruCache<String> cache = new BoundedLruCache<>(2);
+        long now = System.currentTimeMillis();
+        cache.put("key1", "value1", now - 1);
+        cache.put("key2", "value2", now + 60_000);
+        // The expired entry has been removed instead of being evicted
+        assertEquals(1, cache.getSize());
+
+        cache.put("key3", "value3", now - 1);
+        assertNull(cache.get("key3"));
+        assertEquals(1, cache.getSize());
+
+        cache.clear();
+        cache.put("key4", "value4", System.currentTimeMillis() + 1);
+        Thread.sleep(5);
+        cache.removeExpiredEntries();
+        assertEquals(0, cache.getSize());
+        assertEquals(0, cache.getEvictionCount());
+    }
+
+    @Test
+    public void testClear() {
+        BoundedLruCache<String> cache = new BoundedLruCache<>(2);
+        long expiresAt = System.currentTimeMillis() + 60_000;
+        cache.put("key1", "value1", expiresAt);
+        cache.put("key2", "value2", expiresAt);
+        cache.clear();
+        assertEquals(0, cache.getSize());
+        assertNull(cache.get("key1"));
+
+        cache.put("key1", "value1", expiresAt);
+        assertEquals("value1", cache.get("key1"));
+    }
+}
@@ -0,0 +1,105 @@
+package io.quarkus.security.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.junit.jupiter.api.Test;
+
+public class VerifiedTokenCacheTest {
+
+    @Test
+    public void testHitAndMiss() {
+        VerifiedTokenCache<String> cache = new VerifiedTokenCache<>(10, Duration.ofMinutes(1));
+        assertNull(cache.get(cache.key("token")));
+        cache.put(cache.key("token"), "result", System.currentTimeMillis() + 60_000);
+        assertEquals("result", cache.get(cache.key("token")));
+        assertNull(cache.get(cache.key("other")));
+
+        assertEquals(1, cache.getSize());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    public void testSharedCounters() {
+        LongAdder hitCount = new LongAdder();
+        LongAdder missCount = new LongAdder();
+        VerifiedTokenCache<String> cache = new VerifiedTokenCache<>(10, Duration.ofMinutes(1), hitCount, missCount);
+        cache.put(cache.key("token"), "result", System.currentTimeMillis() + 60_000);
+        cache.get(cache.key("token"));
+
+        // A cache which replaces the first one keeps counting from the same totals
+        VerifiedTokenCache<String> newCache = new VerifiedTokenCache<>(10, Duration.ofMinutes(1), hitCount, missCount);
+        newCache.get(newCache.key("token"));
+        assertEquals(1, newCache.getHitCount());
+        assertEquals(1, newCache.getMissCount());
+    }
+
+    @Test
+    public void testKeyIsTheDigestOfTheToken() {
+        VerifiedTokenCache<String> cache = new VerifiedTokenCache<>(10, Duration.ofMinutes(1));
+        assertEquals(cache.key("token"), cache.key(new String("token")));
+        assertNotEquals("token", cache.key("token"));
+        assertNotEquals(cache.key("token"), cache.key("other"));
+    }
+
+    @Test
+    public void testExpiredTokenIsNotCached() {
+        VerifiedTokenCache<String> cache = new VerifiedTokenCache<>(10, Duration.ofMinutes(1));
+        cache.put(cache.key("token"), "result", System.currentTimeMillis() - 1);
+        assertNull(cache.get(cache.key("token")));
+        assertEquals(0, cache.getSize());
+    }
+
+    @Test
+    public void testTimeToLive() {
+        VerifiedTokenCache<String> cache = new VerifiedTokenCache<>(10, Duration.ofMillis(-1));
+        cache.put(cache.key("token"), "result", System.currentTimeMillis() + 60_000);
+        assertNull(cache.get(cache.key("token")));
+    }
+
+    @Test
+    public void testExpiredEntriesAreRemovedFirst() throws InterruptedException {
+        VerifiedTokenCache<String> cache = new VerifiedTokenCache<>(2, Duration.ofMinutes(1));
+        cache.put(cache.key("token1"), "result1", System.currentTimeMillis() + 1);
+        cache.put(cache.key("token2"), "result2", System.currentTimeMillis() + 60_000);
+        Thread.sleep(5);
+
+        cache.put(cache.key("token3"), "result3", System.currentTimeMillis() + 60_000);
+        assertEquals(2, cache.getSize());
+        assertEquals(0, cache.getEvictionCount());
+        assertEquals("result2", cache.get(cache.key("token2")));
+        assertEquals("result3", cache.get(cache.key("token3")));
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEntryIsEvicted() {
+        VerifiedTokenCache<String> cache = new VerifiedTokenCache<>(2, Duration.ofMinutes(1));
+        long expiresAt = System.currentTimeMillis() + 60_000;
+        cache.put(cache.key("token1"), "result1", expiresAt);
+        cache.put(cache.key("token2"), "result2", expiresAt);
+        assertEquals("result1", cache.get(cache.key("token1")));
+
+        cache.put(cache.key("token3"), "result3", expiresAt);
+        assertEquals(2, cache.getSize());
+        assertEquals(1, cache.getEvictionCount());
+        assertNull(cache.get(cache.key("token2")));
+        assertEquals("result1", cache.get(cache.key("token1")));
+        assertEquals("result3", cache.get(cache.key("token3")));
+
+        // Putting the same token again does not take more space
+        cache.put(cache.key("token1"), "result1", expiresAt);
+        assertEquals(2, cache.getSize());
+        assertEquals(1, cache.getEvictionCount());
+
+        cache.clear();
+        assertEquals(0, cache.getSize());
+        assertNull(cache.get(cache.key("token1")));
+        cache.put(cache.key("token2"), "result2", expiresAt);
+        assertEquals("result2", cache.get(cache.key("token2")));
+    }
+}
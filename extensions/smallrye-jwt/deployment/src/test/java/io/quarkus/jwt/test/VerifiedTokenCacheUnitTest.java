@@ -0,0 +1,89 @@
+package io.quarkus.jwt.test;
+
+import java.security.KeyPair;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.microprofile.jwt.JsonWebToken;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.security.credential.TokenCredential;
+import io.quarkus.security.identity.SecurityIdentity;
+import io.quarkus.security.identity.request.TokenAuthenticationRequest;
+import io.quarkus.smallrye.jwt.runtime.auth.MpJwtValidator;
+import io.quarkus.smallrye.jwt.runtime.auth.SmallRyeJwtConfig;
+import io.smallrye.jwt.auth.principal.DefaultJWTParser;
+import io.smallrye.jwt.auth.principal.JWTAuthContextInfo;
+import io.smallrye.jwt.auth.principal.ParseException;
+
+/**
+ * Validate that the tokens verified by {@link MpJwtValidator} are cached
+ */
+public class VerifiedTokenCacheUnitTest {
+
+    final AtomicInteger parseCount = new AtomicInteger();
+    DefaultJWTParser parser;
+    String jwt;
+
+    @BeforeEach
+    public void createToken() throws Exception {
+        KeyPair keyPair = TokenUtils.generateKeyPair(2048);
+        JWTAuthContextInfo contextInfo = new JWTAuthContextInfo((RSAPublicKey) keyPair.getPublic(),
+                "https://server.example.com");
+        parser = new DefaultJWTParser(contextInfo) {
+            @Override
+            public JsonWebToken parse(String token) throws ParseException {
+                parseCount.incrementAndGet();
+                return super.parse(token);
+            }
+        };
+        jwt = TokenUtils.generateTokenString("/Token1.json", keyPair.getPrivate(), "testVerifiedTokenCache");
+    }
+
+    @Test
+    public void testCacheHit() {
+        MpJwtValidator validator = new MpJwtValidator(parser, createConfig(Duration.ofMinutes(3)));
+
+        SecurityIdentity identity = authenticate(validator);
+        Assertions.assertEquals("jdoe@example.com", identity.getPrincipal().getName());
+        SecurityIdentity cachedIdentity = authenticate(validator);
+        Assertions.assertSame(identity.getPrincipal(), cachedIdentity.getPrincipal());
+        Assertions.assertEquals(identity.getRoles(), cachedIdentity.getRoles());
+        Assertions.assertEquals(1, parseCount.get());
+    }
+
+    @Test
+    public void testCacheTimeToLive() throws InterruptedException {
+        MpJwtValidator validator = new MpJwtValidator(parser, createConfig(Duration.ofMillis(1)));
+
+        authenticate(validator);
+        Thread.sleep(5);
+        // The token is still valid but it has been cached for longer than the time to live, so it is parsed again
+        authenticate(validator);
+        Assertions.assertEquals(2, parseCount.get());
+    }
+
+    @Test
+    public void testCacheDisabled() {
+        MpJwtValidator validator = new MpJwtValidator(parser, new SmallRyeJwtConfig());
+
+        authenticate(validator);
+        authenticate(validator);
+        Assertions.assertEquals(2, parseCount.get());
+    }
+
+    private SecurityIdentity authenticate(MpJwtValidator validator) {
+        TokenAuthenticationRequest request = new TokenAuthenticationRequest(new TokenCredential(jwt, "bearer"));
+        return validator.authenticate(request, null).await().indefinitely();
+    }
+
+    private static SmallRyeJwtConfig createConfig(Duration timeToLive) {
+        SmallRyeJwtConfig config = new SmallRyeJwtConfig();
+        config.verifiedTokenCacheSize = 10;
+        config.verifiedTokenCacheTimeToLive = timeToLive;
+        return config;
+    }
+}
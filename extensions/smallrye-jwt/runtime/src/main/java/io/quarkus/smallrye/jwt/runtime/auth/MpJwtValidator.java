@@ -1,5 +1,6 @@
 package io.quarkus.smallrye.jwt.runtime.auth;
 
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 import javax.enterprise.context.ApplicationScoped;
@@ -14,6 +15,7 @@ import io.quarkus.security.identity.IdentityProvider;
 import io.quarkus.security.identity.SecurityIdentity;
 import io.quarkus.security.identity.request.TokenAuthenticationRequest;
 import io.quarkus.security.runtime.QuarkusSecurityIdentity;
+import io.quarkus.security.runtime.VerifiedTokenCache;
 import io.smallrye.jwt.auth.principal.JWTParser;
 import io.smallrye.jwt.auth.principal.ParseException;
 import io.smallrye.mutiny.Uni;
@@ -29,16 +31,20 @@ public class MpJwtValidator implements IdentityProvider<TokenAuthenticationReque
 
     final JWTParser parser;
     final boolean blockingAuthentication;
+    final VerifiedTokenCache<JsonWebToken> verifiedTokenCache;
 
     public MpJwtValidator() {
         this.parser = null;
         this.blockingAuthentication = false;
+        this.verifiedTokenCache = null;
     }
 
     @Inject
     public MpJwtValidator(JWTParser parser, SmallRyeJwtConfig config) {
         this.parser = parser;
         this.blockingAuthentication = config == null ? false : config.blockingAuthentication;
+        this.verifiedTokenCache = config == null || config.verifiedTokenCacheSize <= 0 ? null
+                : new VerifiedTokenCache<>(config.verifiedTokenCacheSize, config.verifiedTokenCacheTimeToLive);
     }
 
     @Override
@@ -49,33 +55,58 @@ public class MpJwtValidator implements IdentityProvider<TokenAuthenticationReque
     @Override
     public Uni<SecurityIdentity> authenticate(TokenAuthenticationRequest request,
             AuthenticationRequestContext context) {
+        String key = null;
+        if (verifiedTokenCache != null) {
+            key = verifiedTokenCache.key(request.getToken().getToken());
+            JsonWebToken jwtPrincipal = verifiedTokenCache.get(key);
+            if (jwtPrincipal != null) {
+                // Nothing to verify, so there is no need to block even if the blocking authentication is enabled
+                return Uni.createFrom().item(createSecurityIdentity(request, jwtPrincipal));
+            }
+        }
+        String tokenKey = key;
         if (!blockingAuthentication) {
             return Uni.createFrom().emitter(new Consumer<UniEmitter<? super SecurityIdentity>>() {
                 @Override
                 public void accept(UniEmitter<? super SecurityIdentity> uniEmitter) {
                     try {
-                        uniEmitter.complete(createSecurityIdentity(request));
+                        uniEmitter.complete(createSecurityIdentity(request, tokenKey));
                     } catch (AuthenticationFailedException e) {
                         uniEmitter.fail(e);
                     }
                 }
             });
         } else {
-            return context.runBlocking(() -> createSecurityIdentity(request));
+            return context.runBlocking(() -> createSecurityIdentity(request, tokenKey));
         }
 
     }
 
-    private SecurityIdentity createSecurityIdentity(TokenAuthenticationRequest request) {
+    VerifiedTokenCache<JsonWebToken> getVerifiedTokenCache() {
+        return verifiedTokenCache;
+    }
+
+    /**
+     * @param key the key of the token in the verified token cache, or {@code null} if the cache is disabled
+     */
+    private SecurityIdentity createSecurityIdentity(TokenAuthenticationRequest request, String key) {
         try {
-            JsonWebToken jwtPrincipal = parser.parse(request.getToken().getToken());
-            return QuarkusSecurityIdentity.builder().setPrincipal(jwtPrincipal)
-                    .addCredential(request.getToken())
-                    .addRoles(jwtPrincipal.getGroups())
-                    .addAttribute(SecurityIdentity.USER_ATTRIBUTE, jwtPrincipal).build();
+            String token = request.getToken().getToken();
+            JsonWebToken jwtPrincipal = parser.parse(token);
+            if (key != null) {
+                verifiedTokenCache.put(key, jwtPrincipal, TimeUnit.SECONDS.toMillis(jwtPrincipal.getExpirationTime()));
+            }
+            return createSecurityIdentity(request, jwtPrincipal);
         } catch (ParseException e) {
             log.debug("Authentication failed", e);
             throw new AuthenticationFailedException(e);
         }
     }
+
+    private static SecurityIdentity createSecurityIdentity(TokenAuthenticationRequest request, JsonWebToken jwtPrincipal) {
+        return QuarkusSecurityIdentity.builder().setPrincipal(jwtPrincipal)
+                .addCredential(request.getToken())
+                .addRoles(jwtPrincipal.getGroups())
+                .addAttribute(SecurityIdentity.USER_ATTRIBUTE, jwtPrincipal).build();
+    }
 }
@@ -1,5 +1,7 @@
 package io.quarkus.smallrye.jwt.runtime.auth;
 
+import java.time.Duration;
+
 import io.quarkus.runtime.annotations.ConfigItem;
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
@@ -13,4 +15,20 @@ public class SmallRyeJwtConfig {
      */
     @ConfigItem(defaultValue = "false")
     public boolean blockingAuthentication;
+
+    /**
+     * Maximum number of verified tokens which are cached, so that a token which is sent again is not parsed and its
+     * signature is not verified again until it expires.
+     * Set it to a positive value if the cache has to be enabled.
+     */
+    @ConfigItem(defaultValue = "0")
+    public int verifiedTokenCacheSize;
+
+    /**
+     * Maximum amount of time a verified token is cached for, even if it expires later.
+     * The verification keys are not checked again while a token is cached, so this time should be shorter than the time
+     * it takes for a key to be revoked.
+     */
+    @ConfigItem(defaultValue = "3M")
+    public Duration verifiedTokenCacheTimeToLive;
 }
@@ -0,0 +1,39 @@
+package io.quarkus.smallrye.jwt.runtime.auth;
+
+import java.util.function.Consumer;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
+import io.quarkus.security.runtime.VerifiedTokenCache;
+
+@Recorder
+public class SmallRyeJwtRecorder {
+
+    /* RUNTIME_INIT */
+    public Consumer<MetricsFactory> registerVerifiedTokenCacheMetrics(SmallRyeJwtConfig config) {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                if (config.verifiedTokenCacheSize <= 0) {
+                    return;
+                }
+                metricsFactory.builder("smallrye.jwt.verified.token.cache.size")
+                        .description("The number of verified tokens in the cache.")
+                        .buildGauge(() -> getVerifiedTokenCache().getSize());
+                metricsFactory.builder("smallrye.jwt.verified.token.cache.gets")
+                        .description("The number of times a token has been found in the verified token cache.")
+                        .tag("result", "hit")
+                        .buildCounter(() -> getVerifiedTokenCache().getHitCount());
+                metricsFactory.builder("smallrye.jwt.verified.token.cache.gets")
+                        .description("The number of times a token has not been found in the verified token cache.")
+                        .tag("result", "miss")
+                        .buildCounter(() -> getVerifiedTokenCache().getMissCount());
+            }
+        };
+    }
+
+    private static VerifiedTokenCache<?> getVerifiedTokenCache() {
+        return Arc.container().instance(MpJwtValidator.class).get().getVerifiedTokenCache();
+    }
+}
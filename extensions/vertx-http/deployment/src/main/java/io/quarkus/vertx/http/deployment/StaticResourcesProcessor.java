@@ -2,7 +2,9 @@ package io.quarkus.vertx.http.deployment;
 
 import static io.quarkus.deployment.annotations.ExecutionTime.RUNTIME_INIT;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.UncheckedIOException;
 import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
@@ -15,6 +17,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.zip.GZIPOutputStream;
 
 import io.quarkus.arc.deployment.BeanContainerBuildItem;
 import io.quarkus.builder.item.SimpleBuildItem;
@@ -25,11 +28,15 @@ import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.ApplicationArchivesBuildItem;
+import io.quarkus.deployment.builditem.GeneratedResourceBuildItem;
+import io.quarkus.deployment.builditem.LaunchModeBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.NativeImageResourceBuildItem;
 import io.quarkus.deployment.pkg.steps.NativeBuild;
+import io.quarkus.runtime.LaunchMode;
 import io.quarkus.runtime.util.ClassPathUtils;
 import io.quarkus.vertx.core.deployment.CoreVertxBuildItem;
 import io.quarkus.vertx.http.deployment.spi.AdditionalStaticResourceBuildItem;
+import io.quarkus.vertx.http.runtime.HttpBuildTimeConfig;
 import io.quarkus.vertx.http.runtime.StaticResourcesRecorder;
 
 /**
@@ -92,6 +99,24 @@ public class StaticResourcesProcessor {
 
     }
 
+    /**
+     * The paths of the static resources whose gzip variant is available as {@code META-INF/resources<path>.gz}.
+     */
+    public static final class PrecompressedStaticResourcesBuildItem extends SimpleBuildItem {
+
+        private final Set<String> paths;
+
+        public PrecompressedStaticResourcesBuildItem(Set<String> paths) {
+            this.paths = paths;
+        }
+
+        public Set<String> getPaths() {
+            return paths;
+        }
+    }
+
+    private static final String GZIP_SUFFIX = ".gz";
+
     @BuildStep
     void collectStaticResources(Capabilities capabilities, ApplicationArchivesBuildItem applicationArchivesBuildItem,
             List<AdditionalStaticResourceBuildItem> additionalStaticResources,
@@ -109,13 +134,60 @@ public class StaticResourcesProcessor {
         }
     }
 
+    @BuildStep
+    void precompressStaticResources(HttpBuildTimeConfig httpBuildTimeConfig, LaunchModeBuildItem launchMode,
+            Optional<StaticResourcesBuildItem> staticResources,
+            BuildProducer<GeneratedResourceBuildItem> generatedResources,
+            BuildProducer<NativeImageResourceBuildItem> nativeImageResources,
+            BuildProducer<PrecompressedStaticResourcesBuildItem> precompressedStaticResources) throws IOException {
+        if (!httpBuildTimeConfig.staticResources.precompress || !staticResources.isPresent()
+                || launchMode.getLaunchMode() == LaunchMode.DEVELOPMENT) {
+            // The resources can be modified in dev mode without a restart
+            return;
+        }
+        Set<String> knownPaths = staticResources.get().getPaths();
+        Set<String> precompressedPaths = new HashSet<>();
+        ClassLoader cl = Thread.currentThread().getContextClassLoader();
+        for (StaticResourcesBuildItem.Entry entry : staticResources.get().getEntries()) {
+            String path = entry.getPath();
+            if (entry.isDirectory() || !isPrecompressed(path, httpBuildTimeConfig.staticResources.precompressedExtensions)) {
+                continue;
+            }
+            String resourceName = StaticResourcesRecorder.META_INF_RESOURCES + path;
+            if (knownPaths.contains(path + GZIP_SUFFIX)) {
+                // The gzip variant is provided by the application
+                precompressedPaths.add(path);
+                continue;
+            }
+            byte[] content = read(cl, resourceName);
+            if (content == null) {
+                // Not available from the classpath during the build, e.g. generated by another extension
+                continue;
+            }
+            byte[] compressed = gzip(content);
+            if (compressed.length < content.length) {
+                generatedResources.produce(new GeneratedResourceBuildItem(resourceName + GZIP_SUFFIX, compressed));
+                nativeImageResources.produce(new NativeImageResourceBuildItem(resourceName + GZIP_SUFFIX));
+                precompressedPaths.add(path);
+            }
+        }
+        if (!precompressedPaths.isEmpty()) {
+            precompressedStaticResources.produce(new PrecompressedStaticResourcesBuildItem(precompressedPaths));
+        }
+    }
+
     @BuildStep
     @Record(RUNTIME_INIT)
-    public void runtimeInit(Optional<StaticResourcesBuildItem> staticResources, StaticResourcesRecorder recorder,
+    public void runtimeInit(Optional<StaticResourcesBuildItem> staticResources,
+            Optional<PrecompressedStaticResourcesBuildItem> precompressedStaticResources, StaticResourcesRecorder recorder,
             CoreVertxBuildItem vertx, BeanContainerBuildItem beanContainer, BuildProducer<DefaultRouteBuildItem> defaultRoutes)
             throws Exception {
         if (staticResources.isPresent()) {
-            defaultRoutes.produce(new DefaultRouteBuildItem(recorder.start(staticResources.get().getPaths())));
+            Set<String> precompressedPaths = precompressedStaticResources.isPresent()
+                    ? precompressedStaticResources.get().getPaths()
+                    : Set.of();
+            defaultRoutes.produce(
+                    new DefaultRouteBuildItem(recorder.start(staticResources.get().getPaths(), precompressedPaths)));
         }
     }
 
@@ -194,4 +266,32 @@ public class StaticResourcesProcessor {
             throw new UncheckedIOException(e);
         }
     }
+
+    private static boolean isPrecompressed(String path, List<String> extensions) {
+        int dot = path.lastIndexOf('.');
+        if (dot == -1 || path.lastIndexOf('/') > dot) {
+            return false;
+        }
+        String extension = path.substring(dot + 1);
+        for (String e : extensions) {
+            if (e.equalsIgnoreCase(extension)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static byte[] read(ClassLoader cl, String name) throws IOException {
+        try (InputStream in = cl.getResourceAsStream(name)) {
+            return in != null ? in.readAllBytes() : null;
+        }
+    }
+
+    private static byte[] gzip(byte[] content) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(content.length / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(content);
+        }
+        return out.toByteArray();
+    }
 }
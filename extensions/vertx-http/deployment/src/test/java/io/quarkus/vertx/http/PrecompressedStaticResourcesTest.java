@@ -0,0 +1,107 @@
+package io.quarkus.vertx.http;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import org.hamcrest.Matchers;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+import io.restassured.response.Response;
+
+public class PrecompressedStaticResourcesTest {
+
+    private static final String APP_PROPS = "" +
+            "quarkus.http.static-resources.precompress=true\n";
+
+    private static final String INDEX = "<html><body>Hello World</body></html>";
+
+    static String script;
+    static {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 1000; ++i) {
+            sb.append("console.log('Hello World');\n");
+        }
+        script = sb.toString();
+    }
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addAsResource(new StringAsset(APP_PROPS), "application.properties")
+                    .addAsResource(new StringAsset(script), "META-INF/resources/app.js")
+                    .addAsResource(new StringAsset(script), "META-INF/resources/app.bin")
+                    .addAsResource(new StringAsset(INDEX), "META-INF/resources/index.html"));
+
+    @Test
+    public void testPrecompressedResource() {
+        Response response = RestAssured.given().header("Accept-Encoding", "gzip, deflate").get("/app.js");
+        response.then().statusCode(200)
+                .header("content-encoding", "gzip")
+                .header("vary", "accept-encoding")
+                .header("content-type", Matchers.startsWith("application/javascript"))
+                .header("content-length", Matchers.not(Matchers.equalTo(Integer.toString(script.length()))))
+                .header("cache-control", Matchers.containsString("max-age="))
+                .header("last-modified", Matchers.notNullValue())
+                .body(Matchers.equalTo(script));
+
+        String etag = response.header("etag");
+        RestAssured.given().header("Accept-Encoding", "gzip").header("If-None-Match", etag).get("/app.js")
+                .then().statusCode(304)
+                .header("etag", etag)
+                .header("cache-control", Matchers.containsString("max-age="));
+    }
+
+    @Test
+    public void testConditionalRequests() {
+        Response response = RestAssured.given().header("Accept-Encoding", "gzip").get("/app.js");
+        String etag = response.header("etag");
+        String lastModified = response.header("last-modified");
+
+        RestAssured.given().header("Accept-Encoding", "gzip").header("If-None-Match", "\"other\", W/" + etag)
+                .get("/app.js").then().statusCode(304);
+        RestAssured.given().header("Accept-Encoding", "gzip").header("If-None-Match", "*")
+                .get("/app.js").then().statusCode(304);
+        RestAssured.given().header("Accept-Encoding", "gzip").header("If-Modified-Since", lastModified)
+                .get("/app.js").then().statusCode(304);
+        // If-Modified-Since is ignored when If-None-Match is present
+        RestAssured.given().header("Accept-Encoding", "gzip").header("If-None-Match", "\"other\"")
+                .header("If-Modified-Since", lastModified)
+                .get("/app.js").then().statusCode(200)
+                .header("content-encoding", "gzip")
+                .body(Matchers.equalTo(script));
+        RestAssured.given().header("Accept-Encoding", "gzip").header("If-Modified-Since", "Thu, 01 Jan 1970 00:00:00 GMT")
+                .get("/app.js").then().statusCode(200)
+                .header("content-encoding", "gzip");
+    }
+
+    @Test
+    public void testIndexPage() {
+        String etag = RestAssured.given().header("Accept-Encoding", "gzip").get("/").then().statusCode(200)
+                .header("content-encoding", "gzip")
+                .header("content-type", Matchers.startsWith("text/html"))
+                .body(Matchers.equalTo(INDEX))
+                .extract().header("etag");
+        RestAssured.given().header("Accept-Encoding", "gzip").get("/index.html").then().statusCode(200)
+                .header("content-encoding", "gzip")
+                .header("etag", etag)
+                .body(Matchers.equalTo(INDEX));
+    }
+
+    @Test
+    public void testGzipNotAccepted() {
+        RestAssured.given().header("Accept-Encoding", "gzip;q=0, identity").get("/app.js").then().statusCode(200)
+                .header("content-encoding", is(nullValue()))
+                .body(Matchers.equalTo(script));
+    }
+
+    @Test
+    public void testExtensionNotPrecompressed() {
+        RestAssured.given().header("Accept-Encoding", "gzip").get("/app.bin").then().statusCode(200)
+                .header("content-encoding", is(nullValue()))
+                .body(Matchers.equalTo(script));
+    }
+}
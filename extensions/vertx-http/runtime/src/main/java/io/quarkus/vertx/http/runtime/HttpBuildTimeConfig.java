@@ -52,6 +52,11 @@ public class HttpBuildTimeConfig {
     @ConfigItem(defaultValue = "q")
     public String nonApplicationRootPath;
 
+    /**
+     * Static resources configuration.
+     */
+    public StaticResourcesConfig staticResources;
+
     /**
      * The REST Assured client timeout for testing.
      */
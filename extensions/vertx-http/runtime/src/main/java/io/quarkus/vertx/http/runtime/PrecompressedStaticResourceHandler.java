@@ -0,0 +1,230 @@
+package io.quarkus.vertx.http.runtime;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.http.impl.MimeMapping;
+import io.vertx.ext.web.RoutingContext;
+import io.vertx.ext.web.handler.StaticHandler;
+
+/**
+ * Serves the gzip variants of the static resources that were compressed at build time.
+ * <p>
+ * The compressed content is loaded in memory when the application starts and it is never modified afterwards. The requests
+ * that do not accept the {@code gzip} encoding, range requests and the resources that were not precompressed are passed to
+ * the next handler.
+ * <p>
+ * The responses have the same caching headers as the ones of the {@link StaticHandler}, the {@code Last-Modified} date being
+ * the time the resources were loaded, and the index page of a directory is served like the {@link StaticHandler} does.
+ */
+class PrecompressedStaticResourceHandler implements Handler<RoutingContext> {
+
+    static final String GZIP_SUFFIX = ".gz";
+
+    private static final String GZIP = "gzip";
+    private static final String INDEX_PAGE = "index.html";
+    private static final String CACHE_CONTROL = "public, immutable, max-age=" + StaticHandler.DEFAULT_MAX_AGE_SECONDS;
+    private static final DateTimeFormatter HTTP_DATE_FORMAT = DateTimeFormatter
+            .ofPattern("EEE, dd MMM yyyy HH:mm:ss 'GMT'", Locale.US).withZone(ZoneOffset.UTC);
+
+    private final Map<String, Resource> resources;
+
+    PrecompressedStaticResourceHandler(Set<String> precompressedPaths, ClassLoader classLoader) {
+        this.resources = new HashMap<>(precompressedPaths.size());
+        // HTTP dates have a precision of one second
+        long lastModified = Instant.now().getEpochSecond() * 1000;
+        for (String path : precompressedPaths) {
+            byte[] content = read(classLoader, StaticResourcesRecorder.META_INF_RESOURCES + path + GZIP_SUFFIX);
+            if (content != null) {
+                resources.put(path, new Resource(path, content, lastModified));
+            }
+        }
+    }
+
+    @Override
+    public void handle(RoutingContext ctx) {
+        HttpServerRequest request = ctx.request();
+        HttpMethod method = request.method();
+        Resource resource;
+        if ((method != HttpMethod.GET && method != HttpMethod.HEAD)
+                || (resource = resources.get(resourcePath(StaticResourcesRecorder.relativePath(ctx)))) == null
+                || request.headers().contains(HttpHeaderNames.RANGE)
+                || !acceptsGzip(request.getHeader(HttpHeaderNames.ACCEPT_ENCODING))) {
+            ctx.next();
+            return;
+        }
+        HttpServerResponse response = ctx.response();
+        response.putHeader(HttpHeaderNames.VARY, HttpHeaderNames.ACCEPT_ENCODING);
+        response.putHeader(HttpHeaderNames.ETAG, resource.etag);
+        response.putHeader(HttpHeaderNames.CACHE_CONTROL, CACHE_CONTROL);
+        response.putHeader(HttpHeaderNames.LAST_MODIFIED, resource.lastModifiedDate);
+        response.putHeader(HttpHeaderNames.DATE, formatDate(System.currentTimeMillis()));
+        if (isNotModified(request, resource)) {
+            response.setStatusCode(HttpResponseStatus.NOT_MODIFIED.code()).end();
+            return;
+        }
+        // The content encoding is already set so the compressor of the HTTP server leaves the response as is
+        response.putHeader(HttpHeaderNames.CONTENT_ENCODING, HttpHeaderValues.GZIP);
+        response.putHeader(HttpHeaderNames.CONTENT_TYPE, resource.contentType);
+        if (method == HttpMethod.HEAD) {
+            response.putHeader(HttpHeaderNames.CONTENT_LENGTH, resource.contentLength);
+            response.end();
+        } else {
+            response.end(resource.content);
+        }
+    }
+
+    private static String resourcePath(String path) {
+        // The StaticHandler serves the index page of the directories
+        return path.endsWith("/") ? path + INDEX_PAGE : path;
+    }
+
+    /**
+     * The {@code If-Modified-Since} header is only evaluated if there is no {@code If-None-Match} header, as required by
+     * RFC 7232.
+     */
+    private static boolean isNotModified(HttpServerRequest request, Resource resource) {
+        String ifNoneMatch = request.getHeader(HttpHeaderNames.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            return matchesEtag(ifNoneMatch, resource.etag);
+        }
+        String ifModifiedSince = request.getHeader(HttpHeaderNames.IF_MODIFIED_SINCE);
+        if (ifModifiedSince != null) {
+            try {
+                return ZonedDateTime.parse(ifModifiedSince, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant()
+                        .toEpochMilli() >= resource.lastModified;
+            } catch (DateTimeParseException e) {
+                // An invalid date is ignored
+                return false;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Uses the weak comparison required for {@code If-None-Match}: the {@code W/} prefix of the entity tags is ignored.
+     */
+    static boolean matchesEtag(String ifNoneMatch, String etag) {
+        int start = 0;
+        int length = ifNoneMatch.length();
+        while (start < length) {
+            int end = ifNoneMatch.indexOf(',', start);
+            if (end == -1) {
+                end = length;
+            }
+            String tag = ifNoneMatch.substring(start, end).trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(etag) || tag.equals("*")) {
+                return true;
+            }
+            start = end + 1;
+        }
+        return false;
+    }
+
+    private static String formatDate(long time) {
+        return HTTP_DATE_FORMAT.format(Instant.ofEpochMilli(time));
+    }
+
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        int start = 0;
+        int length = acceptEncoding.length();
+        while (start < length) {
+            int end = acceptEncoding.indexOf(',', start);
+            if (end == -1) {
+                end = length;
+            }
+            String coding = acceptEncoding.substring(start, end).trim();
+            String quality = null;
+            int semicolon = coding.indexOf(';');
+            if (semicolon != -1) {
+                quality = coding.substring(semicolon + 1).trim();
+                coding = coding.substring(0, semicolon).trim();
+            }
+            if (coding.equalsIgnoreCase(GZIP) || coding.equals("*")) {
+                return quality == null || !isZeroQuality(quality);
+            }
+            start = end + 1;
+        }
+        return false;
+    }
+
+    private static boolean isZeroQuality(String quality) {
+        if (!quality.startsWith("q=")) {
+            return false;
+        }
+        try {
+            return Double.parseDouble(quality.substring(2)) == 0;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static byte[] read(ClassLoader classLoader, String name) {
+        try (InputStream in = classLoader.getResourceAsStream(name)) {
+            return in != null ? in.readAllBytes() : null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static final class Resource {
+
+        final Buffer content;
+        final String contentLength;
+        final String contentType;
+        final String etag;
+        final long lastModified;
+        final String lastModifiedDate;
+
+        Resource(String path, byte[] content, long lastModified) {
+            this.content = Buffer.buffer(content);
+            this.contentLength = Integer.toString(content.length);
+            String contentType = MimeMapping.getMimeTypeForFilename(path);
+            if (contentType == null) {
+                contentType = "application/octet-stream";
+            } else if (contentType.startsWith("text")) {
+                contentType = contentType + ";charset=UTF-8";
+            }
+            this.contentType = contentType;
+            this.etag = etag(content);
+            this.lastModified = lastModified;
+            this.lastModifiedDate = formatDate(lastModified);
+        }
+
+        private static String etag(byte[] content) {
+            try {
+                byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+                return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(digest) + "\"";
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
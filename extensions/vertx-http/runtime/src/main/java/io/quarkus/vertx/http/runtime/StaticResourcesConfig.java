@@ -0,0 +1,31 @@
+package io.quarkus.vertx.http.runtime;
+
+import java.util.List;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+/**
+ * Static resources related settings
+ */
+@ConfigGroup
+public class StaticResourcesConfig {
+
+    /**
+     * Whether the static resources found in {@code META-INF/resources} should be compressed with gzip at build time.
+     * <p>
+     * If {@code true}, the resources with one of the {@code quarkus.http.static-resources.precompressed-extensions} are
+     * compressed during the build and kept in memory at runtime. The compressed variant is sent to the clients that accept
+     * the {@code gzip} encoding, so that the resources are not compressed again for each request. A {@code .gz} file
+     * placed next to a resource is used as is. The resources are not precompressed in dev mode.
+     */
+    @ConfigItem
+    public boolean precompress;
+
+    /**
+     * The file extensions of the static resources that should be precompressed.
+     */
+    @ConfigItem(defaultValue = "html,htm,js,mjs,css,json,map,svg,txt,xml")
+    public List<String> precompressedExtensions;
+
+}
@@ -23,7 +23,7 @@ public class StaticResourcesRecorder {
         hotDeploymentResourcePaths = resources;
     }
 
-    public Consumer<Route> start(Set<String> knownPaths) {
+    public Consumer<Route> start(Set<String> knownPaths, Set<String> precompressedPaths) {
 
         List<Handler<RoutingContext>> handlers = new ArrayList<>();
 
@@ -51,15 +51,14 @@ public class StaticResourcesRecorder {
         }
         if (!knownPaths.isEmpty()) {
             ClassLoader currentCl = Thread.currentThread().getContextClassLoader();
+            if (!precompressedPaths.isEmpty()) {
+                handlers.add(new PrecompressedStaticResourceHandler(precompressedPaths, currentCl));
+            }
             StaticHandler staticHandler = StaticHandler.create(META_INF_RESOURCES).setDefaultContentEncoding("UTF-8");
             handlers.add(new Handler<>() {
                 @Override
                 public void handle(RoutingContext ctx) {
-                    String rel = ctx.mountPoint() == null ? ctx.normalizedPath()
-                            : ctx.normalizedPath().substring(
-                                    // let's be extra careful here in case Vert.x normalizes the mount points at some point
-                                    ctx.mountPoint().endsWith("/") ? ctx.mountPoint().length() - 1 : ctx.mountPoint().length());
-                    if (knownPaths.contains(rel)) {
+                    if (knownPaths.contains(relativePath(ctx))) {
                         staticHandler.handle(ctx);
                     } else {
                         // make sure we don't lose the correct TCCL to Vert.x...
@@ -81,4 +80,11 @@ public class StaticResourcesRecorder {
         };
     }
 
+    static String relativePath(RoutingContext ctx) {
+        return ctx.mountPoint() == null ? ctx.normalizedPath()
+                : ctx.normalizedPath().substring(
+                        // let's be extra careful here in case Vert.x normalizes the mount points at some point
+                        ctx.mountPoint().endsWith("/") ? ctx.mountPoint().length() - 1 : ctx.mountPoint().length());
+    }
+
 }
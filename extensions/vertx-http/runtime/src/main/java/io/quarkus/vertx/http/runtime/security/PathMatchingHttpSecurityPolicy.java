@@ -27,19 +27,11 @@ import io.vertx.ext.web.RoutingContext;
 @Singleton
 public class PathMatchingHttpSecurityPolicy implements HttpSecurityPolicy {
 
-    private final PathMatcher<List<HttpMatcher>> pathMatcher = new PathMatcher<>();
+    private final PathMatcher<PathPermissions> pathMatcher = new PathMatcher<>();
 
     public String getAuthMechanismName(RoutingContext routingContext) {
-        PathMatcher.PathMatch<List<HttpMatcher>> toCheck = pathMatcher.match(routingContext.request().path());
-        if (toCheck.getValue() == null || toCheck.getValue().isEmpty()) {
-            return null;
-        }
-        for (HttpMatcher i : toCheck.getValue()) {
-            if (i.authMechanism != null) {
-                return i.authMechanism;
-            }
-        }
-        return null;
+        PathPermissions toCheck = pathMatcher.match(routingContext.request().path()).getValue();
+        return toCheck == null ? null : toCheck.authMechanism;
     }
 
     @Override
@@ -53,7 +45,8 @@ public class PathMatchingHttpSecurityPolicy implements HttpSecurityPolicy {
             Uni<SecurityIdentity> identity, int index, SecurityIdentity augmentedIdentity,
             List<HttpSecurityPolicy> permissionCheckers, AuthorizationRequestContext requestContext) {
         if (index == permissionCheckers.size()) {
-            return Uni.createFrom().item(new CheckResult(true, augmentedIdentity));
+            return Uni.createFrom()
+                    .item(augmentedIdentity == null ? CheckResult.PERMIT : new CheckResult(true, augmentedIdentity));
         }
         //get the current checker
         HttpSecurityPolicy res = permissionCheckers.get(index);
@@ -99,55 +92,81 @@ public class PathMatchingHttpSecurityPolicy implements HttpSecurityPolicy {
             if (entry.getValue().enabled.orElse(Boolean.TRUE)) {
                 for (String path : entry.getValue().paths.orElse(Collections.emptyList())) {
                     path = path.trim();
-                    if (tempMap.containsKey(path)) {
-                        HttpMatcher m = new HttpMatcher(entry.getValue().authMechanism.orElse(null),
-                                new HashSet<>(entry.getValue().methods.orElse(Collections.emptyList())),
-                                checker);
-                        tempMap.get(path).add(m);
-                    } else {
-                        HttpMatcher m = new HttpMatcher(entry.getValue().authMechanism.orElse(null),
-                                new HashSet<>(entry.getValue().methods.orElse(Collections.emptyList())),
-                                checker);
-                        List<HttpMatcher> perms = new ArrayList<>();
-                        tempMap.put(path, perms);
-                        perms.add(m);
-                        if (path.endsWith("/*")) {
-                            String stripped = path.substring(0, path.length() - 2);
-                            pathMatcher.addPrefixPath(stripped.isEmpty() ? "/" : stripped, perms);
-                        } else if (path.endsWith("*")) {
-                            pathMatcher.addPrefixPath(path.substring(0, path.length() - 1), perms);
-                        } else {
-                            pathMatcher.addExactPath(path, perms);
-                        }
-                    }
+                    HttpMatcher m = new HttpMatcher(entry.getValue().authMechanism.orElse(null),
+                            new HashSet<>(entry.getValue().methods.orElse(Collections.emptyList())),
+                            checker);
+                    tempMap.computeIfAbsent(path, k -> new ArrayList<>()).add(m);
                 }
             }
         }
+
+        // The permissions are compiled once so that matching a request does not need to filter the matchers
+        for (Map.Entry<String, List<HttpMatcher>> entry : tempMap.entrySet()) {
+            String path = entry.getKey();
+            PathPermissions perms = new PathPermissions(entry.getValue());
+            if (path.endsWith("/*")) {
+                String stripped = path.substring(0, path.length() - 2);
+                pathMatcher.addPrefixPath(stripped.isEmpty() ? "/" : stripped, perms);
+            } else if (path.endsWith("*")) {
+                pathMatcher.addPrefixPath(path.substring(0, path.length() - 1), perms);
+            } else {
+                pathMatcher.addExactPath(path, perms);
+            }
+        }
     }
 
     public List<HttpSecurityPolicy> findPermissionCheckers(HttpServerRequest request) {
-        PathMatcher.PathMatch<List<HttpMatcher>> toCheck = pathMatcher.match(request.path());
-        if (toCheck.getValue() == null || toCheck.getValue().isEmpty()) {
+        PathPermissions toCheck = pathMatcher.match(request.path()).getValue();
+        if (toCheck == null) {
             return Collections.emptyList();
         }
-        List<HttpSecurityPolicy> methodMatch = new ArrayList<>();
-        List<HttpSecurityPolicy> noMethod = new ArrayList<>();
-        for (HttpMatcher i : toCheck.getValue()) {
-            if (i.methods == null || i.methods.isEmpty()) {
-                noMethod.add(i.checker);
-            } else if (i.methods.contains(request.method().toString())) {
-                methodMatch.add(i.checker);
+        return toCheck.getCheckers(request.method().name());
+    }
+
+    /**
+     * The permissions of a path, resolved for each HTTP method.
+     */
+    static final class PathPermissions {
+
+        final String authMechanism;
+        /**
+         * The checkers of the methods that are explicitly listed by a permission.
+         */
+        final Map<String, List<HttpSecurityPolicy>> methodCheckers;
+        /**
+         * The checkers of the other methods; the request is denied if all the permissions of the path restrict the methods.
+         */
+        final List<HttpSecurityPolicy> defaultCheckers;
+
+        PathPermissions(List<HttpMatcher> matchers) {
+            String authMechanism = null;
+            List<HttpSecurityPolicy> noMethod = new ArrayList<>();
+            Map<String, List<HttpSecurityPolicy>> methodMatch = new HashMap<>();
+            for (HttpMatcher i : matchers) {
+                if (authMechanism == null) {
+                    authMechanism = i.authMechanism;
+                }
+                if (i.methods == null || i.methods.isEmpty()) {
+                    noMethod.add(i.checker);
+                } else {
+                    for (String method : i.methods) {
+                        methodMatch.computeIfAbsent(method, k -> new ArrayList<>()).add(i.checker);
+                    }
+                }
             }
-        }
-        if (!methodMatch.isEmpty()) {
-            return methodMatch;
-        } else if (!noMethod.isEmpty()) {
-            return noMethod;
-        } else {
-            //we deny if we did not match due to method filtering
-            return Collections.singletonList(DenySecurityPolicy.INSTANCE);
+            this.authMechanism = authMechanism;
+            Map<String, List<HttpSecurityPolicy>> methodCheckers = new HashMap<>();
+            for (Map.Entry<String, List<HttpSecurityPolicy>> e : methodMatch.entrySet()) {
+                methodCheckers.put(e.getKey(), List.copyOf(e.getValue()));
+            }
+            this.methodCheckers = Map.copyOf(methodCheckers);
+            this.defaultCheckers = noMethod.isEmpty() ? List.of(DenySecurityPolicy.INSTANCE) : List.copyOf(noMethod);
         }
 
+        List<HttpSecurityPolicy> getCheckers(String method) {
+            List<HttpSecurityPolicy> checkers = methodCheckers.get(method);
+            return checkers != null ? checkers : defaultCheckers;
+        }
     }
 
     static class HttpMatcher {
@@ -0,0 +1,90 @@
+package io.quarkus.vertx.http.runtime.security;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.vertx.http.runtime.AuthConfig;
+import io.quarkus.vertx.http.runtime.HttpBuildTimeConfig;
+import io.quarkus.vertx.http.runtime.PolicyMappingConfig;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+
+public class PathMatchingHttpSecurityPolicyTest {
+
+    private static final HttpSecurityPolicy PERMIT = new PermitSecurityPolicy();
+    private static final HttpSecurityPolicy AUTHENTICATED = new AuthenticatedHttpSecurityPolicy();
+
+    private PathMatchingHttpSecurityPolicy policy;
+
+    @BeforeEach
+    public void init() {
+        Map<String, PolicyMappingConfig> permissions = new HashMap<>();
+        permissions.put("public", permission("permit", List.of("/api/public", "/static/*"), null, null));
+        permissions.put("read", permission("permit", List.of("/api/*"), List.of("GET", "HEAD"), "basic"));
+        permissions.put("write", permission("authenticated", List.of("/api/*"), List.of("POST"), null));
+        permissions.put("admin", permission("authenticated", List.of("/admin/*"), List.of("DELETE"), null));
+
+        HttpBuildTimeConfig config = new HttpBuildTimeConfig();
+        config.auth = new AuthConfig();
+        config.auth.permissions = permissions;
+        Map<String, Supplier<HttpSecurityPolicy>> policies = new HashMap<>();
+        policies.put("permit", () -> PERMIT);
+        policies.put("authenticated", () -> AUTHENTICATED);
+
+        policy = new PathMatchingHttpSecurityPolicy();
+        policy.init(config, policies);
+    }
+
+    @Test
+    public void testExactAndPrefixPaths() {
+        Assertions.assertEquals(List.of(PERMIT), policy.findPermissionCheckers(request("/api/public", HttpMethod.PUT)));
+        Assertions.assertEquals(List.of(PERMIT), policy.findPermissionCheckers(request("/static/app.js", HttpMethod.GET)));
+        Assertions.assertTrue(policy.findPermissionCheckers(request("/other", HttpMethod.GET)).isEmpty());
+    }
+
+    @Test
+    public void testMethodMatch() {
+        Assertions.assertEquals(List.of(PERMIT), policy.findPermissionCheckers(request("/api/items", HttpMethod.GET)));
+        Assertions.assertEquals(List.of(PERMIT), policy.findPermissionCheckers(request("/api/items", HttpMethod.HEAD)));
+        Assertions.assertEquals(List.of(AUTHENTICATED),
+                policy.findPermissionCheckers(request("/api/items", HttpMethod.POST)));
+        Assertions.assertEquals(List.of(AUTHENTICATED),
+                policy.findPermissionCheckers(request("/admin/users", HttpMethod.DELETE)));
+    }
+
+    @Test
+    public void testUnmatchedMethodDenied() {
+        Assertions.assertEquals(List.of(DenySecurityPolicy.INSTANCE),
+                policy.findPermissionCheckers(request("/api/items", HttpMethod.PUT)));
+        Assertions.assertEquals(List.of(DenySecurityPolicy.INSTANCE),
+                policy.findPermissionCheckers(request("/admin/users", HttpMethod.GET)));
+    }
+
+    private static PolicyMappingConfig permission(String policy, List<String> paths, List<String> methods,
+            String authMechanism) {
+        PolicyMappingConfig config = new PolicyMappingConfig();
+        config.enabled = Optional.empty();
+        config.policy = policy;
+        config.paths = Optional.of(paths);
+        config.methods = Optional.ofNullable(methods);
+        config.authMechanism = Optional.ofNullable(authMechanism);
+        return config;
+    }
+
+    private static HttpServerRequest request(String path, HttpMethod method) {
+        HttpServerRequest request = mock(HttpServerRequest.class);
+        when(request.path()).thenReturn(path);
+        when(request.method()).thenReturn(method);
+        return request;
+    }
+}
@@ -88,15 +88,18 @@ public class BeanGenerator extends AbstractGenerator {
     protected final PrivateMembersCollector privateMembers;
     protected final Set<String> existingClasses;
     protected final Map<BeanInfo, String> beanToGeneratedName;
+    protected final Map<BeanInfo, Integer> requestContextIndexes;
     protected final Predicate<DotName> injectionPointAnnotationsPredicate;
     protected final List<Function<BeanInfo, Consumer<BytecodeCreator>>> suppressConditionGenerators;
 
     public BeanGenerator(AnnotationLiteralProcessor annotationLiterals, Predicate<DotName> applicationClassPredicate,
             PrivateMembersCollector privateMembers, boolean generateSources, ReflectionRegistration reflectionRegistration,
             Set<String> existingClasses, Map<BeanInfo, String> beanToGeneratedName,
+            Map<BeanInfo, Integer> requestContextIndexes,
             Predicate<DotName> injectionPointAnnotationsPredicate,
             List<Function<BeanInfo, Consumer<BytecodeCreator>>> suppressConditionGenerators) {
         super(generateSources, reflectionRegistration);
+        this.requestContextIndexes = requestContextIndexes;
         this.annotationLiterals = annotationLiterals;
         this.applicationClassPredicate = applicationClassPredicate;
         this.privateMembers = privateMembers;
@@ -218,6 +221,7 @@ public class BeanGenerator extends AbstractGenerator {
         constructor.returnValue(null);
 
         implementGetIdentifier(bean, beanCreator);
+        implementGetRequestContextIndex(bean, beanCreator);
         implementSupplierGet(beanCreator);
         if (!bean.hasDefaultDestroy()) {
             implementDestroy(bean, beanCreator, providerType, Collections.emptyMap(), isApplicationClass, baseName);
@@ -306,6 +310,7 @@ public class BeanGenerator extends AbstractGenerator {
                 annotationLiterals, reflectionRegistration);
 
         implementGetIdentifier(bean, beanCreator);
+        implementGetRequestContextIndex(bean, beanCreator);
         implementSupplierGet(beanCreator);
         if (!bean.hasDefaultDestroy()) {
             implementDestroy(bean, beanCreator, providerType, injectionPointToProviderSupplierField, isApplicationClass,
@@ -409,6 +414,7 @@ public class BeanGenerator extends AbstractGenerator {
                 annotationLiterals, reflectionRegistration);
 
         implementGetIdentifier(bean, beanCreator);
+        implementGetRequestContextIndex(bean, beanCreator);
         implementSupplierGet(beanCreator);
         if (!bean.hasDefaultDestroy()) {
             implementDestroy(bean, beanCreator, providerType, injectionPointToProviderField, isApplicationClass, baseName);
@@ -497,6 +503,7 @@ public class BeanGenerator extends AbstractGenerator {
                 annotationLiterals, reflectionRegistration);
 
         implementGetIdentifier(bean, beanCreator);
+        implementGetRequestContextIndex(bean, beanCreator);
         implementSupplierGet(beanCreator);
         if (!bean.hasDefaultDestroy()) {
             implementDestroy(bean, beanCreator, providerType, null, isApplicationClass, baseName);
@@ -1668,6 +1675,22 @@ public class BeanGenerator extends AbstractGenerator {
         getScope.returnValue(getScope.load(bean.getIdentifier()));
     }
 
+    /**
+     *
+     * @param bean
+     * @param beanCreator
+     * @see InjectableBean#getRequestContextIndex()
+     */
+    protected void implementGetRequestContextIndex(BeanInfo bean, ClassCreator beanCreator) {
+        Integer index = requestContextIndexes.get(bean);
+        if (index == null) {
+            return;
+        }
+        MethodCreator getRequestContextIndex = beanCreator.getMethodCreator("getRequestContextIndex", int.class)
+                .setModifiers(ACC_PUBLIC);
+        getRequestContextIndex.returnValue(getRequestContextIndex.load(index.intValue()));
+    }
+
     protected void implementEquals(BeanInfo bean, ClassCreator beanCreator) {
         MethodCreator equals = beanCreator.getMethodCreator("equals", boolean.class, Object.class).setModifiers(ACC_PUBLIC);
         final ResultHandle obj = equals.getMethodParam(0);
@@ -157,8 +157,16 @@ public class BeanProcessor {
         Map<BeanInfo, String> beanToGeneratedName = new HashMap<>();
         Map<ObserverInfo, String> observerToGeneratedName = new HashMap<>();
 
+        // Assign a dense index to each request scoped bean so that the request context can store the instances in an array
+        Map<BeanInfo, Integer> requestContextIndexes = new HashMap<>();
+        for (BeanInfo bean : beanDeployment.getBeans()) {
+            if (BuiltinScope.REQUEST.is(bean.getScope())) {
+                requestContextIndexes.put(bean, requestContextIndexes.size());
+            }
+        }
+
         BeanGenerator beanGenerator = new BeanGenerator(annotationLiterals, applicationClassPredicate, privateMembers,
-                generateSources, reflectionRegistration, existingClasses, beanToGeneratedName,
+                generateSources, reflectionRegistration, existingClasses, beanToGeneratedName, requestContextIndexes,
                 injectionPointAnnotationsPredicate, suppressConditionGenerators);
         ClientProxyGenerator clientProxyGenerator = new ClientProxyGenerator(applicationClassPredicate, generateSources,
                 allowMocking, reflectionRegistration, existingClasses);
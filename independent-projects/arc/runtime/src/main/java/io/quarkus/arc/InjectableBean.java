@@ -124,6 +124,16 @@ public interface InjectableBean<T> extends Bean<T>, InjectableReferenceProvider<
         return false;
     }
 
+    /**
+     * A dense index is assigned to each {@link javax.enterprise.context.RequestScoped} bean at build time. The request
+     * context uses the index to store the contextual instance of the bean in an array.
+     *
+     * @return the index of the bean in the request context, or {@code -1} if no index is assigned
+     */
+    default int getRequestContextIndex() {
+        return -1;
+    }
+
     enum Kind {
 
         CLASS,
@@ -106,13 +106,7 @@ public class ArcContainerImpl implements ArcContainer {
         transitiveInterceptorBindings = new HashMap<>();
         qualifierNonbindingMembers = new HashMap<>();
 
-        applicationContext = new ApplicationContext();
-        singletonContext = new SingletonContext();
-        requestContext = new RequestContext();
-        contexts = new HashMap<>();
-        putContext(requestContext);
-        putContext(applicationContext);
-        putContext(singletonContext);
+        List<InjectableContext> customContexts = new ArrayList<>();
 
         for (ComponentsProvider componentsProvider : ServiceLoader.load(ComponentsProvider.class)) {
             Components components = componentsProvider.getComponents();
@@ -138,7 +132,7 @@ public class ArcContainerImpl implements ArcContainer {
                     throw new IllegalStateException(
                             "Failed to register a context - built-in singleton context is always active: " + context);
                 }
-                putContext(context);
+                customContexts.add(context);
             }
             transitiveInterceptorBindings.putAll(components.getTransitiveInterceptorBindings());
             qualifierNonbindingMembers.putAll(components.getQualifierNonbindingMembers());
@@ -147,6 +141,17 @@ public class ArcContainerImpl implements ArcContainer {
         addBuiltInBeans(beans);
         beans.trimToSize();
 
+        applicationContext = new ApplicationContext();
+        singletonContext = new SingletonContext();
+        requestContext = new RequestContext(getRequestContextSize(beans));
+        contexts = new HashMap<>();
+        putContext(requestContext);
+        putContext(applicationContext);
+        putContext(singletonContext);
+        for (InjectableContext context : customContexts) {
+            putContext(context);
+        }
+
         interceptors.sort((i1, i2) -> Integer.compare(i2.getPriority(), i1.getPriority()));
 
         resolved = new ComputingCache<>(this::resolve);
@@ -161,6 +166,30 @@ public class ArcContainerImpl implements ArcContainer {
         instance = InstanceImpl.of(Object.class, Collections.emptySet());
     }
 
+    /**
+     *
+     * @param beans
+     * @return the size of the array used to store the request scoped instances, or zero if the indexes are not usable
+     */
+    private static int getRequestContextSize(List<InjectableBean<?>> beans) {
+        Set<Integer> indexes = new HashSet<>();
+        int size = 0;
+        for (InjectableBean<?> bean : beans) {
+            int index = bean.getRequestContextIndex();
+            if (index < 0) {
+                continue;
+            }
+            if (!indexes.add(index)) {
+                // Multiple deployments assigned the same index
+                LOGGER.debugf("Duplicate request context index %s found, the request scoped instances are not indexed",
+                        index);
+                return 0;
+            }
+            size = Math.max(size, index + 1);
+        }
+        return size;
+    }
+
     private void putContext(InjectableContext context) {
         Collection<InjectableContext> values = contexts.get(context.getScope());
         if (values == null) {
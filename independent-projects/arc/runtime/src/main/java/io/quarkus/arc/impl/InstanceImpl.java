@@ -57,7 +57,18 @@ public class InstanceImpl<T> implements InjectableInstance<T> {
 
     InstanceImpl(InjectableBean<?> targetBean, Type type, Set<Annotation> qualifiers,
             CreationalContextImpl<?> creationalContext, Set<Annotation> annotations, Member javaMember, int position) {
-        this(targetBean, type, getRequiredType(type), qualifiers, creationalContext, annotations, javaMember, position);
+        this(targetBean, type, qualifiers, creationalContext, annotations, javaMember, position, null);
+    }
+
+    /**
+     *
+     * @param preResolvedBeans the beans resolved for the injection point, may be {@code null}
+     */
+    InstanceImpl(InjectableBean<?> targetBean, Type type, Set<Annotation> qualifiers,
+            CreationalContextImpl<?> creationalContext, Set<Annotation> annotations, Member javaMember, int position,
+            LazyValue<Set<InjectableBean<?>>> preResolvedBeans) {
+        this(targetBean, type, getRequiredType(type), qualifiers, creationalContext, annotations, javaMember, position,
+                preResolvedBeans);
     }
 
     private InstanceImpl(InstanceImpl<?> parent, Type requiredType, Set<Annotation> requiredQualifiers) {
@@ -67,6 +78,13 @@ public class InstanceImpl<T> implements InjectableInstance<T> {
 
     InstanceImpl(InjectableBean<?> targetBean, Type injectionPointType, Type requiredType, Set<Annotation> requiredQualifiers,
             CreationalContextImpl<?> creationalContext, Set<Annotation> annotations, Member javaMember, int position) {
+        this(targetBean, injectionPointType, requiredType, requiredQualifiers, creationalContext, annotations, javaMember,
+                position, null);
+    }
+
+    private InstanceImpl(InjectableBean<?> targetBean, Type injectionPointType, Type requiredType,
+            Set<Annotation> requiredQualifiers, CreationalContextImpl<?> creationalContext, Set<Annotation> annotations,
+            Member javaMember, int position, LazyValue<Set<InjectableBean<?>>> preResolvedBeans) {
         this.injectionPointType = injectionPointType;
         this.requiredType = requiredType;
         this.requiredQualifiers = requiredQualifiers != null ? requiredQualifiers : Collections.emptySet();
@@ -74,6 +92,9 @@ public class InstanceImpl<T> implements InjectableInstance<T> {
         if (this.requiredQualifiers.isEmpty() && Object.class.equals(requiredType)) {
             // Do not prefetch the beans for Instance<Object> with no qualifiers
             this.resolvedBeans = null;
+        } else if (preResolvedBeans != null) {
+            // Skip the typesafe resolution, only the suppression of beans needs to be checked again
+            this.resolvedBeans = Instances.filterSuppressed(preResolvedBeans.get());
         } else {
             this.resolvedBeans = resolve();
         }
@@ -281,7 +302,7 @@ public class InstanceImpl<T> implements InjectableInstance<T> {
 
     }
 
-    private static Type getRequiredType(Type type) {
+    static Type getRequiredType(Type type) {
         if (type instanceof ParameterizedType) {
             ParameterizedType parameterizedType = (ParameterizedType) type;
             if (Provider.class.isAssignableFrom(Types.getRawType(parameterizedType.getRawType()))) {
@@ -21,6 +21,7 @@ public class InstanceProvider<T> implements InjectableReferenceProvider<Instance
     private final Set<Annotation> annotations;
     private final Member javaMember;
     private final int position;
+    private final LazyValue<Set<InjectableBean<?>>> resolvedBeans;
 
     public InstanceProvider(Type type, Set<Annotation> qualifiers, InjectableBean<?> targetBean, Set<Annotation> annotations,
             Member javaMember, int position) {
@@ -30,6 +31,8 @@ public class InstanceProvider<T> implements InjectableReferenceProvider<Instance
         this.annotations = annotations;
         this.javaMember = javaMember;
         this.position = position;
+        // The injection point is resolved once and the result is reused for every injected instance
+        this.resolvedBeans = new LazyValue<>(this::resolve);
     }
 
     @SuppressWarnings({ "unchecked", "rawtypes" })
@@ -37,10 +40,15 @@ public class InstanceProvider<T> implements InjectableReferenceProvider<Instance
     public Instance<T> get(CreationalContext<Instance<T>> creationalContext) {
         InstanceImpl<T> instance = new InstanceImpl<T>(targetBean, requiredType, qualifiers,
                 CreationalContextImpl.unwrap(creationalContext),
-                annotations, javaMember, position);
+                annotations, javaMember, position, resolvedBeans);
         CreationalContextImpl.addDependencyToParent(InstanceBean.INSTANCE, instance,
                 (CreationalContext) creationalContext);
         return instance;
     }
 
+    private Set<InjectableBean<?>> resolve() {
+        return ArcContainerImpl.instance().getResolvedBeans(InstanceImpl.getRequiredType(requiredType),
+                qualifiers != null ? qualifiers.toArray(Instances.EMPTY_ANNOTATION_ARRAY) : null);
+    }
+
 }
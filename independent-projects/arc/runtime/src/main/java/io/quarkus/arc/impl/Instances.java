@@ -28,11 +28,24 @@ public final class Instances {
     }
 
     public static Set<InjectableBean<?>> resolveBeans(Type requiredType, Annotation... requiredQualifiers) {
-        return ArcContainerImpl.instance()
-                .getResolvedBeans(requiredType, requiredQualifiers)
-                .stream()
-                .filter(Predicate.not(InjectableBean::isSuppressed))
-                .collect(Collectors.toUnmodifiableSet());
+        return filterSuppressed(ArcContainerImpl.instance().getResolvedBeans(requiredType, requiredQualifiers));
+    }
+
+    /**
+     *
+     * @param resolvedBeans the immutable set of resolved beans
+     * @return the resolved beans that are not suppressed
+     */
+    static Set<InjectableBean<?>> filterSuppressed(Set<InjectableBean<?>> resolvedBeans) {
+        // The suppression may depend on runtime conditions but the beans are rarely suppressed, avoid the copy if possible
+        for (InjectableBean<?> bean : resolvedBeans) {
+            if (bean.isSuppressed()) {
+                return resolvedBeans.stream()
+                        .filter(Predicate.not(InjectableBean::isSuppressed))
+                        .collect(Collectors.toUnmodifiableSet());
+            }
+        }
+        return resolvedBeans;
     }
 
     @SuppressWarnings("unchecked")
@@ -8,6 +8,7 @@ import static org.junit.jupiter.api.Assertions.fail;
 
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.InjectableBean;
 import io.quarkus.arc.ManagedContext;
 import io.quarkus.arc.test.ArcTestContainer;
 import javax.enterprise.context.ContextNotActiveException;
@@ -68,6 +69,28 @@ public class RequestContextTest {
         assertTrue(Controller.DESTROYED.get());
     }
 
+    @Test
+    public void testRequestContextIndex() {
+        ArcContainer arc = Arc.container();
+        InjectableBean<Controller> controllerBean = arc.instance(Controller.class).getBean();
+        assertTrue(controllerBean.getRequestContextIndex() >= 0);
+        assertEquals(-1, arc.instance(ControllerClient.class).getBean().getRequestContextIndex());
+
+        ManagedContext requestContext = arc.requestContext();
+        requestContext.activate();
+        try {
+            String id = arc.instance(Controller.class).get().getId();
+            assertEquals(1, requestContext.getState().getContextualInstances().size());
+            Controller.DESTROYED.set(false);
+            requestContext.destroy(controllerBean);
+            assertTrue(Controller.DESTROYED.get());
+            assertTrue(requestContext.getState().getContextualInstances().isEmpty());
+            assertNotEquals(id, arc.instance(Controller.class).get().getId());
+        } finally {
+            requestContext.terminate();
+        }
+    }
+
     @Test
     public void testRequestContextController() {
         Controller.DESTROYED.set(false);
@@ -0,0 +1,183 @@
+package io.quarkus.arc.test.instance.injectionpoint;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.InstanceHandle;
+import io.quarkus.arc.test.ArcTestContainer;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.enterprise.context.Dependent;
+import javax.enterprise.inject.Any;
+import javax.enterprise.inject.Default;
+import javax.enterprise.inject.Instance;
+import javax.enterprise.util.AnnotationLiteral;
+import javax.inject.Inject;
+import javax.inject.Qualifier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+/**
+ * The beans of an {@link Instance} injection point are resolved once and reused by every injected instance.
+ */
+public class InstanceInjectionPointTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Client.class, Alpha.class, Bravo.class, Blue.class);
+
+    @BeforeEach
+    public void reset() {
+        Alpha.CREATED.set(0);
+        Alpha.DESTROYED.set(0);
+        Bravo.CREATED.set(0);
+        Bravo.DESTROYED.set(0);
+    }
+
+    @Test
+    public void testRepeatedGet() {
+        Client client1 = Arc.container().instance(Client.class).get();
+        Client client2 = Arc.container().instance(Client.class).get();
+        assertNotSame(client1.alphas, client2.alphas);
+
+        for (Client client : new Client[] { client1, client2 }) {
+            for (int i = 0; i < 3; i++) {
+                assertEquals("alpha", client.alphas.get().ping());
+                assertEquals("bravo", client.blueServices.get().ping());
+            }
+            assertTrue(client.services.isAmbiguous());
+        }
+        // Every get() of a @Dependent bean creates a new instance
+        assertEquals(6, Alpha.CREATED.get());
+        assertEquals(6, Bravo.CREATED.get());
+    }
+
+    @Test
+    public void testSelect() {
+        Client client = Arc.container().instance(Client.class).get();
+
+        assertEquals("alpha", client.services.select(Default.Literal.INSTANCE).get().ping());
+        assertEquals("bravo", client.services.select(Blue.Literal.INSTANCE).get().ping());
+        assertEquals("bravo", client.services.select(Bravo.class).get().ping());
+        assertTrue(client.blueServices.select(Default.Literal.INSTANCE).isUnsatisfied());
+        assertEquals("alpha,bravo", client.services.stream().map(Service::ping).sorted()
+                .collect(Collectors.joining(",")));
+        // The injection point is not affected by the selections
+        assertTrue(client.services.isAmbiguous());
+        assertFalse(client.blueServices.isAmbiguous());
+    }
+
+    @Test
+    public void testDependentDestruction() {
+        InstanceHandle<Client> handle = Arc.container().instance(Client.class);
+        Client client = handle.get();
+
+        Alpha alpha = client.alphas.get();
+        client.alphas.destroy(alpha);
+        assertEquals(1, Alpha.DESTROYED.get());
+
+        client.alphas.get();
+        client.services.select(Blue.Literal.INSTANCE).get();
+        assertEquals(1, Alpha.DESTROYED.get());
+        assertEquals(0, Bravo.DESTROYED.get());
+        // The dependent instances obtained from the injected instances are destroyed with the client
+        handle.destroy();
+        assertEquals(2, Alpha.DESTROYED.get());
+        assertEquals(1, Bravo.DESTROYED.get());
+    }
+
+    @Qualifier
+    @Target({ TYPE, METHOD, FIELD, PARAMETER })
+    @Retention(RUNTIME)
+    public @interface Blue {
+
+        final class Literal extends AnnotationLiteral<Blue> implements Blue {
+
+            public static final Literal INSTANCE = new Literal();
+
+        }
+
+    }
+
+    interface Service {
+
+        String ping();
+
+    }
+
+    @Dependent
+    static class Client {
+
+        @Inject
+        Instance<Alpha> alphas;
+
+        @Any
+        @Inject
+        Instance<Service> services;
+
+        @Blue
+        @Inject
+        Instance<Service> blueServices;
+
+    }
+
+    @Dependent
+    static class Alpha implements Service {
+
+        static final AtomicInteger CREATED = new AtomicInteger();
+        static final AtomicInteger DESTROYED = new AtomicInteger();
+
+        @PostConstruct
+        void create() {
+            CREATED.incrementAndGet();
+        }
+
+        @PreDestroy
+        void destroy() {
+            DESTROYED.incrementAndGet();
+        }
+
+        @Override
+        public String ping() {
+            return "alpha";
+        }
+
+    }
+
+    @Blue
+    @Dependent
+    static class Bravo implements Service {
+
+        static final AtomicInteger CREATED = new AtomicInteger();
+        static final AtomicInteger DESTROYED = new AtomicInteger();
+
+        @PostConstruct
+        void create() {
+            CREATED.incrementAndGet();
+        }
+
+        @PreDestroy
+        void destroy() {
+            DESTROYED.incrementAndGet();
+        }
+
+        @Override
+        public String ping() {
+            return "bravo";
+        }
+
+    }
+
+}
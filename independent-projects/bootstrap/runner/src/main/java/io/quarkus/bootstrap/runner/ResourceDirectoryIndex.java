@@ -0,0 +1,75 @@
+package io.quarkus.bootstrap.runner;
+
+import java.util.Arrays;
+
+/**
+ * The resources containing each directory of the application, root dir/default package being represented by the empty
+ * string.
+ *
+ * The directory names are written sorted in the index during the build, so they are read into a packed array and looked
+ * up with a binary search: no hash map node is retained per directory, and the package of a class can be looked up
+ * without converting its name into a directory name.
+ */
+final class ResourceDirectoryIndex {
+
+    private final String[] directories;
+    private final ClassLoadingResource[][] directoryResources;
+
+    /**
+     * @param directories the directory names, sorted in their natural order
+     * @param directoryResources the resources containing the directory at the same index
+     */
+    ResourceDirectoryIndex(String[] directories, ClassLoadingResource[][] directoryResources) {
+        this.directories = directories;
+        this.directoryResources = directoryResources;
+    }
+
+    /**
+     * @return the resources containing the given directory, or {@code null} if there are none
+     */
+    ClassLoadingResource[] get(String directory) {
+        int index = Arrays.binarySearch(directories, directory);
+        return index >= 0 ? directoryResources[index] : null;
+    }
+
+    /**
+     * @param className the name of a class which is not in the default package
+     * @param packageLength the length of the package name of the class
+     * @return the resources containing the directory of the package of the class, or {@code null} if there are none
+     */
+    ClassLoadingResource[] getPackage(String className, int packageLength) {
+        int low = 0;
+        int high = directories.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int comparison = comparePackage(directories[mid], className, packageLength);
+            if (comparison < 0) {
+                low = mid + 1;
+            } else if (comparison > 0) {
+                high = mid - 1;
+            } else {
+                return directoryResources[mid];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Compares a directory name with the directory name of a package the same way {@link String#compareTo(String)} does,
+     * the dots of the package name being compared as slashes.
+     */
+    static int comparePackage(String directory, String className, int packageLength) {
+        int length = Math.min(directory.length(), packageLength);
+        for (int i = 0; i < length; i++) {
+            char c = className.charAt(i);
+            if (c == '.') {
+                c = '/';
+            }
+            int difference = directory.charAt(i) - c;
+            if (difference != 0) {
+                return difference;
+            }
+        }
+        return directory.length() - packageLength;
+    }
+}
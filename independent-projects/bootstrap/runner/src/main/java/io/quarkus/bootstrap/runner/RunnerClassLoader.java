@@ -24,9 +24,10 @@ import java.util.Set;
 public final class RunnerClassLoader extends ClassLoader {
 
     /**
-     * A map of resources by dir name. Root dir/default package is represented by the empty string
+     * The resources by dir name. Root dir/default package is represented by the empty string
      */
-    private final Map<String, ClassLoadingResource[]> resourceDirectoryMap;
+    private final ResourceDirectoryIndex resourceDirectoryIndex;
+    private final ClassLoadingResource[] allResources;
 
     private final Set<String> parentFirstPackages;
     private final Set<String> nonExistentResources;
@@ -41,11 +42,12 @@ public final class RunnerClassLoader extends ClassLoader {
     //Protected by synchronization on the above field, as they are related.
     private boolean postBootPhase = false;
 
-    RunnerClassLoader(ClassLoader parent, Map<String, ClassLoadingResource[]> resourceDirectoryMap,
+    RunnerClassLoader(ClassLoader parent, ResourceDirectoryIndex resourceDirectoryIndex, ClassLoadingResource[] allResources,
             Set<String> parentFirstPackages, Set<String> nonExistentResources,
             List<String> fullyIndexedDirectories, Map<String, ClassLoadingResource[]> directlyIndexedResourcesIndexMap) {
         super(parent);
-        this.resourceDirectoryMap = resourceDirectoryMap;
+        this.resourceDirectoryIndex = resourceDirectoryIndex;
+        this.allResources = allResources;
         this.parentFirstPackages = parentFirstPackages;
         this.nonExistentResources = nonExistentResources;
         this.fullyIndexedDirectories = fullyIndexedDirectories;
@@ -79,10 +81,10 @@ public final class RunnerClassLoader extends ClassLoader {
         }
         final ClassLoadingResource[] resources;
         if (packageName == null) {
-            resources = resourceDirectoryMap.get("");
+            resources = resourceDirectoryIndex.get("");
         } else {
-            String dirName = packageName.replace('.', '/');
-            resources = resourceDirectoryMap.get(dirName);
+            // the dir name is not created, the package name is compared with the dir names directly
+            resources = resourceDirectoryIndex.getPackage(name, packageName.length());
         }
         if (resources != null) {
             String classResource = name.replace('.', '/') + ".class";
@@ -180,10 +182,10 @@ public final class RunnerClassLoader extends ClassLoader {
             // Had that resource existed however, it would have been present in directlyIndexedResourcesIndexMap
             return null;
         }
-        resources = resourceDirectoryMap.get(dirName);
+        resources = resourceDirectoryIndex.get(dirName);
         if (resources == null) {
             // the resource could itself be a directory
-            resources = resourceDirectoryMap.get(name);
+            resources = resourceDirectoryIndex.get(name);
         }
         return resources;
     }
@@ -270,19 +272,15 @@ public final class RunnerClassLoader extends ClassLoader {
     }
 
     public void close() {
-        for (Map.Entry<String, ClassLoadingResource[]> entry : resourceDirectoryMap.entrySet()) {
-            for (ClassLoadingResource i : entry.getValue()) {
-                i.close();
-            }
+        for (ClassLoadingResource i : allResources) {
+            i.close();
         }
     }
 
     public void resetInternalCaches() {
         synchronized (this.currentlyBufferedResources) {
-            for (Map.Entry<String, ClassLoadingResource[]> entry : resourceDirectoryMap.entrySet()) {
-                for (ClassLoadingResource i : entry.getValue()) {
-                    i.resetInternalCaches();
-                }
+            for (ClassLoadingResource i : allResources) {
+                i.resetInternalCaches();
             }
             this.postBootPhase = true;
         }
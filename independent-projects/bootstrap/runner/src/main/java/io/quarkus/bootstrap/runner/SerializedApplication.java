@@ -15,10 +15,10 @@ import java.util.Collection;
 import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.jar.Attributes;
 import java.util.jar.JarFile;
 import java.util.jar.Manifest;
@@ -37,10 +37,7 @@ public class SerializedApplication {
     private static final List<String> FULLY_INDEXED_PATHS = List.of("", "META-INF/services");
 
     private static final int MAGIC = 0XF0315432;
-    private static final int VERSION = 2;
-
-    private static final ClassLoadingResource[] EMPTY_ARRAY = new ClassLoadingResource[0];
-    private static final JarResource SENTINEL = new JarResource(null, Path.of("wqxehxivam"));
+    private static final int VERSION = 3;
 
     private final RunnerClassLoader runnerClassLoader;
     private final String mainClass;
@@ -67,14 +64,28 @@ public class SerializedApplication {
             data.writeUTF(mainClass);
             data.writeShort(classPath.size());
             Map<String, List<Integer>> directlyIndexedResourcesToCPJarIndex = new HashMap<>();
+            // sorted so that the directories can be read into a packed array and looked up with a binary search
+            Map<String, List<Integer>> directoriesToCPJarIndex = new TreeMap<>();
             for (int i = 0; i < classPath.size(); i++) {
                 Path jar = classPath.get(i);
                 String relativePath = applicationRoot.relativize(jar).toString().replace('\\', '/');
                 data.writeUTF(relativePath);
-                Collection<String> resources = writeJar(data, jar);
+                Set<String> dirs = new HashSet<>();
+                Collection<String> resources = writeJar(data, jar, dirs);
                 for (String resource : resources) {
                     directlyIndexedResourcesToCPJarIndex.computeIfAbsent(resource, s -> new ArrayList<>()).add(i);
                 }
+                for (String dir : dirs) {
+                    directoriesToCPJarIndex.computeIfAbsent(dir, s -> new ArrayList<>(1)).add(i);
+                }
+            }
+            data.writeInt(directoriesToCPJarIndex.size());
+            for (Map.Entry<String, List<Integer>> entry : directoriesToCPJarIndex.entrySet()) {
+                data.writeUTF(entry.getKey());
+                data.writeShort(entry.getValue().size());
+                for (Integer index : entry.getValue()) {
+                    data.writeShort(index);
+                }
             }
             Set<String> parentFirstPackages = new HashSet<>();
 
@@ -110,10 +121,10 @@ public class SerializedApplication {
                 throw new RuntimeException("Wrong class path version");
             }
             String mainClass = in.readUTF();
-            ResourceDirectoryTracker resourceDirectoryTracker = new ResourceDirectoryTracker();
-            Set<String> parentFirstPackages = new HashSet<>();
             int numPaths = in.readUnsignedShort();
             ClassLoadingResource[] allClassLoadingResources = new ClassLoadingResource[numPaths];
+            // most directories and directly indexed resources are only found in a single jar, they share the same array
+            ClassLoadingResource[][] singleResourceArrays = new ClassLoadingResource[numPaths][];
             for (int pathCount = 0; pathCount < numPaths; pathCount++) {
                 String path = in.readUTF();
                 boolean hasManifest = in.readBoolean();
@@ -124,42 +135,38 @@ public class SerializedApplication {
                 }
                 JarResource resource = new JarResource(info, appRoot.resolve(path));
                 allClassLoadingResources[pathCount] = resource;
-                int numDirs = in.readUnsignedShort();
-                for (int i = 0; i < numDirs; ++i) {
-                    String dir = in.readUTF();
-                    int j = dir.indexOf('/');
-                    while (j >= 0) {
-                        resourceDirectoryTracker.addResourceDir(dir.substring(0, j), resource);
-                        j = dir.indexOf('/', j + 1);
-                    }
-                    resourceDirectoryTracker.addResourceDir(dir, resource);
-                }
+                singleResourceArrays[pathCount] = new ClassLoadingResource[] { resource };
+            }
+            int numDirs = in.readInt();
+            String[] directories = new String[numDirs];
+            ClassLoadingResource[][] directoryResources = new ClassLoadingResource[numDirs][];
+            for (int i = 0; i < numDirs; i++) {
+                directories[i] = in.readUTF();
+                directoryResources[i] = readResources(in, allClassLoadingResources, singleResourceArrays);
             }
             int packages = in.readUnsignedShort();
+            Set<String> parentFirstPackages = new HashSet<>(mapCapacity(packages));
             for (int i = 0; i < packages; ++i) {
                 parentFirstPackages.add(in.readUTF());
             }
-            Set<String> nonExistentResources = new HashSet<>();
             int nonExistentResourcesSize = in.readUnsignedShort();
+            Set<String> nonExistentResources = new HashSet<>(mapCapacity(nonExistentResourcesSize));
             for (int i = 0; i < nonExistentResourcesSize; i++) {
                 nonExistentResources.add(in.readUTF());
             }
             // this map is populated correctly because the JarResource entries are added to allClassLoadingResources
             // in the same order as the classpath was written during the writing of the index
-            Map<String, ClassLoadingResource[]> directlyIndexedResourcesIndexMap = new HashMap<>();
             int directlyIndexedSize = in.readUnsignedShort();
+            Map<String, ClassLoadingResource[]> directlyIndexedResourcesIndexMap = new HashMap<>(
+                    mapCapacity(directlyIndexedSize));
             for (int i = 0; i < directlyIndexedSize; i++) {
                 String resource = in.readUTF();
-                int indexesSize = in.readUnsignedShort();
-                ClassLoadingResource[] matchingResources = new ClassLoadingResource[indexesSize];
-                for (int j = 0; j < indexesSize; j++) {
-                    matchingResources[j] = allClassLoadingResources[in.readUnsignedShort()];
-                }
-                directlyIndexedResourcesIndexMap.put(resource, matchingResources);
+                directlyIndexedResourcesIndexMap.put(resource,
+                        readResources(in, allClassLoadingResources, singleResourceArrays));
             }
             RunnerClassLoader runnerClassLoader = new RunnerClassLoader(ClassLoader.getSystemClassLoader(),
-                    resourceDirectoryTracker.getResult(), parentFirstPackages,
-                    nonExistentResources, FULLY_INDEXED_PATHS, directlyIndexedResourcesIndexMap);
+                    new ResourceDirectoryIndex(directories, directoryResources), allClassLoadingResources,
+                    parentFirstPackages, nonExistentResources, FULLY_INDEXED_PATHS, directlyIndexedResourcesIndexMap);
             for (ClassLoadingResource classLoadingResource : allClassLoadingResources) {
                 classLoadingResource.init(runnerClassLoader);
             }
@@ -167,6 +174,26 @@ public class SerializedApplication {
         }
     }
 
+    private static ClassLoadingResource[] readResources(DataInputStream in, ClassLoadingResource[] allClassLoadingResources,
+            ClassLoadingResource[][] singleResourceArrays) throws IOException {
+        int indexesSize = in.readUnsignedShort();
+        if (indexesSize == 1) {
+            return singleResourceArrays[in.readUnsignedShort()];
+        }
+        ClassLoadingResource[] matchingResources = new ClassLoadingResource[indexesSize];
+        for (int j = 0; j < indexesSize; j++) {
+            matchingResources[j] = allClassLoadingResources[in.readUnsignedShort()];
+        }
+        return matchingResources;
+    }
+
+    /**
+     * @return the initial capacity a hash based collection needs in order to hold {@code size} elements without rehashing
+     */
+    private static int mapCapacity(int size) {
+        return (int) (size / 0.75f) + 1;
+    }
+
     private static String readNullableString(DataInputStream in) throws IOException {
         if (in.readBoolean()) {
             return in.readUTF();
@@ -175,10 +202,11 @@ public class SerializedApplication {
     }
 
     /**
+     * @param dirs the set the directories of the jar and their parent directories are added to
      * @return a List of all resources that exist in the paths that we desire to have fully indexed
      *         (configured via {@code FULLY_INDEXED_PATHS})
      */
-    private static List<String> writeJar(DataOutputStream out, Path jar) throws IOException {
+    private static List<String> writeJar(DataOutputStream out, Path jar, Set<String> dirs) throws IOException {
         try (JarFile zip = new JarFile(jar.toFile())) {
             Manifest manifest = zip.getManifest();
             if (manifest == null) {
@@ -199,7 +227,6 @@ public class SerializedApplication {
                 }
             }
 
-            Set<String> dirs = new HashSet<>();
             Map<String, List<String>> fullyIndexedPaths = new HashMap<>();
             Enumeration<? extends ZipEntry> entries = zip.entries();
             boolean hasDefaultPackage = false;
@@ -216,7 +243,7 @@ public class SerializedApplication {
                     //so we look at the file paths instead
                     //looking at you h2
                     final int index = entry.getName().lastIndexOf('/');
-                    dirs.add(entry.getName().substring(0, index));
+                    addDirAndParents(dirs, entry.getName().substring(0, index));
 
                     if (entry.getName().startsWith(META_INF_VERSIONS)) {
                         //multi release jar
@@ -227,7 +254,7 @@ public class SerializedApplication {
                         if (slash != -1) {
                             final int subIndex = part.lastIndexOf('/');
                             if (subIndex != slash) {
-                                dirs.add(part.substring(slash + 1, subIndex));
+                                addDirAndParents(dirs, part.substring(slash + 1, subIndex));
                             }
                         }
                     }
@@ -247,10 +274,6 @@ public class SerializedApplication {
             if (hasDefaultPackage) {
                 dirs.add("");
             }
-            out.writeShort(dirs.size());
-            for (String i : dirs) {
-                out.writeUTF(i);
-            }
             List<String> result = new ArrayList<>();
             for (List<String> values : fullyIndexedPaths.values()) {
                 result.addAll(values);
@@ -259,6 +282,16 @@ public class SerializedApplication {
         }
     }
 
+    private static void addDirAndParents(Set<String> dirs, String dir) {
+        // the parent directories are indexed too so that they can be found as resources
+        if (dirs.add(dir)) {
+            int index = dir.lastIndexOf('/');
+            while (index > 0 && dirs.add(dir.substring(0, index))) {
+                index = dir.lastIndexOf('/', index - 1);
+            }
+        }
+    }
+
     private static List<String> newFullyIndexedPathsValue(String ignored) {
         return new ArrayList<>(10);
     }
@@ -317,57 +350,4 @@ public class SerializedApplication {
         }
     }
 
-    /**
-     * This class is to build up the final directory to Resource map
-     * The idea here is that directories will only be contained by a single resource, so we optimistically
-     * create a single item array when we encounter a directory for the first time.
-     * However, when a resource is added for the same directory, we switch to using a Set to track the resources
-     * of that directory and then at the end use those sets to override to create the final array of resources.
-     * The reason for doing it this way to only create Sets when needed (which is only a fraction of the cases)
-     */
-    private static class ResourceDirectoryTracker {
-        private final Map<String, ClassLoadingResource[]> result = new HashMap<>();
-        private final Map<String, Set<ClassLoadingResource>> overrides = new HashMap<>();
-
-        void addResourceDir(String dir, JarResource resource) {
-            ClassLoadingResource[] existing = result.get(dir);
-            if (existing == null) {
-                // this is the first the dir was ever tracked
-                result.put(dir, new JarResource[] { resource });
-            } else {
-                ClassLoadingResource existingResource = existing[0];
-                if (existingResource.equals(resource)) {
-                    // we don't need to do anything as the resource has already been tracked and an attempt
-                    // to add it again was made
-                } else {
-                    Set<ClassLoadingResource> dirOverrides = overrides.get(dir);
-                    if (dirOverrides == null) {
-                        // we need to create the override set as this is the first time we find a resource for the dir
-                        // that is not the same as the one in the array
-                        dirOverrides = new LinkedHashSet<>(2);
-                        dirOverrides.add(existingResource);
-                        dirOverrides.add(resource);
-                        overrides.put(dir, dirOverrides);
-
-                        //replace the value in the original array with a sentinel in order to allow for quick comparisons
-                        existing[0] = SENTINEL;
-                    } else {
-                        // in this case, overrides has already been created in a previous invocation so all we need to
-                        // do is add the new resource
-                        dirOverrides.add(resource);
-                    }
-                }
-            }
-        }
-
-        Map<String, ClassLoadingResource[]> getResult() {
-            overrides.forEach(this::addToResult);
-            return result;
-        }
-
-        private void addToResult(String dir, Set<? extends ClassLoadingResource> jarResources) {
-            result.put(dir, jarResources.toArray(EMPTY_ARRAY));
-        }
-    }
-
 }
@@ -0,0 +1,102 @@
+package io.quarkus.bootstrap.runner;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests the index written by {@link SerializedApplication} and the lookups of the {@link RunnerClassLoader} it creates
+ */
+public class SerializedApplicationTest {
+
+    private static final String SAMPLE_CLASS_RESOURCE = Sample.class.getName().replace('.', '/') + ".class";
+
+    @TempDir
+    Path appRoot;
+
+    @Test
+    public void testClassAndResourceLookups() throws Exception {
+        Path first = jar("first.jar", SAMPLE_CLASS_RESOURCE, "a/b/c/first.txt", "shared/first.txt", "root.txt");
+        Path second = jar("second.jar", "a/b/second.txt", "shared/second.txt");
+        RunnerClassLoader classLoader = read(first, second);
+        try {
+            Class<?> sample = classLoader.loadClass(Sample.class.getName());
+            Assertions.assertSame(classLoader, sample.getClassLoader());
+            Assertions.assertSame(sample, classLoader.loadClass(Sample.class.getName()));
+            Assertions.assertThrows(ClassNotFoundException.class,
+                    () -> classLoader.loadClass("io.quarkus.bootstrap.runner.Missing"));
+
+            Assertions.assertEquals("a/b/c/first.txt", content(classLoader.getResource("a/b/c/first.txt")));
+            Assertions.assertEquals("a/b/second.txt", content(classLoader.getResource("a/b/second.txt")));
+            Assertions.assertEquals("root.txt", content(classLoader.getResource("root.txt")));
+            Assertions.assertNull(classLoader.getResource("a/b/c/missing.txt"));
+            Assertions.assertNull(classLoader.getResource("unknown/missing.txt"));
+            // a directory in both jars
+            Assertions.assertEquals("shared/first.txt", content(classLoader.getResource("shared/first.txt")));
+            Assertions.assertEquals("shared/second.txt", content(classLoader.getResource("shared/second.txt")));
+        } finally {
+            classLoader.close();
+        }
+    }
+
+    @Test
+    public void testComparePackage() {
+        Assertions.assertEquals(0, ResourceDirectoryIndex.comparePackage("a/b", "a.b.C", 3));
+        Assertions.assertEquals(Integer.signum("a/b".compareTo("a/c")),
+                Integer.signum(ResourceDirectoryIndex.comparePackage("a/b", "a.c.C", 3)));
+        Assertions.assertEquals(Integer.signum("a/b/c".compareTo("a/b")),
+                Integer.signum(ResourceDirectoryIndex.comparePackage("a/b/c", "a.b.C", 3)));
+        Assertions.assertEquals(Integer.signum("a/b".compareTo("a/b/c")),
+                Integer.signum(ResourceDirectoryIndex.comparePackage("a/b", "a.b.c.D", 5)));
+        // a dot sorts before a slash, the package is still found among directories containing dots
+        Assertions.assertEquals(Integer.signum("a.b".compareTo("a/b")),
+                Integer.signum(ResourceDirectoryIndex.comparePackage("a.b", "a.b.C", 3)));
+    }
+
+    private RunnerClassLoader read(Path... jars) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        SerializedApplication.write(out, Sample.class.getName(), appRoot, List.of(jars), List.of(),
+                List.of());
+        return SerializedApplication.read(new ByteArrayInputStream(out.toByteArray()), appRoot).getRunnerClassLoader();
+    }
+
+    private Path jar(String name, String... entries) throws IOException {
+        Path jar = appRoot.resolve(name);
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar))) {
+            for (String entry : entries) {
+                out.putNextEntry(new JarEntry(entry));
+                if (entry.equals(SAMPLE_CLASS_RESOURCE)) {
+                    try (InputStream in = getClass().getClassLoader().getResourceAsStream(entry)) {
+                        in.transferTo(out);
+                    }
+                } else {
+                    out.write(entry.getBytes(StandardCharsets.UTF_8));
+                }
+                out.closeEntry();
+            }
+        }
+        return jar;
+    }
+
+    private static String content(URL url) throws IOException {
+        Assertions.assertNotNull(url);
+        try (InputStream in = url.openStream()) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    public static class Sample {
+    }
+}
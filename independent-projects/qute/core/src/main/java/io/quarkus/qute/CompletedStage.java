@@ -38,6 +38,14 @@ public final class CompletedStage<T> implements CompletionStage<T>, Supplier<T>
         this.exception = exception;
     }
 
+    /**
+     * 
+     * @return the exception if completed exceptionally, {@code null} otherwise
+     */
+    Throwable getFailure() {
+        return exception;
+    }
+
     public T get() {
         if (exception != null) {
             // Throw an exception if completed exceptionally
@@ -48,9 +48,7 @@ public final class Results {
         return CompletedStage.of(NotFound.EMPTY);
     }
 
-    static CompletableFuture<ResultNode> process(List<CompletionStage<ResultNode>> results) {
-        CompletableFuture<ResultNode> ret = new CompletableFuture<ResultNode>();
-
+    static CompletionStage<ResultNode> process(List<CompletionStage<ResultNode>> results) {
         // Collect async results first 
         @SuppressWarnings("unchecked")
         Supplier<ResultNode>[] allResults = new Supplier[results.size()];
@@ -71,9 +69,10 @@ public final class Results {
             }
         }
         if (asyncResults == null) {
-            // No async results present
-            ret.complete(new MultiResultNode(allResults));
+            // No async results present - no need to allocate a future
+            return CompletedStage.of(new MultiResultNode(allResults));
         } else {
+            CompletableFuture<ResultNode> ret = new CompletableFuture<ResultNode>();
             CompletionStage<?> cs;
             if (asyncResults.size() == 1) {
                 cs = asyncResults.get(0);
@@ -88,8 +87,8 @@ public final class Results {
                     ret.complete(new MultiResultNode(allResults));
                 }
             });
+            return ret;
         }
-        return ret;
     }
 
     /**
@@ -5,6 +5,7 @@ import io.smallrye.mutiny.Uni;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
@@ -13,10 +14,17 @@ import java.util.function.Consumer;
 
 class TemplateImpl implements Template {
 
+    static final int DEFAULT_BUFFER_SIZE = 1024;
+    static final int MAX_BUFFER_SIZE_HINT = 64 * 1024;
+
     private final String generatedId;
     private final EngineImpl engine;
     private final Optional<Variant> variant;
     final SectionNode root;
+    // Used to size the buffer of the next rendering: it grows with the rendered output, but shrinks gradually and is
+    // capped so that an occasional large output does not make all the subsequent renderings allocate large buffers.
+    // Concurrent renderings may overwrite each other's update, which only affects the initial capacity.
+    private volatile int renderedLengthHint = DEFAULT_BUFFER_SIZE;
 
     TemplateImpl(EngineImpl engine, SectionNode root, String generatedId, Optional<Variant> variant) {
         this.engine = engine;
@@ -49,10 +57,27 @@ class TemplateImpl implements Template {
 
         @Override
         public String render() {
+            CompletionStage<String> rendered = renderAsync();
+            if (rendered instanceof CompletedStage) {
+                // All the values were resolved synchronously - no need to wait
+                CompletedStage<String> completed = (CompletedStage<String>) rendered;
+                Throwable failure = completed.getFailure();
+                if (failure == null) {
+                    return completed.get();
+                }
+                if (failure instanceof CompletionException && failure.getCause() != null) {
+                    failure = failure.getCause();
+                }
+                if (failure instanceof RuntimeException) {
+                    throw (RuntimeException) failure;
+                } else {
+                    throw new IllegalStateException(failure);
+                }
+            }
             try {
                 Object timeoutAttr = getAttribute(TIMEOUT);
                 long timeout = timeoutAttr != null ? Long.parseLong(timeoutAttr.toString()) : 10000;
-                return renderAsync().toCompletableFuture().get(timeout, TimeUnit.MILLISECONDS);
+                return rendered.toCompletableFuture().get(timeout, TimeUnit.MILLISECONDS);
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
                 throw new IllegalStateException(e);
@@ -86,8 +111,22 @@ class TemplateImpl implements Template {
 
         @Override
         public CompletionStage<String> renderAsync() {
-            StringBuilder builder = new StringBuilder(1028);
-            return renderData(data(), builder::append).thenApply(v -> builder.toString());
+            // Large outputs would otherwise copy the buffer many times while it grows
+            StringBuilder builder = new StringBuilder(renderedLengthHint);
+            return renderData(data(), builder::append).thenApply(v -> {
+                updateRenderedLengthHint(builder.length());
+                return builder.toString();
+            });
+        }
+
+        private void updateRenderedLengthHint(int length) {
+            int hint = renderedLengthHint;
+            // Shrink by an eighth of the difference at most
+            int next = length >= hint ? length : hint - ((hint - length) >> 3);
+            next = Math.max(DEFAULT_BUFFER_SIZE, Math.min(MAX_BUFFER_SIZE_HINT, next));
+            if (next != hint) {
+                renderedLengthHint = next;
+            }
         }
 
         @Override
@@ -96,12 +135,26 @@ class TemplateImpl implements Template {
         }
 
         private CompletionStage<Void> renderData(Object data, Consumer<String> consumer) {
-            CompletableFuture<Void> result = new CompletableFuture<>();
             ResolutionContext rootContext = new ResolutionContextImpl(data,
                     engine.getEvaluator(), null, this);
             setAttribute(DataNamespaceResolver.ROOT_CONTEXT, rootContext);
+            CompletionStage<ResultNode> resolved = root.resolve(rootContext);
+            if (resolved instanceof CompletedStage) {
+                // Sync resolution - build the output right away
+                CompletedStage<ResultNode> completed = (CompletedStage<ResultNode>) resolved;
+                if (completed.getFailure() != null) {
+                    return CompletedStage.failure(completed.getFailure());
+                }
+                try {
+                    completed.get().process(consumer);
+                    return CompletedStage.VOID;
+                } catch (Throwable e) {
+                    return CompletedStage.failure(e);
+                }
+            }
+            CompletableFuture<Void> result = new CompletableFuture<>();
             // Async resolution
-            root.resolve(rootContext).whenComplete((r, t) -> {
+            resolved.whenComplete((r, t) -> {
                 if (t != null) {
                     result.completeExceptionally(t);
                 } else {
@@ -97,7 +97,8 @@ public interface TemplateInstance {
     Uni<String> createUni();
 
     /**
-     * Triggers rendering.
+     * Triggers rendering. If the consumer is a {@link Utf8Consumer} the static text of the template is passed as UTF-8
+     * encoded bytes.
      * 
      * @param consumer To consume chunks of the rendered template
      * @return a completion stage that is completed once the rendering finished
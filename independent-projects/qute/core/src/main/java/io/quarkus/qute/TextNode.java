@@ -1,5 +1,6 @@
 package io.quarkus.qute;
 
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 
@@ -11,6 +12,8 @@ public class TextNode implements TemplateNode, ResultNode {
     private final CompletedStage<ResultNode> result;
     private final String value;
     private final Origin origin;
+    // Encoded on first use by a Utf8Consumer
+    private volatile byte[] utf8Value;
 
     public TextNode(String value, Origin origin) {
         this.result = CompletedStage.of(this);
@@ -36,9 +39,27 @@ public class TextNode implements TemplateNode, ResultNode {
         return value;
     }
 
+    /**
+     * 
+     * @return the UTF-8 encoded value, must not be modified
+     */
+    public byte[] getUtf8Value() {
+        byte[] bytes = utf8Value;
+        if (bytes == null) {
+            // Concurrent calls may encode the value more than once, which is harmless
+            bytes = value.getBytes(StandardCharsets.UTF_8);
+            utf8Value = bytes;
+        }
+        return bytes;
+    }
+
     @Override
     public void process(Consumer<String> consumer) {
-        consumer.accept(value);
+        if (consumer instanceof Utf8Consumer) {
+            ((Utf8Consumer) consumer).acceptUtf8(getUtf8Value());
+        } else {
+            consumer.accept(value);
+        }
     }
 
     @Override
@@ -0,0 +1,19 @@
+package io.quarkus.qute;
+
+import java.util.function.Consumer;
+
+/**
+ * A consumer of the rendered template that writes UTF-8 encoded bytes. The static text of a template is not passed as a
+ * string but as bytes that are only encoded once per template.
+ *
+ * @see TemplateInstance#consume(Consumer)
+ */
+public interface Utf8Consumer extends Consumer<String> {
+
+    /**
+     * 
+     * @param bytes The UTF-8 encoded static text, must not be modified
+     */
+    void acceptUtf8(byte[] bytes);
+
+}
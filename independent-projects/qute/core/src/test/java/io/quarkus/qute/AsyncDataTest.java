@@ -1,6 +1,7 @@
 package io.quarkus.qute;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Arrays;
 import java.util.List;
@@ -21,6 +22,15 @@ public class AsyncDataTest {
         assertEquals("alpha", engine.parse("{token}").data("token", CompletedStage.of("alpha")).render());
     }
 
+    @Test
+    public void testSyncDataRenderedWithoutFuture() {
+        Engine engine = Engine.builder().addDefaults().build();
+        CompletionStage<String> result = engine.parse("{#for token in tokens}{token}:{/for}")
+                .data("tokens", Arrays.asList("alpha", "bravo")).renderAsync();
+        assertTrue(result instanceof CompletedStage);
+        assertEquals("alpha:bravo:", ((CompletedStage<String>) result).get());
+    }
+
     static class Client {
 
         public CompletionStage<List<String>> getTokens() {
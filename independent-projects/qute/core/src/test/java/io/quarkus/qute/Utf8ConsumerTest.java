@@ -0,0 +1,54 @@
+package io.quarkus.qute;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class Utf8ConsumerTest {
+
+    @Test
+    public void testStaticTextIsEncodedOnce() {
+        Engine engine = Engine.builder().addDefaults().build();
+        Template template = engine.parse("Dobrý den {name}!\n{#for i in total}{i}:č{/for}");
+        List<byte[]> first = new ArrayList<>();
+        assertEquals("Dobrý den Ondřej!\n1:č2:č3:č", consume(template.data("name", "Ondřej").data("total", 3), first));
+        List<byte[]> second = new ArrayList<>();
+        assertEquals("Dobrý den Martin!\n1:č", consume(template.data("name", "Martin").data("total", 1), second));
+        // The same arrays are reused for the static text
+        assertSame(first.get(0), second.get(0));
+        assertSame(first.get(1), second.get(1));
+        assertEquals(first.size() - 2, second.size());
+    }
+
+    @Test
+    public void testPlainConsumer() {
+        Engine engine = Engine.builder().addDefaults().build();
+        StringBuilder builder = new StringBuilder();
+        engine.parse("Hello {name}!").data("name", "world").consume(builder::append).toCompletableFuture().join();
+        assertEquals("Hello world!", builder.toString());
+    }
+
+    private String consume(TemplateInstance instance, List<byte[]> staticText) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        instance.consume(new Utf8Consumer() {
+
+            @Override
+            public void accept(String value) {
+                out.writeBytes(value.getBytes(StandardCharsets.UTF_8));
+            }
+
+            @Override
+            public void acceptUtf8(byte[] bytes) {
+                staticText.add(bytes);
+                out.writeBytes(bytes);
+            }
+        }).toCompletableFuture().join();
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+}
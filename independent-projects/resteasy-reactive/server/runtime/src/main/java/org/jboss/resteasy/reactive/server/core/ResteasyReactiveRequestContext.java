@@ -175,7 +175,8 @@ public abstract class ResteasyReactiveRequestContext
     public void restart(RuntimeResource target, boolean setLocatorTarget) {
         this.handlers = target.getHandlerChain();
         position = 0;
-        parameters = new Object[target.getParameterTypes().length];
+        int parameterCount = target.getParameterTypes().length;
+        parameters = parameterCount == 0 ? EMPTY_ARRAY : new Object[parameterCount];
         if (setLocatorTarget) {
             previousResource = new PreviousResource(this.target, pathParamValues, previousResource);
         }
@@ -540,10 +541,9 @@ public abstract class ResteasyReactiveRequestContext
             if ((additionalAnnotations == null) || (additionalAnnotations.length == 0)) {
                 allAnnotations = methodAnnotations;
             } else {
-                List<Annotation> list = new ArrayList<>(methodAnnotations.length + additionalAnnotations.length);
-                list.addAll(Arrays.asList(methodAnnotations));
-                list.addAll(Arrays.asList(additionalAnnotations));
-                allAnnotations = list.toArray(new Annotation[0]);
+                allAnnotations = Arrays.copyOf(methodAnnotations, methodAnnotations.length + additionalAnnotations.length);
+                System.arraycopy(additionalAnnotations, 0, allAnnotations, methodAnnotations.length,
+                        additionalAnnotations.length);
             }
         }
         return allAnnotations;
@@ -646,7 +646,7 @@ public abstract class ResteasyReactiveRequestContext
 
     @Override
     protected void restarted(boolean keepTarget) {
-        parameters = new Object[0];
+        parameters = EMPTY_ARRAY;
         if (!keepTarget) {
             target = null;
         }
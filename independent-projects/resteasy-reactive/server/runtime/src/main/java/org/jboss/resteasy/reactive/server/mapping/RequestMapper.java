@@ -11,6 +11,8 @@ import org.jboss.resteasy.reactive.common.util.URIDecoder;
 
 public class RequestMapper<T> {
 
+    private static final String[] EMPTY_STRING_ARRAY = new String[0];
+
     private final PathMatcher<List<RequestPath<T>>> requestPaths;
     private final PathMatcher.Builder<List<RequestPath<T>>> pathMatcherBuilder;
     private final List<RequestPath<T>> templates;
@@ -57,9 +59,10 @@ public class RequestMapper<T> {
         }
 
         List<RequestPath<T>> value = initialMatch.getValue();
+        // the same array is reused for every candidate, so that failed candidates don't cost an allocation
+        String[] params = maxParams == 0 ? EMPTY_STRING_ARRAY : new String[maxParams];
         for (int index = 0; index < value.size(); index++) {
             RequestPath<T> potentialMatch = value.get(index);
-            String[] params = new String[maxParams];
             int paramCount = 0;
             boolean matched = true;
             boolean prefixAllowed = potentialMatch.prefixTemplate;
@@ -78,16 +81,13 @@ public class RequestMapper<T> {
                     }
                 } else if (segment.type == URITemplate.Type.LITERAL) {
                     //make sure the literal text is the same
-                    if (matchPos + segment.literalText.length() > pathLength) {
+                    int literalLength = segment.literalText.length();
+                    if (matchPos + literalLength > pathLength
+                            || !path.regionMatches(matchPos, segment.literalText, 0, literalLength)) {
                         matched = false;
-                        break; //too long
-                    }
-                    for (int pos = 0; pos < segment.literalText.length(); ++pos) {
-                        if (path.charAt(matchPos++) != segment.literalText.charAt(pos)) {
-                            matched = false;
-                            break;
-                        }
+                        break;
                     }
+                    matchPos += literalLength;
                 } else if (segment.type == URITemplate.Type.DEFAULT_REGEX) {
                     if (matchPos == pathLength) {
                         matched = false;
@@ -100,15 +100,19 @@ public class RequestMapper<T> {
                     params[paramCount++] = URIDecoder.decodeURIComponent(path.substring(start, matchPos), false);
                 }
             }
+            if (!matched) {
+                continue;
+            }
             if (paramCount < params.length) {
-                params[paramCount] = null;
+                // clear out anything left behind by a previous candidate
+                Arrays.fill(params, paramCount, params.length, null);
             }
             boolean fullMatch = matchPos == pathLength;
             if (!prefixAllowed && !fullMatch) {
                 //according to the spec every template ends with (/.*)?
                 prefixAllowed = path.charAt(matchPos) == '/' && matchPos == pathLength - 1;
             }
-            if (matched && (fullMatch || prefixAllowed)) {
+            if (fullMatch || prefixAllowed) {
                 String remaining;
                 if (fullMatch) {
                     remaining = "";
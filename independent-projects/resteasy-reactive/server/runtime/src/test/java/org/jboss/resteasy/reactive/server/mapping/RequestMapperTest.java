@@ -0,0 +1,44 @@
+package org.jboss.resteasy.reactive.server.mapping;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+public class RequestMapperTest {
+
+    @Test
+    public void testFailedCandidateParamsDoNotLeak() {
+        // both templates share the "/items/" stem, the one with more literal characters is tried first
+        RequestMapper<String> mapper = new RequestMapper<>(Arrays.asList(
+                path("/items/{first}/{second}/details", "details"),
+                path("/items/{rest:.*}", "rest")));
+
+        // "details" captures both parameters before failing on its trailing literal
+        RequestMapper.RequestMatch<String> match = mapper.map("/items/1/2");
+        assertEquals("rest", match.value);
+        assertEquals("1/2", match.pathParamValues[0]);
+        assertNull(match.pathParamValues[1]);
+
+        match = mapper.map("/items/1/2/details");
+        assertEquals("details", match.value);
+        assertArrayEquals(new String[] { "1", "2" }, match.pathParamValues);
+    }
+
+    @Test
+    public void testLiteralMismatch() {
+        RequestMapper<String> mapper = new RequestMapper<>(Arrays.asList(
+                path("/items/{id}/details", "details"),
+                path("/items/{id}/summary", "summary")));
+
+        assertEquals("summary", mapper.map("/items/1/summary").value);
+        assertEquals("details", mapper.map("/items/1/details").value);
+        assertNull(mapper.map("/items/1/other"));
+    }
+
+    private static RequestMapper.RequestPath<String> path(String template, String value) {
+        return new RequestMapper.RequestPath<>(false, new URITemplate(template, false), value);
+    }
+}
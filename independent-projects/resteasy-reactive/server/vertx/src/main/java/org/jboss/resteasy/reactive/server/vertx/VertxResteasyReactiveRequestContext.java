@@ -43,7 +43,8 @@ public class VertxResteasyReactiveRequestContext extends ResteasyReactiveRequest
     protected final RoutingContext context;
     protected final HttpServerRequest request;
     protected final HttpServerResponse response;
-    private final Executor contextExecutor;
+    // only needed when switching back from a worker thread, so it is created lazily
+    private Executor contextExecutor;
     private final ClassLoader devModeTccl;
     protected Consumer<ResteasyReactiveRequestContext> preCommitTask;
     ContinueState continueState = ContinueState.NONE;
@@ -59,21 +60,9 @@ public class VertxResteasyReactiveRequestContext extends ResteasyReactiveRequest
         this.devModeTccl = devModeTccl;
         context.addHeadersEndHandler(this);
         String expect = request.getHeader(HttpHeaderNames.EXPECT);
-        ContextInternal internal = ((ConnectionBase) context.request().connection()).getContext();
         if (expect != null && expect.equalsIgnoreCase(CONTINUE)) {
             continueState = ContinueState.REQUIRED;
         }
-        this.contextExecutor = new Executor() {
-            @Override
-            public void execute(Runnable command) {
-                internal.runOnContext(new Handler<Void>() {
-                    @Override
-                    public void handle(Void unused) {
-                        command.run();
-                    }
-                });
-            }
-        };
         request.pause();
     }
 
@@ -108,6 +97,20 @@ public class VertxResteasyReactiveRequestContext extends ResteasyReactiveRequest
     }
 
     public Executor getContextExecutor() {
+        if (contextExecutor == null) {
+            ContextInternal internal = ((ConnectionBase) request.connection()).getContext();
+            contextExecutor = new Executor() {
+                @Override
+                public void execute(Runnable command) {
+                    internal.runOnContext(new Handler<Void>() {
+                        @Override
+                        public void handle(Void unused) {
+                            command.run();
+                        }
+                    });
+                }
+            };
+        }
         return contextExecutor;
     }
 
@@ -0,0 +1,34 @@
+package io.quarkus.it.cache.redis;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+public class Greeting implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String text;
+
+    public Greeting(String text) {
+        this.text = text;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(text);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof Greeting && Objects.equals(text, ((Greeting) obj).text);
+    }
+
+    @Override
+    public String toString() {
+        return "Greeting[" + text + "]";
+    }
+}
@@ -0,0 +1,24 @@
+package io.quarkus.it.cache.redis;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.enterprise.context.ApplicationScoped;
+
+import io.quarkus.cache.CacheResult;
+
+@ApplicationScoped
+public class GreetingService {
+
+    public static final String CACHE_NAME = "redis-cache";
+
+    private final AtomicInteger invocations = new AtomicInteger();
+
+    @CacheResult(cacheName = CACHE_NAME)
+    public Greeting greet(String name) {
+        return new Greeting("Hello " + name + " #" + invocations.incrementAndGet());
+    }
+
+    public int getInvocations() {
+        return invocations.get();
+    }
+}
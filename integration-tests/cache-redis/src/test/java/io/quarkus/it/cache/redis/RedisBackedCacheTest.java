@@ -0,0 +1,148 @@
+package io.quarkus.it.cache.redis;
+
+import static io.quarkus.it.cache.redis.GreetingService.CACHE_NAME;
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.inject.Inject;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.runtime.caffeine.CaffeineCacheInfo;
+import io.quarkus.cache.runtime.redis.JavaSerializationCacheValueCodec;
+import io.quarkus.cache.runtime.redis.RedisBackedCaffeineCache;
+import io.quarkus.redis.client.RedisClient;
+import io.quarkus.test.junit.QuarkusTest;
+import io.vertx.redis.client.Response;
+
+/**
+ * Runs against the Redis dev service. The other application instance sharing the Redis server is simulated with a
+ * second cache instance of the same name.
+ */
+@QuarkusTest
+public class RedisBackedCacheTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    @Inject
+    GreetingService service;
+
+    @Inject
+    @CacheName(CACHE_NAME)
+    Cache cache;
+
+    @Inject
+    RedisClient redisClient;
+
+    private RedisBackedCaffeineCache otherInstance;
+
+    @BeforeEach
+    public void setUp() {
+        cache.invalidateAll();
+        CaffeineCacheInfo cacheInfo = new CaffeineCacheInfo();
+        cacheInfo.name = CACHE_NAME;
+        cacheInfo.redisEnabled = true;
+        cacheInfo.redisAllowedClasses = List.of(Greeting.class.getName());
+        otherInstance = new RedisBackedCaffeineCache(cacheInfo);
+        otherInstance.init();
+        await().atMost(TIMEOUT).until(otherInstance::isInvalidationSubscribed);
+        assertTrue(((RedisBackedCaffeineCache) cache).isInvalidationSubscribed());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        otherInstance.close();
+    }
+
+    @Test
+    public void testGetIsSharedThroughRedis() throws Exception {
+        int invocations = service.getInvocations();
+        Greeting greeting = service.greet("alice");
+        assertEquals(greeting, service.greet("alice"));
+        assertEquals(invocations + 1, service.getInvocations());
+        awaitStoredInRedis();
+
+        // The other instance misses its near cache and reads the value from Redis
+        assertEquals(greeting, otherInstance.get("alice", k -> fail("The value should be read from Redis")).get());
+    }
+
+    @Test
+    public void testInvalidate() throws Exception {
+        Greeting greeting = service.greet("bob");
+        awaitStoredInRedis();
+
+        cache.invalidate("bob");
+        await().atMost(TIMEOUT).until(() -> redisKeys().isEmpty());
+        assertNotEquals(greeting, service.greet("bob"));
+    }
+
+    @Test
+    public void testInvalidationIsBroadcastToTheOtherInstances() throws Exception {
+        Greeting greeting = service.greet("carol");
+        awaitStoredInRedis();
+        // Loads the value in the near cache of the other instance
+        assertEquals(greeting, otherInstance.get("carol", k -> fail("The value should be read from Redis")).get());
+
+        cache.invalidate("carol");
+        Greeting recomputed = new Greeting("recomputed");
+        await().atMost(TIMEOUT).untilAsserted(
+                () -> assertEquals(recomputed, otherInstance.get("carol", k -> recomputed).get()));
+    }
+
+    @Test
+    public void testRefreshIsNotReadFromRedis() throws Exception {
+        CaffeineCacheInfo cacheInfo = new CaffeineCacheInfo();
+        cacheInfo.name = CACHE_NAME;
+        cacheInfo.redisEnabled = true;
+        cacheInfo.redisAllowedClasses = List.of(Greeting.class.getName());
+        cacheInfo.refreshAfterWrite = Duration.ofMillis(100);
+        RedisBackedCaffeineCache refreshingInstance = new RedisBackedCaffeineCache(cacheInfo);
+        refreshingInstance.init();
+        try {
+            Greeting stale = new Greeting("stale");
+            Greeting refreshed = new Greeting("refreshed");
+            assertEquals(stale, refreshingInstance.get("dave", k -> stale).get());
+            awaitStoredInRedis();
+
+            Thread.sleep(200L);
+
+            // Redis still holds the stale value while the entry is refreshed, the value must be recomputed
+            assertEquals(stale, refreshingInstance.get("dave", k -> refreshed).get());
+            await().atMost(TIMEOUT).until(() -> refreshingInstance.getRefreshCount() == 1);
+            assertEquals(0, refreshingInstance.getRefreshFailureCount());
+            assertEquals(refreshed, refreshingInstance.get("dave", k -> fail("The value should be in the near cache")).get());
+
+            // The refreshed value is written through to Redis
+            JavaSerializationCacheValueCodec codec = new JavaSerializationCacheValueCodec(cacheInfo.redisAllowedClasses);
+            String redisKey = "quarkus-cache:" + CACHE_NAME + ":" + codec.encodeKey("dave");
+            await().atMost(TIMEOUT).untilAsserted(
+                    () -> assertEquals(refreshed, codec.decodeValue(redisClient.get(redisKey).toString())));
+        } finally {
+            refreshingInstance.close();
+        }
+    }
+
+    private void awaitStoredInRedis() {
+        // The values are stored in Redis asynchronously
+        await().atMost(TIMEOUT).until(() -> !redisKeys().isEmpty());
+    }
+
+    private List<String> redisKeys() {
+        List<String> keys = new ArrayList<>();
+        for (Response key : redisClient.keys("quarkus-cache:" + CACHE_NAME + ":*")) {
+            keys.add(key.toString());
+        }
+        return keys;
+    }
+}